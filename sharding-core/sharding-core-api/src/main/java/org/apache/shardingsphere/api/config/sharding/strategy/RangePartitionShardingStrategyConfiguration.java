@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding.strategy;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Range partition sharding strategy configuration.
+ * 
+ * <p>
+ * Each target owns values from its lower bound (inclusive) to the next greater lower bound (exclusive),
+ * the target with the greatest lower bound owns all values above it.
+ * </p>
+ *
+ * @author agent
+ */
+@Getter
+public final class RangePartitionShardingStrategyConfiguration implements ShardingStrategyConfiguration {
+    
+    private final String shardingColumn;
+    
+    private final Map<String, Comparable<?>> partitionLowerBounds;
+    
+    public RangePartitionShardingStrategyConfiguration(final String shardingColumn, final Map<String, Comparable<?>> partitionLowerBounds) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingColumn), "ShardingColumn is required.");
+        Preconditions.checkArgument(null != partitionLowerBounds && !partitionLowerBounds.isEmpty(), "PartitionLowerBounds is required.");
+        this.shardingColumn = shardingColumn;
+        this.partitionLowerBounds = partitionLowerBounds;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.config;
+
+import lombok.Getter;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingRuleConfiguration;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.core.yaml.swapper.impl.ShardingRuleConfigurationYamlSwapper;
+import org.apache.shardingsphere.core.yaml.swapper.impl.TableRuleConfigurationYamlSwapper;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Changes between original and renewed sharding rule configurations.
+ * 
+ * <p>
+ * Configurations are compared by their YAML representations, sharding algorithms are compared by class names.
+ * Changing any configuration other than table rules, such as binding tables, broadcast tables, default strategies and master-slave rules, is regarded as global change.
+ * </p>
+ *
+ * @author agent
+ */
+@Getter
+public final class ShardingRuleConfigurationChange {
+    
+    private final Collection<String> changedLogicTables = new LinkedHashSet<>();
+    
+    private final boolean globalChanged;
+    
+    public ShardingRuleConfigurationChange(final ShardingRuleConfiguration originalConfig, final ShardingRuleConfiguration renewedConfig) {
+        Map<String, String> originalTableRules = marshalTableRules(originalConfig);
+        Map<String, String> renewedTableRules = marshalTableRules(renewedConfig);
+        for (Entry<String, String> entry : originalTableRules.entrySet()) {
+            if (!entry.getValue().equals(renewedTableRules.get(entry.getKey()))) {
+                changedLogicTables.add(entry.getKey());
+            }
+        }
+        for (String each : renewedTableRules.keySet()) {
+            if (!originalTableRules.containsKey(each)) {
+                changedLogicTables.add(each);
+            }
+        }
+        globalChanged = !marshalGlobalRule(originalConfig).equals(marshalGlobalRule(renewedConfig));
+    }
+    
+    private Map<String, String> marshalTableRules(final ShardingRuleConfiguration shardingRuleConfig) {
+        Map<String, String> result = new HashMap<>(shardingRuleConfig.getTableRuleConfigs().size(), 1);
+        TableRuleConfigurationYamlSwapper swapper = new TableRuleConfigurationYamlSwapper();
+        for (TableRuleConfiguration each : shardingRuleConfig.getTableRuleConfigs()) {
+            result.put(each.getLogicTable().toLowerCase(), YamlEngine.marshal(swapper.swap(each)));
+        }
+        return result;
+    }
+    
+    private String marshalGlobalRule(final ShardingRuleConfiguration shardingRuleConfig) {
+        YamlShardingRuleConfiguration result = new ShardingRuleConfigurationYamlSwapper().swap(shardingRuleConfig);
+        result.getTables().clear();
+        return YamlEngine.marshal(result);
+    }
+    
+    /**
+     * Judge whether sharding rule configuration is changed or not.
+     * 
+     * @return sharding rule configuration is changed or not
+     */
+    public boolean isChanged() {
+        return globalChanged || !changedLogicTables.isEmpty();
+    }
+}
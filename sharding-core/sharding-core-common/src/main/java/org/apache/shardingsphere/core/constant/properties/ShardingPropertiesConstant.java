@@ -75,6 +75,41 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Mode of executor which executes SQL Statement and PrepareStatement.
+     *
+     * <p>
+     * PLATFORM_THREAD:
+     * Execute on a platform thread pool sized by {@code executor.size}.
+     * </p>
+     *
+     * <p>
+     * VIRTUAL_THREAD:
+     * Execute each group on a new virtual thread, {@code executor.size} is ignored. Requires JDK 21 or above.
+     * </p>
+     */
+    EXECUTOR_MODE("executor.mode", "PLATFORM_THREAD", String.class),
+    
+    /**
+     * Max execute groups running concurrently on each data source.
+     * 
+     * <p>
+     * It is shared by all queries executed by one executor, execute groups exceeding it wait for running ones of same data source.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("executor.max.concurrency.per.data.source", String.valueOf(0), int.class),
+    
+    /**
+     * Whether merging query results in completion order of execute groups.
+     * 
+     * <p>
+     * Query results of slow data sources do not hold up others, but rows of queries without order by can be returned in different order between executions.
+     * Default: false.
+     * </p>
+     */
+    EXECUTOR_QUERY_RESULTS_IN_COMPLETION_ORDER("executor.query.results.in.completion.order", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -85,6 +120,18 @@ public enum ShardingPropertiesConstant {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
     
+    /**
+     * Max thread size for channels which need commands executed in order or on same thread, such as XA and BASE transaction.
+     * 
+     * <p>
+     * Channel holds thread only during XA or BASE transaction, channels exceed this size wait for released thread.
+     * Threads held by open XA or BASE transactions count towards this size, so it should be greater than max concurrent XA or BASE transactions,
+     * otherwise commands of other channels wait until one of the transactions ends.
+     * Changed size is applied to the thread pool when next command is dispatched.
+     * </p>
+     */
+    PROXY_FRONTEND_CHANNEL_THREAD_SIZE("proxy.frontend.channel.thread.size", String.valueOf(Runtime.getRuntime().availableProcessors() * 64), int.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -114,7 +161,81 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable to load table meta data lazily.
+     *
+     * <p>
+     * Table meta data will be loaded when table is accessed first time instead of loading all tables at startup.
+     * Table meta data changed by DDL will be reloaded in background, queries use previous meta data until the table is reloaded.
+     * Default: false
+     * </p>
+     */
+    LAZY_LOADING_TABLE_METADATA_ENABLED("lazy.loading.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Interval seconds to refresh lazily loaded table meta data in background.
+     *
+     * <p>
+     * Only works when lazy loading table meta data is enabled, 0 means table meta data is only refreshed by DDL.
+     * Default: 0
+     * </p>
+     */
+    LAZY_LOADING_TABLE_METADATA_REFRESH_INTERVAL_SECONDS("lazy.loading.table.metadata.refresh.interval.seconds", String.valueOf(0), long.class),
+    
+    /**
+     * Maximum entry size of parsing result cache.
+     *
+     * <p>
+     * Least recently used parsing results will be evicted when cache size exceeded.
+     * Default: 65535
+     * </p>
+     */
+    PARSING_RESULT_CACHE_SIZE("parsing.result.cache.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Enable or Disable to parameterize literals of simple query.
+     *
+     * <p>
+     * Literals of simple query will be replaced with placeholders before parsing,
+     * so statements with same shape but different literals can share one cached parsing result.
+     * Default: false
+     * </p>
+     */
+    SIMPLE_QUERY_PARAMETERIZE_ENABLED("simple.query.parameterize.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max groups held in memory for each group by merging.
+     *
+     * <p>
+     * Groups exceed this size will be spilled to local temporary files, and merged partition by partition.
+     * Default: 0, which means unlimited.
+     * </p>
+     */
+    MAX_GROUP_BY_MEMORY_SIZE("max.group.by.memory.size", String.valueOf(0), int.class),
+    
+    /**
+     * Max backend prepared statements cached for each connection.
+     *
+     * <p>
+     * Backend prepared statements will be reused by later executions with same actual SQL on same backend connection,
+     * least recently used ones will be closed when cache size exceeded.
+     * Default: 0, which means backend prepared statements are not cached.
+     * </p>
+     */
+    PREPARED_STATEMENT_CACHE_SIZE("prepared.statement.cache.size", String.valueOf(0), int.class),
+    
+    /**
+     * File of SQLs for warming up SQL parsers.
+     *
+     * <p>
+     * SQLs in file will be parsed at startup to pre-fill prediction cache of SQL parsers,
+     * cached SQLs will be saved back to file at shutdown for next startup.
+     * Default: empty, which means SQL parsers are not warmed up.
+     * </p>
+     */
+    PARSING_WARM_UP_FILE("parsing.warm.up.file", "", String.class);
     
     private final String key;
     
@@ -17,33 +17,151 @@
 
 package org.apache.shardingsphere.core.metadata.table;
 
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.metadata.table.hook.SPITableMetaDataLoadingHook;
+import org.apache.shardingsphere.core.metadata.table.hook.TableMetaDataLoadingHook;
 
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Sharding table meta data.
+ * 
+ * <p>
+ * Table meta data can be loaded eagerly, or lazily by {@code TableMetaDataProvider} when table is accessed first time.
+ * For lazy loading, absent tables are cached up to {@code MAX_ABSENT_TABLE_SIZE}, least recently used absent tables are evicted and loaded again when accessed.
+ * Loaded tables can be refreshed in place, queries use previous meta data until the table is reloaded.
+ * </p>
  *
  * @author panjuan
  * @author zhaojun
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class ShardingTableMetaData {
     
+    private static final int MAX_ABSENT_TABLE_SIZE = 1024;
+    
     @Getter
     private final Map<String, TableMetaData> tables;
     
+    private final TableMetaDataProvider tableMetaDataProvider;
+    
+    private final Collection<String> absentTables = Collections.newSetFromMap(CacheBuilder.newBuilder().maximumSize(MAX_ABSENT_TABLE_SIZE).<String, Boolean>build().asMap());
+    
+    private final ConcurrentMap<String, FutureTask<TableMetaData>> loadingTasks = new ConcurrentHashMap<>();
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    private final AtomicLong loadCount = new AtomicLong();
+    
+    private final AtomicLong loadNanos = new AtomicLong();
+    
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+    
+    private final TableMetaDataLoadingHook loadingHook = new SPITableMetaDataLoadingHook();
+    
+    public ShardingTableMetaData(final Map<String, TableMetaData> tables) {
+        this.tables = tables;
+        tableMetaDataProvider = null;
+    }
+    
+    public ShardingTableMetaData(final TableMetaDataProvider tableMetaDataProvider) {
+        tables = new ConcurrentHashMap<>();
+        this.tableMetaDataProvider = tableMetaDataProvider;
+    }
+    
     /**
      * Get table meta data by table name.
      * @param logicTableName logicTableName logic table name
      * @return table mata data
      */
     public TableMetaData get(final String logicTableName) {
-        return tables.get(logicTableName);
+        TableMetaData result = tables.get(logicTableName);
+        if (null != result || !isLazyLoading() || null == logicTableName || absentTables.contains(logicTableName)) {
+            return result;
+        }
+        return load(logicTableName);
+    }
+    
+    private TableMetaData load(final String logicTableName) {
+        FutureTask<TableMetaData> loadingTask = new FutureTask<>(new Callable<TableMetaData>() {
+            
+            @Override
+            public TableMetaData call() throws SQLException {
+                TableMetaData result = tables.get(logicTableName);
+                return null != result || absentTables.contains(logicTableName) ? result : loadAndCache(logicTableName);
+            }
+        });
+        FutureTask<TableMetaData> existedLoadingTask = loadingTasks.putIfAbsent(logicTableName, loadingTask);
+        if (null != existedLoadingTask) {
+            return getLoadedResult(existedLoadingTask);
+        }
+        try {
+            loadingTask.run();
+        } finally {
+            loadingTasks.remove(logicTableName, loadingTask);
+        }
+        return getLoadedResult(loadingTask);
+    }
+    
+    private TableMetaData loadAndCache(final String logicTableName) throws SQLException {
+        long loadingVersion = version.get();
+        long startTime = System.nanoTime();
+        Optional<TableMetaData> result;
+        try {
+            result = tableMetaDataProvider.load(logicTableName);
+        } catch (final SQLException | RuntimeException ex) {
+            loadingHook.finishFailure(logicTableName, System.nanoTime() - startTime, ex);
+            throw ex;
+        }
+        recordLoaded(logicTableName, result.isPresent(), System.nanoTime() - startTime);
+        synchronized (this) {
+            if (loadingVersion == version.get()) {
+                if (result.isPresent()) {
+                    tables.put(logicTableName, result.get());
+                    absentTables.remove(logicTableName);
+                } else {
+                    tables.remove(logicTableName);
+                    absentTables.add(logicTableName);
+                }
+            }
+        }
+        return result.orNull();
+    }
+    
+    private void recordLoaded(final String logicTableName, final boolean isExisted, final long elapsedNanos) {
+        loadNanos.addAndGet(elapsedNanos);
+        loadCount.incrementAndGet();
+        long currentMaxLoadNanos = maxLoadNanos.get();
+        while (elapsedNanos > currentMaxLoadNanos && !maxLoadNanos.compareAndSet(currentMaxLoadNanos, elapsedNanos)) {
+            currentMaxLoadNanos = maxLoadNanos.get();
+        }
+        loadingHook.finishSuccess(logicTableName, isExisted, elapsedNanos);
+    }
+    
+    private TableMetaData getLoadedResult(final FutureTask<TableMetaData> loadingTask) {
+        try {
+            return loadingTask.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new ShardingException(ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex);
+        }
     }
     
     /**
@@ -52,17 +170,129 @@ public final class ShardingTableMetaData {
      * @param logicTableName logic table name
      * @param tableMetaData table meta data
      */
-    public void put(final String logicTableName, final TableMetaData tableMetaData) {
+    public synchronized void put(final String logicTableName, final TableMetaData tableMetaData) {
+        version.incrementAndGet();
         tables.put(logicTableName, tableMetaData);
+        absentTables.remove(logicTableName);
     }
     
     /**
      * Remove table meta data.
+     * 
+     * <p>
+     * For lazy loading, table meta data will be loaded again when table is accessed next time.
+     * </p>
      *
      * @param logicTableName logic table name
      */
-    public void remove(final String logicTableName) {
+    public synchronized void remove(final String logicTableName) {
+        version.incrementAndGet();
         tables.remove(logicTableName);
+        absentTables.remove(logicTableName);
+    }
+    
+    /**
+     * Evict absent tables.
+     * 
+     * <p>
+     * For lazy loading, evicted tables will be loaded again when accessed next time.
+     * </p>
+     */
+    public void evictAbsentTables() {
+        absentTables.clear();
+    }
+    
+    /**
+     * Refresh table meta data.
+     * 
+     * <p>
+     * For lazy loading, table meta data is reloaded and replaced in place, queries use previous meta data until the table is reloaded.
+     * Reloading shares the loading task with first access of the same table, loading in progress is awaited before reloading.
+     * Reloaded result is discarded if table meta data is put or removed during reloading.
+     * For eager loading, nothing will be refreshed.
+     * </p>
+     * 
+     * @param logicTableName logic table name
+     * @throws SQLException SQL exception
+     */
+    public void refresh(final String logicTableName) throws SQLException {
+        if (isLazyLoading()) {
+            reload(logicTableName);
+        }
+    }
+    
+    private void reload(final String logicTableName) throws SQLException {
+        FutureTask<TableMetaData> reloadingTask = new FutureTask<>(new Callable<TableMetaData>() {
+            
+            @Override
+            public TableMetaData call() throws SQLException {
+                return loadAndCache(logicTableName);
+            }
+        });
+        FutureTask<TableMetaData> existedLoadingTask = loadingTasks.putIfAbsent(logicTableName, reloadingTask);
+        while (null != existedLoadingTask) {
+            awaitLoaded(existedLoadingTask);
+            existedLoadingTask = loadingTasks.putIfAbsent(logicTableName, reloadingTask);
+        }
+        try {
+            reloadingTask.run();
+        } finally {
+            loadingTasks.remove(logicTableName, reloadingTask);
+        }
+        try {
+            getLoadedResult(reloadingTask);
+        } catch (final ShardingException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+    
+    private void awaitLoaded(final FutureTask<TableMetaData> loadingTask) {
+        try {
+            loadingTask.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingException(ex);
+        } catch (final ExecutionException ignore) {
+        }
+    }
+    
+    /**
+     * Judge is lazy loading or not.
+     * 
+     * @return is lazy loading or not
+     */
+    public boolean isLazyLoading() {
+        return null != tableMetaDataProvider;
+    }
+    
+    /**
+     * Get count of table meta data loaded lazily.
+     * 
+     * @return count of table meta data loaded lazily
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+    
+    /**
+     * Get total nanoseconds spent on loading table meta data lazily.
+     * 
+     * @return total nanoseconds spent on loading table meta data lazily
+     */
+    public long getLoadNanos() {
+        return loadNanos.get();
+    }
+    
+    /**
+     * Get maximum nanoseconds spent on loading one table meta data lazily.
+     * 
+     * @return maximum nanoseconds spent on loading one table meta data lazily
+     */
+    public long getMaxLoadNanos() {
+        return maxLoadNanos.get();
     }
     
     /**
@@ -72,7 +302,7 @@ public final class ShardingTableMetaData {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName);
+        return null != get(tableName);
     }
     
     /**
@@ -83,7 +313,8 @@ public final class ShardingTableMetaData {
      * @return contains column from table meta data or not
      */
     public boolean containsColumn(final String tableName, final String column) {
-        return containsTable(tableName) && tables.get(tableName).getColumns().keySet().contains(column.toLowerCase());
+        TableMetaData tableMetaData = get(tableName);
+        return null != tableMetaData && tableMetaData.getColumns().keySet().contains(column.toLowerCase());
     }
     
     /**
@@ -93,6 +324,7 @@ public final class ShardingTableMetaData {
      * @return column names.
      */
     public Collection<String> getAllColumnNames(final String tableName) {
-        return tables.containsKey(tableName) ? tables.get(tableName).getColumns().keySet() : Collections.<String>emptyList();
+        TableMetaData tableMetaData = get(tableName);
+        return null != tableMetaData ? tableMetaData.getColumns().keySet() : Collections.<String>emptyList();
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metadata.table.hook;
+
+import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
+
+import java.util.Collection;
+
+/**
+ * Table meta data loading hook for SPI.
+ *
+ * @author agent
+ */
+public final class SPITableMetaDataLoadingHook implements TableMetaDataLoadingHook {
+    
+    private final Collection<TableMetaDataLoadingHook> tableMetaDataLoadingHooks = NewInstanceServiceLoader.newServiceInstances(TableMetaDataLoadingHook.class);
+    
+    static {
+        NewInstanceServiceLoader.register(TableMetaDataLoadingHook.class);
+    }
+    
+    @Override
+    public void finishSuccess(final String logicTableName, final boolean isExisted, final long loadNanos) {
+        for (TableMetaDataLoadingHook each : tableMetaDataLoadingHooks) {
+            each.finishSuccess(logicTableName, isExisted, loadNanos);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final String logicTableName, final long loadNanos, final Exception cause) {
+        for (TableMetaDataLoadingHook each : tableMetaDataLoadingHooks) {
+            each.finishFailure(logicTableName, loadNanos, cause);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
 import org.apache.shardingsphere.core.util.InlineExpressionParser;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,6 +41,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 /**
@@ -48,7 +50,7 @@ import java.util.Set;
  * @author zhangliang
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables"})
+@ToString(exclude = {"dataNodeIndexMap", "actualTables", "dataSourceToTablesMap"})
 public final class TableRule {
     
     private final String logicTable;
@@ -61,6 +63,9 @@ public final class TableRule {
     @Getter(AccessLevel.NONE)
     private final Map<DataNode, Integer> dataNodeIndexMap;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Set<String>> dataSourceToTablesMap;
+    
     private final ShardingStrategy databaseShardingStrategy;
     
     private final ShardingStrategy tableShardingStrategy;
@@ -77,6 +82,7 @@ public final class TableRule {
         logicTable = logicTableName.toLowerCase();
         actualDataNodes = Collections.singletonList(new DataNode(defaultDataSourceName, logicTableName));
         actualTables = getActualTables();
+        dataSourceToTablesMap = createDataSourceToTablesMap();
         dataNodeIndexMap = Collections.emptyMap();
         databaseShardingStrategy = null;
         tableShardingStrategy = null;
@@ -91,6 +97,7 @@ public final class TableRule {
         dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1);
         actualDataNodes = generateDataNodes(logicTableName, dataSourceNames);
         actualTables = getActualTables();
+        dataSourceToTablesMap = createDataSourceToTablesMap();
         databaseShardingStrategy = null;
         tableShardingStrategy = null;
         generateKeyColumn = null;
@@ -106,6 +113,7 @@ public final class TableRule {
         actualDataNodes = isEmptyDataNodes(dataNodes)
             ? generateDataNodes(tableRuleConfig.getLogicTable(), shardingDataSourceNames.getDataSourceNames()) : generateDataNodes(dataNodes, shardingDataSourceNames.getDataSourceNames());
         actualTables = getActualTables();
+        dataSourceToTablesMap = createDataSourceToTablesMap();
         databaseShardingStrategy = null == tableRuleConfig.getDatabaseShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getDatabaseShardingStrategyConfig());
         tableShardingStrategy = null == tableRuleConfig.getTableShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getTableShardingStrategyConfig());
         generateKeyColumn = getGenerateKeyColumn(tableRuleConfig.getKeyGeneratorConfig(), defaultGenerateKeyColumn);
@@ -123,6 +131,20 @@ public final class TableRule {
         return result;
     }
     
+    private Map<String, Set<String>> createDataSourceToTablesMap() {
+        Map<String, Set<String>> result = new LinkedHashMap<>();
+        for (DataNode each : actualDataNodes) {
+            if (!result.containsKey(each.getDataSourceName())) {
+                result.put(each.getDataSourceName(), new LinkedHashSet<String>());
+            }
+            result.get(each.getDataSourceName()).add(each.getTableName());
+        }
+        for (Entry<String, Set<String>> entry : result.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     private boolean containsKeyGeneratorConfiguration(final TableRuleConfiguration tableRuleConfiguration) {
         return null != tableRuleConfiguration.getKeyGeneratorConfig() && !Strings.isNullOrEmpty(tableRuleConfiguration.getKeyGeneratorConfig().getType());
     }
@@ -139,7 +161,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(dataSourceNames.size());
         int index = 0;
         for (String each : dataSourceNames) {
             DataNode dataNode = new DataNode(each, logicTable);
@@ -151,7 +173,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(actualDataNodes.size());
         int index = 0;
         for (String each : actualDataNodes) {
             DataNode dataNode = new DataNode(each);
@@ -188,11 +210,7 @@ public final class TableRule {
      * @return actual data source names
      */
     public Collection<String> getActualDatasourceNames() {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            result.add(each.getDataSourceName());
-        }
-        return result;
+        return dataSourceToTablesMap.keySet();
     }
     
     /**
@@ -202,13 +220,8 @@ public final class TableRule {
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            if (targetDataSource.equals(each.getDataSourceName())) {
-                result.add(each.getTableName());
-            }
-        }
-        return result;
+        Collection<String> result = dataSourceToTablesMap.get(targetDataSource);
+        return null == result ? Collections.<String>emptySet() : result;
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
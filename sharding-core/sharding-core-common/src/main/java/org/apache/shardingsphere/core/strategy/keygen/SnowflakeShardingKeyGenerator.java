@@ -21,10 +21,13 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+import org.apache.shardingsphere.spi.keygen.BatchShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake distributed primary key generator.
@@ -48,10 +51,14 @@ import java.util.Properties;
  * Call @{@code SnowflakeShardingKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
  * 
+ * <p>
+ * Last milliseconds, sequence offset and sequence are packed into one atomic long and updated by CAS, so generating keys does not lock.
+ * </p>
+ * 
  * @author gaohongtao
  * @author panjuan
  */
-public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator {
+public final class SnowflakeShardingKeyGenerator implements BatchShardingKeyGenerator {
     
     public static final long EPOCH;
     
@@ -71,18 +78,21 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
     
+    private static final long SEQUENCE_OFFSET_STATE_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long MILLISECONDS_STATE_SHIFT_BITS = SEQUENCE_OFFSET_STATE_SHIFT_BITS + 1;
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
     @Getter
-    @Setter
     private Properties properties = new Properties();
     
-    private byte sequenceOffset;
+    private long workerId = WORKER_ID;
     
-    private long sequence;
+    private int maxTolerateTimeDifferenceMilliseconds = MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS;
     
-    private long lastMilliseconds;
+    private final AtomicLong state = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -100,54 +110,74 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
+    public void setProperties(final Properties properties) {
+        long configuredWorkerId = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
+        Preconditions.checkArgument(configuredWorkerId >= 0L && configuredWorkerId < WORKER_ID_MAX_VALUE);
+        workerId = configuredWorkerId;
+        maxTolerateTimeDifferenceMilliseconds = Integer.valueOf(
+                properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
+        this.properties = properties;
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        return generateKeys(1).get(0);
+    }
+    
+    @Override
+    public List<Comparable<?>> generateKeys(final int count) {
+        List<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            generateKeys(count - result.size(), result);
+        }
+        return result;
+    }
+    
+    private void generateKeys(final int count, final List<Comparable<?>> result) {
+        long lastState = state.get();
+        long lastMilliseconds = lastState >>> MILLISECONDS_STATE_SHIFT_BITS;
+        long sequenceOffset = (lastState >>> SEQUENCE_OFFSET_STATE_SHIFT_BITS) & 1L;
         long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
+        if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
             currentMilliseconds = timeService.getCurrentMillis();
         }
+        long firstSequence;
         if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
+            firstSequence = ((lastState & SEQUENCE_MASK) + 1) & SEQUENCE_MASK;
+            if (0L == firstSequence) {
                 currentMilliseconds = waitUntilNextTime(currentMilliseconds);
             }
         } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
+            sequenceOffset = ~sequenceOffset & 1L;
+            firstSequence = sequenceOffset;
+        }
+        long lastSequence = Math.min(firstSequence + count - 1, SEQUENCE_MASK);
+        if (!state.compareAndSet(lastState, (currentMilliseconds << MILLISECONDS_STATE_SHIFT_BITS) | (sequenceOffset << SEQUENCE_OFFSET_STATE_SHIFT_BITS) | lastSequence)) {
+            return;
+        }
+        for (long each = firstSequence; each <= lastSequence; each++) {
+            result.add(((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | each);
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
         long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
-        Preconditions.checkState(timeDifferenceMilliseconds < getMaxTolerateTimeDifferenceMilliseconds(), 
+        Preconditions.checkState(timeDifferenceMilliseconds < maxTolerateTimeDifferenceMilliseconds, 
                 "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, currentMilliseconds);
         Thread.sleep(timeDifferenceMilliseconds);
         return true;
     }
     
-    private long getWorkerId() {
-        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
-        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE);
-        return result;
-    }
-    
-    private int getMaxTolerateTimeDifferenceMilliseconds() {
-        return Integer.valueOf(properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
-    }
-    
     private long waitUntilNextTime(final long lastTime) {
         long result = timeService.getCurrentMillis();
         while (result <= lastTime) {
+            Thread.yield();
             result = timeService.getCurrentMillis();
         }
         return result;
     }
-    
-    private void vibrateSequenceOffset() {
-        sequenceOffset = (byte) (~sequenceOffset & 1);
-    }
 }
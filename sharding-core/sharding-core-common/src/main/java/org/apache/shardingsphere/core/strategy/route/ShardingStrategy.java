@@ -37,6 +37,11 @@ public interface ShardingStrategy {
     
     /**
      * Sharding.
+     * 
+     * <p>
+     * Available target names can be unmodifiable views shared by sharding rule,
+     * strategies must not modify them and should hand a copy to user-supplied sharding algorithms.
+     * </p>
      *
      * @param availableTargetNames available data sources or tables's names
      * @param shardingValues sharding values
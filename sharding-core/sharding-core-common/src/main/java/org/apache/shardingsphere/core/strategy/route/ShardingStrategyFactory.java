@@ -22,12 +22,14 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.RangePartitionShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.partition.RangePartitionShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
 
 /**
@@ -54,6 +56,9 @@ public final class ShardingStrategyFactory {
         if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
             return new ComplexShardingStrategy((ComplexShardingStrategyConfiguration) shardingStrategyConfig);
         }
+        if (shardingStrategyConfig instanceof RangePartitionShardingStrategyConfiguration) {
+            return new RangePartitionShardingStrategy((RangePartitionShardingStrategyConfiguration) shardingStrategyConfig);
+        }
         if (shardingStrategyConfig instanceof HintShardingStrategyConfiguration) {
             return new HintShardingStrategy((HintShardingStrategyConfiguration) shardingStrategyConfig);
         }
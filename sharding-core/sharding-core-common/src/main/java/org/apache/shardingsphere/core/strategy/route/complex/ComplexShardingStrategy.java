@@ -29,6 +29,7 @@ import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.TreeSet;
 
@@ -61,7 +62,7 @@ public final class ComplexShardingStrategy implements ShardingStrategy {
             columnShardingValues.put(each.getColumnName(), ((ListRouteValue) each).getValues());
             logicTableName = each.getTableName();
         }
-        Collection<String> shardingResult = shardingAlgorithm.doSharding(availableTargetNames, new ComplexKeysShardingValue(logicTableName, columnShardingValues));
+        Collection<String> shardingResult = shardingAlgorithm.doSharding(new LinkedHashSet<>(availableTargetNames), new ComplexKeysShardingValue(logicTableName, columnShardingValues));
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         result.addAll(shardingResult);
         return result;
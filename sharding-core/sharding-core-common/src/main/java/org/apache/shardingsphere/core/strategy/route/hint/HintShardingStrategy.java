@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.TreeSet;
 
 /**
@@ -51,7 +52,7 @@ public final class HintShardingStrategy implements ShardingStrategy {
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
         ListRouteValue shardingValue = (ListRouteValue) shardingValues.iterator().next();
-        Collection<String> shardingResult = shardingAlgorithm.doSharding(availableTargetNames, 
+        Collection<String> shardingResult = shardingAlgorithm.doSharding(new LinkedHashSet<>(availableTargetNames), 
                 new HintShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), shardingValue.getValues()));
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         result.addAll(shardingResult);
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.partition;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Sorted interval index of range partitions.
+ * 
+ * <p>
+ * Partitions are sorted by lower bounds, point and range lookups are binary searches.
+ * </p>
+ * 
+ * <p>
+ * Lower bounds are normalized once when the index is built: numbers and numeric strings to decimals,
+ * dates and date strings ({@code yyyy-mm-dd [hh:mm:ss[.f...]]}) to timestamps.
+ * Looked up values are normalized the same way, so string bounds from YAML match numeric or date column values.
+ * Lower bounds which can not be normalized to the same type are rejected.
+ * </p>
+ *
+ * @author agent
+ */
+public final class RangePartitionIndex {
+    
+    private final Class<?> boundType;
+    
+    private final Comparable<?>[] lowerBounds;
+    
+    private final String[] partitions;
+    
+    public RangePartitionIndex(final Map<String, Comparable<?>> partitionLowerBounds) {
+        for (Entry<String, Comparable<?>> each : partitionLowerBounds.entrySet()) {
+            Preconditions.checkNotNull(each.getValue(), "Lower bound of partition '%s' cannot be null.", each.getKey());
+        }
+        boundType = getBoundType(partitionLowerBounds);
+        List<Entry<String, Comparable<?>>> entries = new ArrayList<>(partitionLowerBounds.size());
+        for (Entry<String, Comparable<?>> each : partitionLowerBounds.entrySet()) {
+            entries.add(new SimpleImmutableEntry<String, Comparable<?>>(each.getKey(), normalize(each.getValue())));
+        }
+        Collections.sort(entries, new Comparator<Entry<String, Comparable<?>>>() {
+            
+            @Override
+            public int compare(final Entry<String, Comparable<?>> o1, final Entry<String, Comparable<?>> o2) {
+                return compareValue(o1.getValue(), o2.getValue());
+            }
+        });
+        lowerBounds = new Comparable<?>[entries.size()];
+        partitions = new String[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            if (0 < i) {
+                Preconditions.checkArgument(0 != compareValue(lowerBounds[i - 1], entries.get(i).getValue()), 
+                        "Partitions '%s' and '%s' have same lower bound.", partitions[i - 1], entries.get(i).getKey());
+            }
+            lowerBounds[i] = entries.get(i).getValue();
+            partitions[i] = entries.get(i).getKey();
+        }
+    }
+    
+    private static Class<?> getBoundType(final Map<String, Comparable<?>> partitionLowerBounds) {
+        if (partitionLowerBounds.isEmpty() || isAllNormalizable(partitionLowerBounds.values(), BigDecimal.class)) {
+            return BigDecimal.class;
+        }
+        if (isAllNormalizable(partitionLowerBounds.values(), Timestamp.class)) {
+            return Timestamp.class;
+        }
+        Class<?> result = partitionLowerBounds.values().iterator().next().getClass();
+        for (Entry<String, Comparable<?>> each : partitionLowerBounds.entrySet()) {
+            Preconditions.checkArgument(result == each.getValue().getClass(), "Lower bound '%s' of partition '%s' is %s, which can not be compared with lower bounds of %s.", 
+                    each.getValue(), each.getKey(), each.getValue().getClass().getName(), result.getName());
+        }
+        return result;
+    }
+    
+    private static boolean isAllNormalizable(final Iterable<Comparable<?>> values, final Class<?> type) {
+        for (Comparable<?> each : values) {
+            if (!convert(each, type).isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static Optional<Comparable<?>> convert(final Comparable<?> value, final Class<?> type) {
+        if (BigDecimal.class == type) {
+            if (value instanceof Number) {
+                return Optional.<Comparable<?>>of(new BigDecimal(value.toString()));
+            }
+            return value instanceof String ? parseDecimal((String) value) : Optional.<Comparable<?>>absent();
+        }
+        if (Timestamp.class == type) {
+            if (value instanceof Date) {
+                return Optional.<Comparable<?>>of(value instanceof Timestamp ? value : new Timestamp(((Date) value).getTime()));
+            }
+            return value instanceof String ? parseTimestamp((String) value) : Optional.<Comparable<?>>absent();
+        }
+        return type == value.getClass() ? Optional.<Comparable<?>>of(value) : Optional.<Comparable<?>>absent();
+    }
+    
+    private static Optional<Comparable<?>> parseDecimal(final String value) {
+        try {
+            return Optional.<Comparable<?>>of(new BigDecimal(value.trim()));
+        } catch (final NumberFormatException ignored) {
+            return Optional.absent();
+        }
+    }
+    
+    private static Optional<Comparable<?>> parseTimestamp(final String value) {
+        String trimmed = value.trim();
+        try {
+            return Optional.<Comparable<?>>of(trimmed.contains(" ") ? Timestamp.valueOf(trimmed) : new Timestamp(java.sql.Date.valueOf(trimmed).getTime()));
+        } catch (final IllegalArgumentException ignored) {
+            return Optional.absent();
+        }
+    }
+    
+    private Comparable<?> normalize(final Comparable<?> value) {
+        Optional<Comparable<?>> result = convert(value, boundType);
+        Preconditions.checkArgument(result.isPresent(), 
+                "Value '%s' of %s can not be compared with range partition lower bounds of %s.", value, value.getClass().getName(), boundType.getName());
+        return result.get();
+    }
+    
+    /**
+     * Get partition which contains value.
+     * 
+     * @param value value
+     * @return partition which contains value
+     */
+    public Optional<String> getPartition(final Comparable<?> value) {
+        int index = floorIndex(normalize(value));
+        return 0 > index ? Optional.<String>absent() : Optional.of(partitions[index]);
+    }
+    
+    /**
+     * Get partitions which intersect with range.
+     * 
+     * @param range range
+     * @return partitions in ascending order of lower bounds
+     */
+    public List<String> getPartitions(final Range<? extends Comparable<?>> range) {
+        int fromIndex = range.hasLowerBound() ? Math.max(floorIndex(normalize(range.lowerEndpoint())), 0) : 0;
+        int toIndex = range.hasUpperBound() ? upperIndex(normalize(range.upperEndpoint()), range.upperBoundType()) : partitions.length - 1;
+        return fromIndex > toIndex ? Collections.<String>emptyList() : Arrays.asList(partitions).subList(fromIndex, toIndex + 1);
+    }
+    
+    private int upperIndex(final Comparable<?> upperEndpoint, final BoundType upperBoundType) {
+        int result = floorIndex(upperEndpoint);
+        if (0 <= result && BoundType.OPEN == upperBoundType && 0 == compareValue(lowerBounds[result], upperEndpoint)) {
+            result--;
+        }
+        return result;
+    }
+    
+    private int floorIndex(final Comparable<?> value) {
+        int low = 0;
+        int high = lowerBounds.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (compareValue(lowerBounds[middle], value) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static int compareValue(final Comparable<?> value1, final Comparable<?> value2) {
+        return ((Comparable<Object>) value1).compareTo(value2);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.partition;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.config.sharding.strategy.RangePartitionShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.BetweenRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * Range partition sharding strategy.
+ * 
+ * <p>
+ * Targets are located by binary searching lower bounds of partitions, no sharding algorithm is required.
+ * </p>
+ *
+ * @author agent
+ */
+public final class RangePartitionShardingStrategy implements ShardingStrategy {
+    
+    private final String shardingColumn;
+    
+    private final RangePartitionIndex rangePartitionIndex;
+    
+    public RangePartitionShardingStrategy(final RangePartitionShardingStrategyConfiguration rangePartitionShardingStrategyConfig) {
+        shardingColumn = rangePartitionShardingStrategyConfig.getShardingColumn();
+        rangePartitionIndex = new RangePartitionIndex(rangePartitionShardingStrategyConfig.getPartitionLowerBounds());
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
+        RouteValue shardingValue = shardingValues.iterator().next();
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (shardingValue instanceof ListRouteValue) {
+            for (Comparable<?> each : ((ListRouteValue<?>) shardingValue).getValues()) {
+                Optional<String> partition = rangePartitionIndex.getPartition(each);
+                if (partition.isPresent() && availableTargetNames.contains(partition.get())) {
+                    result.add(partition.get());
+                }
+            }
+        } else {
+            for (String each : rangePartitionIndex.getPartitions(((BetweenRouteValue<?>) shardingValue).getValueRange())) {
+                if (availableTargetNames.contains(each)) {
+                    result.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public Collection<String> getShardingColumns() {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.add(shardingColumn);
+        return result;
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Supports expressions such as {@code t_order_${user_id % 16}}, which are made of literal text and {@code ${}} segments of
+ * integer arithmetic ({@code +}, {@code -}, {@code *}, {@code %} and parentheses) over integer literals and a single variable.
+ * Evaluation follows Groovy integer semantics, so the result is the same as evaluating the expression with Groovy.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private final List<String> literals;
+    
+    private final List<Node> segments;
+    
+    private final String variableName;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, absent if the expression is not supported
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        try {
+            return Optional.of(new Parser(inlineExpression).parse());
+        } catch (final IllegalArgumentException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    /**
+     * Judge whether value of variable can be evaluated by compiled expression.
+     *
+     * @param variableName variable name
+     * @param value value of variable
+     * @return can be evaluated or not
+     */
+    public boolean isSupported(final String variableName, final Object value) {
+        return (null == this.variableName || this.variableName.equals(variableName))
+                && (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte);
+    }
+    
+    /**
+     * Evaluate expression.
+     *
+     * @param value value of variable
+     * @return evaluated result
+     */
+    public String evaluate(final Number value) {
+        boolean isLongVariable = value instanceof Long;
+        long variable = value.longValue();
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < segments.size(); i++) {
+            result.append(literals.get(i)).append(segments.get(i).evaluate(variable, isLongVariable));
+        }
+        return result.append(literals.get(segments.size())).toString();
+    }
+    
+    private interface Node {
+        
+        boolean isLong(boolean isLongVariable);
+        
+        long evaluate(long variable, boolean isLongVariable);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode implements Node {
+        
+        private final long value;
+        
+        @Override
+        public boolean isLong(final boolean isLongVariable) {
+            return value > Integer.MAX_VALUE || value < Integer.MIN_VALUE;
+        }
+        
+        @Override
+        public long evaluate(final long variable, final boolean isLongVariable) {
+            return value;
+        }
+    }
+    
+    private static final class VariableNode implements Node {
+        
+        @Override
+        public boolean isLong(final boolean isLongVariable) {
+            return isLongVariable;
+        }
+        
+        @Override
+        public long evaluate(final long variable, final boolean isLongVariable) {
+            return variable;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public boolean isLong(final boolean isLongVariable) {
+            return operand.isLong(isLongVariable);
+        }
+        
+        @Override
+        public long evaluate(final long variable, final boolean isLongVariable) {
+            long value = operand.evaluate(variable, isLongVariable);
+            return isLong(isLongVariable) ? -value : -(int) value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public boolean isLong(final boolean isLongVariable) {
+            return left.isLong(isLongVariable) || right.isLong(isLongVariable);
+        }
+        
+        @Override
+        public long evaluate(final long variable, final boolean isLongVariable) {
+            long leftValue = left.evaluate(variable, isLongVariable);
+            long rightValue = right.evaluate(variable, isLongVariable);
+            if (isLong(isLongVariable)) {
+                return evaluateLong(leftValue, rightValue);
+            }
+            return evaluateInt((int) leftValue, (int) rightValue);
+        }
+        
+        private long evaluateLong(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private int evaluateInt(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Parser {
+        
+        private final String expression;
+        
+        private final List<String> literals = new ArrayList<>();
+        
+        private final List<Node> segments = new ArrayList<>();
+        
+        private String variableName;
+        
+        private int position;
+        
+        private int end;
+        
+        CompiledInlineExpression parse() {
+            int literalStart = 0;
+            int segmentStart = expression.indexOf("${");
+            while (segmentStart >= 0) {
+                literals.add(getLiteral(literalStart, segmentStart));
+                end = expression.indexOf('}', segmentStart);
+                checkArgument(end > 0);
+                position = segmentStart + 2;
+                segments.add(parseExpression());
+                skipWhitespace();
+                checkArgument(position == end);
+                literalStart = end + 1;
+                segmentStart = expression.indexOf("${", literalStart);
+            }
+            literals.add(getLiteral(literalStart, expression.length()));
+            return new CompiledInlineExpression(literals, segments, variableName);
+        }
+        
+        private String getLiteral(final int startIndex, final int stopIndex) {
+            String result = expression.substring(startIndex, stopIndex);
+            checkArgument(!result.contains("$") && !result.contains("\\") && !result.contains("\""));
+            return result;
+        }
+        
+        private Node parseExpression() {
+            Node result = parseTerm();
+            while (isNextOperator('+') || isNextOperator('-')) {
+                char operator = expression.charAt(position++);
+                result = new BinaryNode(operator, result, parseTerm());
+            }
+            return result;
+        }
+        
+        private Node parseTerm() {
+            Node result = parseFactor();
+            while (isNextOperator('*') || isNextOperator('%')) {
+                char operator = expression.charAt(position++);
+                result = new BinaryNode(operator, result, parseFactor());
+            }
+            return result;
+        }
+        
+        private Node parseFactor() {
+            skipWhitespace();
+            checkArgument(position < end);
+            char current = expression.charAt(position);
+            if ('-' == current) {
+                position++;
+                return new NegateNode(parseFactor());
+            }
+            if ('(' == current) {
+                position++;
+                Node result = parseExpression();
+                checkArgument(isNextOperator(')'));
+                position++;
+                return result;
+            }
+            if (isDigit(current)) {
+                return parseLiteral();
+            }
+            if (Character.isJavaIdentifierStart(current)) {
+                return parseVariable();
+            }
+            throw new IllegalArgumentException();
+        }
+        
+        private Node parseLiteral() {
+            int start = position;
+            while (position < end && isDigit(expression.charAt(position))) {
+                position++;
+            }
+            String literal = expression.substring(start, position);
+            checkArgument(1 == literal.length() || '0' != literal.charAt(0));
+            checkArgument(position == end || !Character.isJavaIdentifierPart(expression.charAt(position)));
+            return new LiteralNode(Long.parseLong(literal));
+        }
+        
+        private Node parseVariable() {
+            int start = position;
+            while (position < end && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                position++;
+            }
+            String name = expression.substring(start, position);
+            checkArgument(null == variableName || variableName.equals(name));
+            variableName = name;
+            return new VariableNode();
+        }
+        
+        private boolean isNextOperator(final char operator) {
+            skipWhitespace();
+            return position < end && operator == expression.charAt(position);
+        }
+        
+        private void skipWhitespace() {
+            while (position < end && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+        
+        private boolean isDigit(final char ch) {
+            return ch >= '0' && ch <= '9';
+        }
+        
+        private void checkArgument(final boolean condition) {
+            if (!condition) {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
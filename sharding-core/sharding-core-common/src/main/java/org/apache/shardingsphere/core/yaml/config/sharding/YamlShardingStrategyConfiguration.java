@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexS
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlRangePartitionShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 
 /**
@@ -44,5 +45,7 @@ public class YamlShardingStrategyConfiguration implements YamlConfiguration {
     
     private YamlInlineShardingStrategyConfiguration inline;
     
+    private YamlRangePartitionShardingStrategyConfiguration rangePartition;
+    
     private YamlNoneShardingStrategyConfiguration none;
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStr
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.RangePartitionShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyC
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlRangePartitionShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
 
@@ -58,6 +60,9 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
         if (data instanceof InlineShardingStrategyConfiguration) {
             result.setInline(createYamlInlineShardingStrategyConfiguration((InlineShardingStrategyConfiguration) data));
         }
+        if (data instanceof RangePartitionShardingStrategyConfiguration) {
+            result.setRangePartition(createYamlRangePartitionShardingStrategyConfiguration((RangePartitionShardingStrategyConfiguration) data));
+        }
         return result;
     }
     
@@ -85,6 +90,10 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
             shardingStrategyConfigCount++;
             result = new InlineShardingStrategyConfiguration(yamlConfiguration.getInline().getShardingColumn(), yamlConfiguration.getInline().getAlgorithmExpression());
         }
+        if (null != yamlConfiguration.getRangePartition()) {
+            shardingStrategyConfigCount++;
+            result = new RangePartitionShardingStrategyConfiguration(yamlConfiguration.getRangePartition().getShardingColumn(), yamlConfiguration.getRangePartition().getPartitionLowerBounds());
+        }
         if (null != yamlConfiguration.getHint()) {
             shardingStrategyConfigCount++;
             result = new HintShardingStrategyConfiguration(ShardingAlgorithmFactory.newInstance(yamlConfiguration.getHint().getAlgorithmClassName(), HintShardingAlgorithm.class));
@@ -126,4 +135,11 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
         result.setAlgorithmExpression(data.getAlgorithmExpression());
         return result;
     }
+    
+    private YamlRangePartitionShardingStrategyConfiguration createYamlRangePartitionShardingStrategyConfiguration(final RangePartitionShardingStrategyConfiguration data) {
+        YamlRangePartitionShardingStrategyConfiguration result = new YamlRangePartitionShardingStrategyConfiguration();
+        result.setShardingColumn(data.getShardingColumn());
+        result.setPartitionLowerBounds(data.getPartitionLowerBounds());
+        return result;
+    }
 }
@@ -22,6 +22,9 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses(DataSourceConfigurationTest.class)
+@SuiteClasses({
+        DataSourceConfigurationTest.class, 
+        ShardingRuleConfigurationChangeTest.class
+})
 public final class AllConfigTests {
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.config;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingRuleConfigurationChangeTest {
+    
+    @Test
+    public void assertNotChanged() {
+        ShardingRuleConfigurationChange actual = new ShardingRuleConfigurationChange(createShardingRuleConfiguration(), createShardingRuleConfiguration());
+        assertFalse(actual.isChanged());
+        assertFalse(actual.isGlobalChanged());
+        assertTrue(actual.getChangedLogicTables().isEmpty());
+    }
+    
+    @Test
+    public void assertTableRuleModified() {
+        ShardingRuleConfiguration renewedConfig = createShardingRuleConfiguration();
+        renewedConfig.getTableRuleConfigs().iterator().next().setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 4}"));
+        ShardingRuleConfigurationChange actual = new ShardingRuleConfigurationChange(createShardingRuleConfiguration(), renewedConfig);
+        assertTrue(actual.isChanged());
+        assertFalse(actual.isGlobalChanged());
+        assertThat(actual.getChangedLogicTables().size(), is(1));
+        assertTrue(actual.getChangedLogicTables().contains("t_order"));
+    }
+    
+    @Test
+    public void assertTableRuleAddedAndRemoved() {
+        ShardingRuleConfiguration renewedConfig = createShardingRuleConfiguration();
+        renewedConfig.getTableRuleConfigs().remove(renewedConfig.getTableRuleConfigs().toArray()[1]);
+        renewedConfig.getTableRuleConfigs().add(new TableRuleConfiguration("T_USER", "ds_${0..1}.t_user"));
+        ShardingRuleConfigurationChange actual = new ShardingRuleConfigurationChange(createShardingRuleConfiguration(), renewedConfig);
+        assertFalse(actual.isGlobalChanged());
+        assertThat(actual.getChangedLogicTables().size(), is(2));
+        assertTrue(actual.getChangedLogicTables().contains("t_order_item"));
+        assertTrue(actual.getChangedLogicTables().contains("t_user"));
+    }
+    
+    @Test
+    public void assertGlobalChanged() {
+        ShardingRuleConfiguration renewedConfig = createShardingRuleConfiguration();
+        renewedConfig.getBindingTableGroups().add("t_order, t_order_item");
+        ShardingRuleConfigurationChange actual = new ShardingRuleConfigurationChange(createShardingRuleConfiguration(), renewedConfig);
+        assertTrue(actual.isChanged());
+        assertTrue(actual.isGlobalChanged());
+        assertTrue(actual.getChangedLogicTables().isEmpty());
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(createOrderTableRuleConfiguration());
+        result.getTableRuleConfigs().add(new TableRuleConfiguration("t_order_item", "ds_${0..1}.t_order_item_${0..1}"));
+        result.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        return result;
+    }
+    
+    private TableRuleConfiguration createOrderTableRuleConfiguration() {
+        TableRuleConfiguration result = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        return result;
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.core.metadata.datasource.dialect.MySQLDataSourc
 import org.apache.shardingsphere.core.metadata.datasource.dialect.OracleDataSourceMetaDataTest;
 import org.apache.shardingsphere.core.metadata.datasource.dialect.PostgreSQLDataSourceMetaDataTest;
 import org.apache.shardingsphere.core.metadata.datasource.dialect.SQLServerDataSourceMetaDataTest;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaDataTest;
+import org.apache.shardingsphere.core.metadata.table.hook.SPITableMetaDataLoadingHookTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -36,7 +38,9 @@ import org.junit.runners.Suite.SuiteClasses;
         PostgreSQLDataSourceMetaDataTest.class, 
         SQLServerDataSourceMetaDataTest.class, 
         DataSourceMetaDataFactoryTest.class, 
-        ShardingDataSourceMetaDataTest.class
+        ShardingDataSourceMetaDataTest.class, 
+        ShardingTableMetaDataTest.class, 
+        SPITableMetaDataLoadingHookTest.class
 })
 public final class AllMetaDataTests {
 }
@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metadata.table;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.metadata.table.hook.fixture.TableMetaDataLoadingHookFixture;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ShardingTableMetaDataTest {
+    
+    private final TableMetaData tableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("id", "int", true)));
+    
+    private final TableMetaData refreshedTableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "bigint", true)));
+    
+    @Before
+    public void setUp() {
+        TableMetaDataLoadingHookFixture.clearLoaded();
+    }
+    
+    @Test
+    public void assertGetWithEagerLoading() {
+        Map<String, TableMetaData> tables = new HashMap<>();
+        tables.put("t_order", tableMetaData);
+        ShardingTableMetaData actual = new ShardingTableMetaData(tables);
+        assertFalse(actual.isLazyLoading());
+        assertThat(actual.get("t_order"), is(tableMetaData));
+        assertNull(actual.get("t_order_item"));
+        assertTrue(actual.containsColumn("t_order", "ID"));
+        assertThat(actual.getLoadCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetWithLazyLoading() {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(tableMetaData);
+        ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        assertTrue(actual.isLazyLoading());
+        assertTrue(actual.getTables().isEmpty());
+        assertThat(actual.get("t_order"), is(tableMetaData));
+        assertTrue(actual.containsTable("t_order"));
+        assertThat(actual.getAllColumnNames("t_order").iterator().next(), is("id"));
+        assertThat(provider.getLoadedCount(), is(1));
+        assertThat(actual.getLoadCount(), is(1L));
+        assertTrue(actual.getLoadNanos() >= 0L);
+        assertThat(actual.getMaxLoadNanos(), is(actual.getLoadNanos()));
+        assertTrue(TableMetaDataLoadingHookFixture.isSucceed("t_order"));
+    }
+    
+    @Test
+    public void assertGetWithLazyLoadingFailure() {
+        ShardingTableMetaData actual = new ShardingTableMetaData(new TableMetaDataProvider() {
+            
+            @Override
+            public Optional<TableMetaData> load(final String logicTableName) throws SQLException {
+                throw new SQLException("test");
+            }
+        });
+        try {
+            actual.get("t_order");
+            fail();
+        } catch (final ShardingException ex) {
+            assertThat(ex.getCause().getMessage(), is("test"));
+        }
+        assertThat(actual.getLoadCount(), is(0L));
+        assertTrue(TableMetaDataLoadingHookFixture.isFailed("t_order"));
+    }
+    
+    @Test
+    public void assertGetAbsentTableWithLazyLoading() {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(null);
+        ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        assertFalse(actual.containsTable("t_order"));
+        assertFalse(actual.containsColumn("t_order", "id"));
+        assertTrue(actual.getAllColumnNames("t_order").isEmpty());
+        assertThat(provider.getLoadedCount(), is(1));
+    }
+    
+    @Test
+    public void assertRemoveWithLazyLoading() {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(tableMetaData);
+        ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        actual.get("t_order");
+        actual.remove("t_order");
+        assertTrue(actual.getTables().isEmpty());
+        assertThat(actual.get("t_order"), is(tableMetaData));
+        assertThat(provider.getLoadedCount(), is(2));
+    }
+    
+    @Test
+    public void assertGetAbsentTablesWithLazyLoadingBeyondCacheSize() {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(null);
+        ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        for (int i = 0; i < 2048; i++) {
+            assertNull(actual.get("t_absent_" + i));
+        }
+        assertThat(provider.getLoadedCount(), is(2048));
+        assertNull(actual.get("t_absent_2047"));
+        assertThat(provider.getLoadedCount(), is(2048));
+        assertNull(actual.get("t_absent_0"));
+        assertThat(provider.getLoadedCount(), is(2049));
+    }
+    
+    @Test
+    public void assertPutAbsentTableWithLazyLoading() {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(null);
+        ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        assertNull(actual.get("t_order"));
+        actual.put("t_order", tableMetaData);
+        assertThat(actual.get("t_order"), is(tableMetaData));
+        assertThat(provider.getLoadedCount(), is(1));
+    }
+    
+    @Test
+    public void assertRefreshWithEagerLoading() throws SQLException {
+        Map<String, TableMetaData> tables = new HashMap<>();
+        tables.put("t_order", tableMetaData);
+        ShardingTableMetaData actual = new ShardingTableMetaData(tables);
+        actual.evictAbsentTables();
+        actual.refresh("t_order");
+        assertThat(actual.get("t_order"), is(tableMetaData));
+        assertThat(actual.getLoadCount(), is(0L));
+    }
+    
+    @Test
+    public void assertRefreshWithLazyLoading() throws SQLException {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(tableMetaData);
+        ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        actual.get("t_order");
+        provider.setTableMetaData(refreshedTableMetaData);
+        actual.refresh("t_order");
+        assertThat(actual.get("t_order"), is(refreshedTableMetaData));
+        assertThat(provider.getLoadedCount(), is(2));
+    }
+    
+    @Test
+    public void assertEvictAbsentTablesWithLazyLoading() {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(null);
+        ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        assertNull(actual.get("t_order"));
+        provider.setTableMetaData(tableMetaData);
+        actual.evictAbsentTables();
+        assertThat(actual.get("t_order"), is(tableMetaData));
+        assertThat(provider.getLoadedCount(), is(2));
+    }
+    
+    @Test
+    public void assertRefreshTableWithLazyLoadingUsesPreviousMetaDataUntilReloaded() throws Exception {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(tableMetaData);
+        ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        actual.get("t_order");
+        CountDownLatch loadingStartedLatch = new CountDownLatch(1);
+        CountDownLatch loadingLatch = new CountDownLatch(1);
+        provider.setLoadingLatches(loadingStartedLatch, loadingLatch);
+        provider.setTableMetaData(refreshedTableMetaData);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Void> future = executorService.submit(createRefreshTask(actual, "t_order"));
+            loadingStartedLatch.await();
+            assertThat(actual.get("t_order"), is(tableMetaData));
+            loadingLatch.countDown();
+            future.get();
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(actual.get("t_order"), is(refreshedTableMetaData));
+        assertThat(provider.getLoadedCount(), is(2));
+    }
+    
+    @Test
+    public void assertRefreshTableWithLazyLoadingDiscardedWhenRemovedDuringReloading() throws Exception {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(tableMetaData);
+        ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        actual.get("t_order");
+        CountDownLatch loadingStartedLatch = new CountDownLatch(1);
+        CountDownLatch loadingLatch = new CountDownLatch(1);
+        provider.setLoadingLatches(loadingStartedLatch, loadingLatch);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Void> future = executorService.submit(createRefreshTask(actual, "t_order"));
+            loadingStartedLatch.await();
+            actual.remove("t_order");
+            loadingLatch.countDown();
+            future.get();
+        } finally {
+            executorService.shutdown();
+        }
+        assertTrue(actual.getTables().isEmpty());
+    }
+    
+    @Test
+    public void assertGetDuringRefreshingTableWithLazyLoadingSharesLoadingTask() throws Exception {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(tableMetaData);
+        final ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        CountDownLatch loadingStartedLatch = new CountDownLatch(1);
+        CountDownLatch loadingLatch = new CountDownLatch(1);
+        provider.setLoadingLatches(loadingStartedLatch, loadingLatch);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Void> refreshFuture = executorService.submit(createRefreshTask(actual, "t_order"));
+            loadingStartedLatch.await();
+            Future<TableMetaData> getFuture = executorService.submit(new Callable<TableMetaData>() {
+                
+                @Override
+                public TableMetaData call() {
+                    return actual.get("t_order");
+                }
+            });
+            Thread.sleep(100L);
+            loadingLatch.countDown();
+            refreshFuture.get();
+            assertThat(getFuture.get(), is(tableMetaData));
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(provider.getLoadedCount(), is(1));
+    }
+    
+    @Test
+    public void assertRefreshDuringGettingTableWithLazyLoadingReloadsAfterLoaded() throws Exception {
+        FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(tableMetaData);
+        final ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        CountDownLatch loadingStartedLatch = new CountDownLatch(1);
+        CountDownLatch loadingLatch = new CountDownLatch(1);
+        provider.setLoadingLatches(loadingStartedLatch, loadingLatch);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<TableMetaData> getFuture = executorService.submit(new Callable<TableMetaData>() {
+                
+                @Override
+                public TableMetaData call() {
+                    return actual.get("t_order");
+                }
+            });
+            loadingStartedLatch.await();
+            Future<Void> refreshFuture = executorService.submit(createRefreshTask(actual, "t_order"));
+            Thread.sleep(100L);
+            assertThat(provider.getLoadedCount(), is(1));
+            loadingLatch.countDown();
+            assertThat(getFuture.get(), is(tableMetaData));
+            refreshFuture.get();
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(actual.get("t_order"), is(tableMetaData));
+        assertThat(provider.getLoadedCount(), is(2));
+    }
+    
+    private Callable<Void> createRefreshTask(final ShardingTableMetaData shardingTableMetaData, final String logicTableName) {
+        return new Callable<Void>() {
+            
+            @Override
+            public Void call() throws SQLException {
+                shardingTableMetaData.refresh(logicTableName);
+                return null;
+            }
+        };
+    }
+    
+    @Test
+    public void assertGetConcurrentlyWithLazyLoading() throws Exception {
+        final CountDownLatch loadingLatch = new CountDownLatch(1);
+        final FixtureTableMetaDataProvider provider = new FixtureTableMetaDataProvider(tableMetaData, loadingLatch);
+        final ShardingTableMetaData actual = new ShardingTableMetaData(provider);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<TableMetaData>> futures = new LinkedList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executorService.submit(new Callable<TableMetaData>() {
+                    
+                    @Override
+                    public TableMetaData call() {
+                        return actual.get("t_order");
+                    }
+                }));
+            }
+            Thread.sleep(100L);
+            loadingLatch.countDown();
+            for (Future<TableMetaData> each : futures) {
+                assertThat(each.get(), is(tableMetaData));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(provider.getLoadedCount(), is(1));
+    }
+    
+    private static final class FixtureTableMetaDataProvider implements TableMetaDataProvider {
+        
+        private final AtomicInteger loadedCount = new AtomicInteger();
+        
+        private volatile CountDownLatch loadingStartedLatch = new CountDownLatch(0);
+        
+        private volatile CountDownLatch loadingLatch;
+        
+        private volatile TableMetaData tableMetaData;
+        
+        FixtureTableMetaDataProvider(final TableMetaData tableMetaData) {
+            this(tableMetaData, new CountDownLatch(0));
+        }
+        
+        FixtureTableMetaDataProvider(final TableMetaData tableMetaData, final CountDownLatch loadingLatch) {
+            this.tableMetaData = tableMetaData;
+            this.loadingLatch = loadingLatch;
+        }
+        
+        @Override
+        public Optional<TableMetaData> load(final String logicTableName) throws SQLException {
+            loadedCount.incrementAndGet();
+            loadingStartedLatch.countDown();
+            try {
+                loadingLatch.await();
+            } catch (final InterruptedException ex) {
+                throw new SQLException(ex);
+            }
+            return Optional.fromNullable(tableMetaData);
+        }
+        
+        int getLoadedCount() {
+            return loadedCount.get();
+        }
+        
+        void setTableMetaData(final TableMetaData tableMetaData) {
+            this.tableMetaData = tableMetaData;
+        }
+        
+        void setLoadingLatches(final CountDownLatch loadingStartedLatch, final CountDownLatch loadingLatch) {
+            this.loadingStartedLatch = loadingStartedLatch;
+            this.loadingLatch = loadingLatch;
+        }
+    }
+}
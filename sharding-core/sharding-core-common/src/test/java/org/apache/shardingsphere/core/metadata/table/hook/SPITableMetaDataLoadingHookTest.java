@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metadata.table.hook;
+
+import org.apache.shardingsphere.core.metadata.table.hook.fixture.TableMetaDataLoadingHookFixture;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SPITableMetaDataLoadingHookTest {
+    
+    private SPITableMetaDataLoadingHook spiTableMetaDataLoadingHook;
+    
+    @Before
+    public void setUp() {
+        TableMetaDataLoadingHookFixture.clearLoaded();
+        spiTableMetaDataLoadingHook = new SPITableMetaDataLoadingHook();
+    }
+    
+    @Test
+    public void assertFinishSuccess() {
+        spiTableMetaDataLoadingHook.finishSuccess("t_order", true, 0L);
+        assertTrue(TableMetaDataLoadingHookFixture.isSucceed("t_order"));
+        assertFalse(TableMetaDataLoadingHookFixture.isFailed("t_order"));
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        spiTableMetaDataLoadingHook.finishFailure("t_order", 0L, new SQLException("test"));
+        assertFalse(TableMetaDataLoadingHookFixture.isSucceed("t_order"));
+        assertTrue(TableMetaDataLoadingHookFixture.isFailed("t_order"));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metadata.table.hook.fixture;
+
+import org.apache.shardingsphere.core.metadata.table.hook.TableMetaDataLoadingHook;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public final class TableMetaDataLoadingHookFixture implements TableMetaDataLoadingHook {
+    
+    private static final Collection<String> SUCCEED_TABLE_NAMES = new ConcurrentLinkedQueue<>();
+    
+    private static final Collection<String> FAILED_TABLE_NAMES = new ConcurrentLinkedQueue<>();
+    
+    @Override
+    public void finishSuccess(final String logicTableName, final boolean isExisted, final long loadNanos) {
+        if (loadNanos >= 0) {
+            SUCCEED_TABLE_NAMES.add(logicTableName);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final String logicTableName, final long loadNanos, final Exception cause) {
+        if (loadNanos >= 0 && null != cause) {
+            FAILED_TABLE_NAMES.add(logicTableName);
+        }
+    }
+    
+    /**
+     * Judge table meta data loaded successfully or not.
+     * 
+     * @param logicTableName logic table name
+     * @return table meta data loaded successfully or not
+     */
+    public static boolean isSucceed(final String logicTableName) {
+        return SUCCEED_TABLE_NAMES.contains(logicTableName);
+    }
+    
+    /**
+     * Judge table meta data loaded failure or not.
+     * 
+     * @param logicTableName logic table name
+     * @return table meta data loaded failure or not
+     */
+    public static boolean isFailed(final String logicTableName) {
+        return FAILED_TABLE_NAMES.contains(logicTableName);
+    }
+    
+    /**
+     * Clear loaded tables.
+     */
+    public static void clearLoaded() {
+        SUCCEED_TABLE_NAMES.clear();
+        FAILED_TABLE_NAMES.clear();
+    }
+}
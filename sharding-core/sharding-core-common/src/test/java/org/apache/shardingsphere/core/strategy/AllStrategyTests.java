@@ -21,6 +21,7 @@ import org.apache.shardingsphere.core.strategy.encrypt.AllEncryptorTests;
 import org.apache.shardingsphere.core.strategy.keygen.AllKeygenTests;
 import org.apache.shardingsphere.core.strategy.masterslave.AllMasterSlaveTests;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyTest;
+import org.apache.shardingsphere.core.strategy.route.partition.RangePartitionIndexTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -28,6 +29,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         ShardingStrategyTest.class,
+        RangePartitionIndexTest.class,
         AllMasterSlaveTests.class,
         AllKeygenTests.class,
         AllEncryptorTests.class
@@ -31,6 +31,8 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotEquals;
@@ -40,6 +42,10 @@ public final class SnowflakeShardingKeyGeneratorTest {
     
     private static final long DEFAULT_SEQUENCE_BITS = 12L;
     
+    private static final long SEQUENCE_MASK = (1L << DEFAULT_SEQUENCE_BITS) - 1;
+    
+    private static final long MILLISECONDS_STATE_SHIFT_BITS = DEFAULT_SEQUENCE_BITS + 1;
+    
     private static final int DEFAULT_KEY_AMOUNT = 10;
     
     @Test
@@ -63,6 +69,57 @@ public final class SnowflakeShardingKeyGeneratorTest {
         assertThat(actual.size(), is(taskNumber));
     }
     
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeysWithMultipleThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+        SnowflakeShardingKeyGenerator.setTimeService(new TimeService());
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                
+                @Override
+                public List<Comparable<?>> call() {
+                    List<Comparable<?>> result = new ArrayList<>();
+                    for (int i = 0; i < 100; i++) {
+                        result.addAll(keyGenerator.generateKeys(50));
+                        result.add(keyGenerator.generateKey());
+                    }
+                    return result;
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 100 * 51));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithSingleThread() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+        SnowflakeShardingKeyGenerator.setTimeService(new FixedTimeService(1));
+        assertThat(keyGenerator.generateKeys(3), is(Arrays.<Comparable<?>>asList(1L, 2L, 3L)));
+        assertThat(keyGenerator.generateKeys(2), is(Arrays.<Comparable<?>>asList(4194304L, 4194305L)));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeShardingKeyGenerator.setTimeService(timeService);
+        keyGenerator.setProperties(new Properties());
+        setLastMilliseconds(keyGenerator, timeService.getCurrentMillis());
+        setSequence(keyGenerator, (1 << DEFAULT_SEQUENCE_BITS) - 2);
+        assertThat(keyGenerator.generateKeys(3), is(Arrays.<Comparable<?>>asList(4095L, 4194305L, 4194306L)));
+    }
+    
     @Test
     public void assertGenerateKeyWithSingleThread() {
         SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
@@ -126,18 +183,21 @@ public final class SnowflakeShardingKeyGeneratorTest {
         assertThat(actual, is(expected));
     }
     
-    @SneakyThrows
-    private void setSequence(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field sequence = SnowflakeShardingKeyGenerator.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerator, value);
+    private void setSequence(final SnowflakeShardingKeyGenerator keyGenerator, final long value) {
+        AtomicLong state = getState(keyGenerator);
+        state.set(state.get() & ~SEQUENCE_MASK | value);
+    }
+    
+    private void setLastMilliseconds(final SnowflakeShardingKeyGenerator keyGenerator, final long value) {
+        AtomicLong state = getState(keyGenerator);
+        state.set(value << MILLISECONDS_STATE_SHIFT_BITS | state.get() & ((1L << MILLISECONDS_STATE_SHIFT_BITS) - 1));
     }
     
     @SneakyThrows
-    private void setLastMilliseconds(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field lastMilliseconds = SnowflakeShardingKeyGenerator.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerator, value);
+    private AtomicLong getState(final SnowflakeShardingKeyGenerator keyGenerator) {
+        Field state = SnowflakeShardingKeyGenerator.class.getDeclaredField("state");
+        state.setAccessible(true);
+        return (AtomicLong) state.get(keyGenerator);
     }
     
     @Test(expected = IllegalArgumentException.class)
@@ -20,20 +20,29 @@ package org.apache.shardingsphere.core.strategy.route;
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.RangePartitionShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.fixture.ComplexKeysShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.PreciseShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.RangeShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.partition.RangePartitionShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.BetweenRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -56,10 +65,73 @@ public final class ShardingStrategyTest {
                 is((Collection<String>) Sets.newHashSet("1")));
     }
     
+    @Test
+    public void assertDoShardingWithUnmodifiableTargetsForModifyingAlgorithm() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithm<Integer>() {
+            
+            @Override
+            public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Integer> shardingValue) {
+                availableTargetNames.retainAll(Collections.singleton(String.valueOf(shardingValue.getValue())));
+                return availableTargetNames.iterator().next();
+            }
+        }));
+        assertThat(strategy.doSharding(Collections.unmodifiableCollection(targets), Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "logicTable", Collections.singletonList(1)))),
+                is((Collection<String>) Sets.newHashSet("1")));
+        assertThat(targets.size(), is(3));
+    }
+    
+    @Test
+    public void assertDoShardingWithUnmodifiableTargetsForModifyingComplexAlgorithm() {
+        ComplexShardingStrategy strategy = new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column", new ComplexKeysShardingAlgorithm<Integer>() {
+            
+            @Override
+            public Collection<String> doSharding(final Collection<String> availableTargetNames, final ComplexKeysShardingValue<Integer> shardingValue) {
+                availableTargetNames.remove("3");
+                return availableTargetNames;
+            }
+        }));
+        assertThat(strategy.doSharding(Collections.unmodifiableCollection(targets), Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "logicTable", Collections.singletonList(1)))),
+                is((Collection<String>) Sets.newHashSet("1", "2")));
+        assertThat(targets.size(), is(3));
+    }
+    
     @Test
     public void assertDoShardingForMultipleKeys() {
         ComplexShardingStrategy strategy = new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column", new ComplexKeysShardingAlgorithmFixture()));
         assertThat(strategy.doSharding(targets, Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "logicTable", Collections.singletonList(1)))), 
                 is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
+    
+    @Test
+    public void assertDoShardingForRangePartitionWithPreciseValues() {
+        RangePartitionShardingStrategy strategy = new RangePartitionShardingStrategy(new RangePartitionShardingStrategyConfiguration("column", createPartitionLowerBounds()));
+        assertThat(strategy.doSharding(targets, Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "logicTable", Arrays.asList(-1, 0, 15L, 100)))), 
+                is((Collection<String>) Sets.newHashSet("1", "2", "3")));
+    }
+    
+    @Test
+    public void assertDoShardingForRangePartitionWithRange() {
+        RangePartitionShardingStrategy strategy = new RangePartitionShardingStrategy(new RangePartitionShardingStrategyConfiguration("column", createPartitionLowerBounds()));
+        assertThat(strategy.doSharding(targets, Collections.<RouteValue>singletonList(new BetweenRouteValue<>("column", "logicTable", Range.closedOpen(5, 20)))), 
+                is((Collection<String>) Sets.newHashSet("1", "2")));
+        assertThat(strategy.doSharding(targets, Collections.<RouteValue>singletonList(new BetweenRouteValue<>("column", "logicTable", Range.atLeast(20L)))), 
+                is((Collection<String>) Sets.newHashSet("3")));
+        assertThat(strategy.doSharding(targets, Collections.<RouteValue>singletonList(new BetweenRouteValue<>("column", "logicTable", Range.lessThan(0)))), 
+                is((Collection<String>) Collections.<String>emptySet()));
+    }
+    
+    @Test
+    public void assertDoShardingForRangePartitionWithUnavailableTarget() {
+        RangePartitionShardingStrategy strategy = new RangePartitionShardingStrategy(new RangePartitionShardingStrategyConfiguration("column", createPartitionLowerBounds()));
+        assertThat(strategy.doSharding(Sets.newHashSet("1", "3"), Collections.<RouteValue>singletonList(new BetweenRouteValue<>("column", "logicTable", Range.closed(0, 30)))), 
+                is((Collection<String>) Sets.newHashSet("1", "3")));
+    }
+    
+    private Map<String, Comparable<?>> createPartitionLowerBounds() {
+        Map<String, Comparable<?>> result = new LinkedHashMap<>(3, 1);
+        result.put("3", 20);
+        result.put("1", 0);
+        result.put("2", 10);
+        return result;
+    }
 }
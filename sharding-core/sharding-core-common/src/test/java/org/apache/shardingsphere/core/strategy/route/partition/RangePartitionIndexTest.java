@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.partition;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Range;
+import org.junit.Test;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class RangePartitionIndexTest {
+    
+    @Test
+    public void assertGetPartitionWithNumericBounds() {
+        RangePartitionIndex actual = new RangePartitionIndex(createPartitionLowerBounds(20, 0, 10L));
+        assertThat(actual.getPartition(-1), is(Optional.<String>absent()));
+        assertThat(actual.getPartition(0L), is(Optional.of("t_1")));
+        assertThat(actual.getPartition(15), is(Optional.of("t_2")));
+        assertThat(actual.getPartition("25"), is(Optional.of("t_0")));
+    }
+    
+    @Test
+    public void assertGetPartitionWithNumericStringBounds() {
+        RangePartitionIndex actual = new RangePartitionIndex(createPartitionLowerBounds("100", "9", "20"));
+        assertThat(actual.getPartition(10), is(Optional.of("t_1")));
+        assertThat(actual.getPartition(99L), is(Optional.of("t_2")));
+        assertThat(actual.getPartition(100), is(Optional.of("t_0")));
+    }
+    
+    @Test
+    public void assertGetPartitionWithDateStringBounds() {
+        RangePartitionIndex actual = new RangePartitionIndex(createPartitionLowerBounds("2019-03-01", "2019-01-01", "2019-02-01 00:00:00"));
+        assertThat(actual.getPartition(Date.valueOf("2018-12-31")), is(Optional.<String>absent()));
+        assertThat(actual.getPartition(Date.valueOf("2019-01-31")), is(Optional.of("t_1")));
+        assertThat(actual.getPartition(Timestamp.valueOf("2019-02-01 00:00:00")), is(Optional.of("t_2")));
+        assertThat(actual.getPartition(new java.util.Date(Timestamp.valueOf("2019-03-15 12:00:00").getTime())), is(Optional.of("t_0")));
+        assertThat(actual.getPartition("2019-02-28 23:59:59.999"), is(Optional.of("t_2")));
+    }
+    
+    @Test
+    public void assertGetPartitionsWithDateRange() {
+        RangePartitionIndex actual = new RangePartitionIndex(createPartitionLowerBounds(Date.valueOf("2019-03-01"), "2019-01-01", Timestamp.valueOf("2019-02-01 00:00:00")));
+        assertThat(actual.getPartitions(Range.closedOpen(Date.valueOf("2019-01-15"), Date.valueOf("2019-03-01"))), is(Arrays.asList("t_1", "t_2")));
+        assertThat(actual.getPartitions(Range.closed(Date.valueOf("2019-01-15"), Date.valueOf("2019-03-01"))), is(Arrays.asList("t_1", "t_2", "t_0")));
+        assertThat(actual.getPartitions(Range.lessThan(Date.valueOf("2019-01-01"))), is(Collections.<String>emptyList()));
+    }
+    
+    @Test
+    public void assertGetPartitionWithStringBounds() {
+        RangePartitionIndex actual = new RangePartitionIndex(createPartitionLowerBounds("n", "a", "g"));
+        assertThat(actual.getPartition("apple"), is(Optional.of("t_1")));
+        assertThat(actual.getPartition("melon"), is(Optional.of("t_2")));
+        assertThat(actual.getPartitions(Range.atLeast("h")), is(Arrays.asList("t_2", "t_0")));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewIndexWithMixedBounds() {
+        new RangePartitionIndex(createPartitionLowerBounds(10, "2019-01-01", "a"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewIndexWithSameBounds() {
+        new RangePartitionIndex(createPartitionLowerBounds(10, "10.0", 20L));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetPartitionWithDateForStringBounds() {
+        new RangePartitionIndex(createPartitionLowerBounds("n", "a", "g")).getPartition(Date.valueOf("2019-01-01"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetPartitionWithNumberForDateBounds() {
+        new RangePartitionIndex(createPartitionLowerBounds("2019-03-01", "2019-01-01", "2019-02-01")).getPartition(20190101);
+    }
+    
+    private Map<String, Comparable<?>> createPartitionLowerBounds(final Comparable<?>... lowerBounds) {
+        Map<String, Comparable<?>> result = new LinkedHashMap<>(lowerBounds.length, 1);
+        for (int i = 0; i < lowerBounds.length; i++) {
+            result.put("t_" + i, lowerBounds[i]);
+        }
+        return result;
+    }
+}
@@ -25,7 +25,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         NumberUtilTest.class,
         StringUtilTest.class,
-        InlineExpressionParserTest.class
+        InlineExpressionParserTest.class,
+        CompiledInlineExpressionTest.class
 })
 public final class AllUtilTests {
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertEvaluateForModulo() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${user_id % 16}").get();
+        assertTrue(actual.isSupported("user_id", 17));
+        assertThat(actual.evaluate(17), is("t_order_1"));
+        assertThat(actual.evaluate(-17L), is("t_order_-1"));
+    }
+    
+    @Test
+    public void assertEvaluateForMultipleSegments() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("ds_${ (id + 1) * 2 % 5 }_t_${-id % 3}").get();
+        assertThat(actual.evaluate(4), is("ds_0_t_-1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithIntegerOverflow() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_${id + 1}").get();
+        assertThat(actual.evaluate(Integer.MAX_VALUE), is("t_" + Integer.MIN_VALUE));
+        assertThat(actual.evaluate((long) Integer.MAX_VALUE), is("t_2147483648"));
+    }
+    
+    @Test
+    public void assertEvaluateWithoutVariable() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${1 + 2}").get();
+        assertTrue(actual.isSupported("any_column", 1));
+        assertThat(actual.evaluate(1), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertIsNotSupported() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${user_id % 16}").get();
+        assertFalse(actual.isSupported("order_id", 1));
+        assertFalse(actual.isSupported("user_id", "1"));
+        assertFalse(actual.isSupported("user_id", 1.5D));
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpressions() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${user_id / 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${user_id.hashCode() % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${user_id + order_id}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${010}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${'0'}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_$user_id").isPresent());
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStr
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.RangePartitionShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.hint.HintShardingAlgorithm;
@@ -35,9 +36,13 @@ import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexS
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlRangePartitionShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import org.junit.Test;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
@@ -73,6 +78,18 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         assertNull(actual.getNone());
     }
     
+    @Test
+    public void assertSwapToYamlWithRangePartition() {
+        YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(new RangePartitionShardingStrategyConfiguration("id", createPartitionLowerBounds()));
+        assertThat(actual.getRangePartition().getShardingColumn(), is("id"));
+        assertThat(actual.getRangePartition().getPartitionLowerBounds(), is(createPartitionLowerBounds()));
+        assertNull(actual.getStandard());
+        assertNull(actual.getInline());
+        assertNull(actual.getComplex());
+        assertNull(actual.getHint());
+        assertNull(actual.getNone());
+    }
+    
     @Test
     public void assertSwapToYamlWithComplex() {
         ComplexKeysShardingAlgorithm complexKeysShardingAlgorithm = mock(ComplexKeysShardingAlgorithm.class);
@@ -150,6 +167,30 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         return result;
     }
     
+    @Test
+    public void assertSwapToObjectWithRangePartition() {
+        RangePartitionShardingStrategyConfiguration actual =
+                (RangePartitionShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createRangePartitionShardingStrategyConfiguration());
+        assertThat(actual.getShardingColumn(), is("id"));
+        assertThat(actual.getPartitionLowerBounds(), is(createPartitionLowerBounds()));
+    }
+    
+    private YamlShardingStrategyConfiguration createRangePartitionShardingStrategyConfiguration() {
+        YamlRangePartitionShardingStrategyConfiguration yamlRangePartitionShardingStrategyConfiguration = new YamlRangePartitionShardingStrategyConfiguration();
+        yamlRangePartitionShardingStrategyConfiguration.setShardingColumn("id");
+        yamlRangePartitionShardingStrategyConfiguration.setPartitionLowerBounds(createPartitionLowerBounds());
+        YamlShardingStrategyConfiguration result = new YamlShardingStrategyConfiguration();
+        result.setRangePartition(yamlRangePartitionShardingStrategyConfiguration);
+        return result;
+    }
+    
+    private Map<String, Comparable<?>> createPartitionLowerBounds() {
+        Map<String, Comparable<?>> result = new LinkedHashMap<>(2, 1);
+        result.put("xxx_0", 0);
+        result.put("xxx_1", 1000);
+        return result;
+    }
+    
     @Test
     public void assertSwapToObjectWithComplex() {
         ComplexShardingStrategyConfiguration actual = (ComplexShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createComplexShardingStrategyConfiguration());
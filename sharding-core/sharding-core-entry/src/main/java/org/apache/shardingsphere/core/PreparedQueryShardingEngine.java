@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.rewrite.RewrittenSQLCache;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -44,6 +46,8 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     
     private final PreparedStatementRoutingEngine routingEngine;
     
+    private final RewrittenSQLCache rewrittenSQLCache = new RewrittenSQLCache();
+    
     public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
                                        final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
         super(shardingRule, shardingProperties, metaData, databaseType);
@@ -59,4 +63,9 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
         return routingEngine.route(parameters);
     }
+    
+    @Override
+    protected Optional<RewrittenSQLCache> getRewrittenSQLCache() {
+        return Optional.of(rewrittenSQLCache);
+    }
 }
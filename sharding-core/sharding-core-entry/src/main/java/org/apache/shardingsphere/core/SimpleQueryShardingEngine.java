@@ -17,15 +17,25 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.parameterize.ParameterizedSQL;
+import org.apache.shardingsphere.core.parse.parameterize.SQLParameterizeEngine;
+import org.apache.shardingsphere.core.rewrite.RewrittenSQLCache;
+import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -44,19 +54,61 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     
     private final StatementRoutingEngine routingEngine;
     
+    private final SQLParameterizeEngine parameterizeEngine;
+    
+    private final boolean parameterizeEnabled;
+    
     public SimpleQueryShardingEngine(final ShardingRule shardingRule, 
                                      final ShardingProperties shardingProperties, final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
         super(shardingRule, shardingProperties, metaData, databaseType);
         routingEngine = new StatementRoutingEngine(shardingRule, metaData, databaseType, cache);
+        parameterizeEngine = new SQLParameterizeEngine(databaseType);
+        parameterizeEnabled = shardingProperties.getValue(ShardingPropertiesConstant.SIMPLE_QUERY_PARAMETERIZE_ENABLED);
+    }
+    
+    @Override
+    public SQLRouteResult shard(final String sql, final List<Object> parameters) {
+        Optional<ParameterizedSQL> parameterizedSQL = parameterizeEnabled ? parameterizeEngine.parameterize(sql) : Optional.<ParameterizedSQL>absent();
+        SQLRouteResult result = parameterizedSQL.isPresent() ? shardParameterizedSQL(sql, parameterizedSQL.get()) : doShard(sql, Collections.emptyList());
+        logSQL(sql, result);
+        return result;
+    }
+    
+    private SQLRouteResult shardParameterizedSQL(final String sql, final ParameterizedSQL parameterizedSQL) {
+        SQLRouteResult result;
+        try {
+            result = doShard(parameterizedSQL.getSql(), parameterizedSQL.getParameters());
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            return doShard(sql, Collections.emptyList());
+        }
+        restoreRouteUnits(result.getRouteUnits());
+        return result;
+    }
+    
+    private void restoreRouteUnits(final Collection<RouteUnit> routeUnits) {
+        Collection<RouteUnit> restoredRouteUnits = new LinkedList<>();
+        for (RouteUnit each : routeUnits) {
+            String restoredSQL = parameterizeEngine.restore(each.getSqlUnit().getSql(), each.getSqlUnit().getParameters());
+            restoredRouteUnits.add(new RouteUnit(each.getDataSourceName(), new SQLUnit(restoredSQL, Collections.emptyList())));
+        }
+        routeUnits.clear();
+        routeUnits.addAll(restoredRouteUnits);
     }
     
     @Override
     protected List<Object> cloneParameters(final List<Object> parameters) {
-        return Collections.emptyList();
+        return new ArrayList<>(parameters);
     }
     
     @Override
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
-        return routingEngine.route(sql);
+        return parameters.isEmpty() ? routingEngine.route(sql) : routingEngine.route(sql, parameters);
+    }
+    
+    @Override
+    protected Optional<RewrittenSQLCache> getRewrittenSQLCache() {
+        return Optional.absent();
     }
 }
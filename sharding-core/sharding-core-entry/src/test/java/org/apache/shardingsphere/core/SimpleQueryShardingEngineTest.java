@@ -17,20 +17,31 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -52,8 +63,12 @@ public final class SimpleQueryShardingEngineTest extends BaseShardingEngineTest
         setRoutingEngine();
     }
     
-    @SneakyThrows
     private void setRoutingEngine() {
+        setRoutingEngine(shardingEngine);
+    }
+    
+    @SneakyThrows
+    private void setRoutingEngine(final SimpleQueryShardingEngine shardingEngine) {
         Field field = SimpleQueryShardingEngine.class.getDeclaredField("routingEngine");
         field.setAccessible(true);
         field.set(shardingEngine, routingEngine);
@@ -63,4 +78,34 @@ public final class SimpleQueryShardingEngineTest extends BaseShardingEngineTest
         when(routingEngine.route(getSql())).thenReturn(createSQLRouteResult());
         assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
     }
+    
+    @Test
+    public void assertShardWithParameterizeEnabled() {
+        SimpleQueryShardingEngine shardingEngine = createParameterizeEnabledShardingEngine();
+        when(routingEngine.route("SELECT * FROM t_order WHERE order_id = ? AND status = ?", Lists.<Object>newArrayList(1, "init"))).thenReturn(createSQLRouteResult());
+        SQLRouteResult actual = shardingEngine.shard("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'", Collections.emptyList());
+        assertThat(actual.getRouteUnits().size(), is(1));
+        RouteUnit actualRouteUnit = actual.getRouteUnits().iterator().next();
+        assertThat(actualRouteUnit.getSqlUnit().getSql(), is("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'"));
+        assertTrue(actualRouteUnit.getSqlUnit().getParameters().isEmpty());
+    }
+    
+    @Test
+    public void assertShardWithParameterizeEnabledFallbackToOriginalSQL() {
+        SimpleQueryShardingEngine shardingEngine = createParameterizeEnabledShardingEngine();
+        when(routingEngine.route("SELECT * FROM t_order WHERE order_id = ?", Lists.<Object>newArrayList(1))).thenThrow(new ShardingException("Unsupported parameterized SQL"));
+        when(routingEngine.route("SELECT * FROM t_order WHERE order_id = 1")).thenReturn(createSQLRouteResult());
+        SQLRouteResult actual = shardingEngine.shard("SELECT * FROM t_order WHERE order_id = 1", Collections.emptyList());
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertThat(actual.getRouteUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM t_order WHERE order_id = 1"));
+    }
+    
+    private SimpleQueryShardingEngine createParameterizeEnabledShardingEngine() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.SIMPLE_QUERY_PARAMETERIZE_ENABLED.getKey(), Boolean.TRUE.toString());
+        SimpleQueryShardingEngine result = new SimpleQueryShardingEngine(
+                mock(ShardingRule.class), new ShardingProperties(props), mock(ShardingMetaData.class), DatabaseType.MySQL, new ParsingResultCache());
+        setRoutingEngine(result);
+        return result;
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Execute queue of one data source.
+ * 
+ * <p>
+ * Tasks over max concurrency wait in the queue instead of on executor threads,
+ * and are handed to executor when running ones of same data source release their permits.
+ * Tasks rejected by a closed executor are cancelled.
+ * </p>
+ *
+ * @author agent
+ */
+final class DataSourceExecuteQueue {
+    
+    private final Semaphore permits;
+    
+    private final Queue<RunnableFuture<?>> pendingTasks = new ConcurrentLinkedQueue<>();
+    
+    DataSourceExecuteQueue(final int maxConcurrency) {
+        permits = new Semaphore(maxConcurrency, true);
+    }
+    
+    /**
+     * Submit task, which will be executed by executor once a permit is available.
+     * 
+     * @param task task to be executed
+     * @param executor executor
+     */
+    void submit(final RunnableFuture<?> task, final Executor executor) {
+        pendingTasks.offer(task);
+        drain(executor);
+    }
+    
+    /**
+     * Acquire permit for trunk thread, which waits until running tasks of same data source release permits.
+     */
+    void acquire() {
+        permits.acquireUninterruptibly();
+    }
+    
+    /**
+     * Release permit and hand pending tasks over to executor.
+     * 
+     * @param executor executor
+     */
+    void release(final Executor executor) {
+        permits.release();
+        drain(executor);
+    }
+    
+    private void drain(final Executor executor) {
+        while (!pendingTasks.isEmpty() && permits.tryAcquire()) {
+            RunnableFuture<?> task = pendingTasks.poll();
+            if (null == task) {
+                permits.release();
+                continue;
+            }
+            execute(task, executor);
+        }
+    }
+    
+    private void execute(final RunnableFuture<?> task, final Executor executor) {
+        try {
+            executor.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    try {
+                        task.run();
+                    } finally {
+                        release(executor);
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            permits.release();
+            task.cancel(false);
+        }
+    }
+}
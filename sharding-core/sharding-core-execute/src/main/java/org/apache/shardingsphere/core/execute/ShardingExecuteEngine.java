@@ -17,10 +17,15 @@
 
 package org.apache.shardingsphere.core.execute;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.hook.ExecuteGroupHook;
+import org.apache.shardingsphere.core.execute.hook.SPIExecuteGroupHook;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -30,10 +35,19 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 
 /**
  * Sharding execute engine.
+ * 
+ * <p>
+ * Execute groups bound to one data source can be limited to run concurrently up to max concurrency per data source, zero means unlimited.
+ * Groups over the limit wait in a queue of their data source before submitted, so that executor threads are never parked by a busy data source.
+ * Queue wait and execution time of each execute group are reported to execute group hooks.
+ * </p>
  *
  * @author zhangliang
  */
@@ -41,11 +55,26 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private final ShardingExecutorService shardingExecutorService;
     
-    private ListeningExecutorService executorService;
+    private final ListeningExecutorService executorService;
+    
+    private final int maxConcurrencyPerDataSource;
+    
+    private final ConcurrentMap<String, DataSourceExecuteQueue> dataSourceExecuteQueues = new ConcurrentHashMap<>();
+    
+    private final ExecuteGroupHook executeGroupHook = new SPIExecuteGroupHook();
     
     public ShardingExecuteEngine(final int executorSize) {
-        shardingExecutorService = new ShardingExecutorService(executorSize);
+        this(executorSize, ShardingExecutorMode.PLATFORM_THREAD);
+    }
+    
+    public ShardingExecuteEngine(final int executorSize, final ShardingExecutorMode executorMode) {
+        this(executorSize, executorMode, 0);
+    }
+    
+    public ShardingExecuteEngine(final int executorSize, final ShardingExecutorMode executorMode, final int maxConcurrencyPerDataSource) {
+        shardingExecutorService = new ShardingExecutorService(executorSize, executorMode);
         executorService = shardingExecutorService.getExecutorService();
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
     }
     
     /**
@@ -77,10 +106,33 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     public <I, O> List<O> groupExecute(
         final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback, final ShardingGroupExecuteCallback<I, O> callback, final boolean serial)
         throws SQLException {
+        return groupExecute(inputGroups, firstCallback, callback, serial, false);
+    }
+    
+    /**
+     * Execute for group.
+     * 
+     * <p>
+     * Results of parallel execution can be returned in completion order of groups for mergers which do not care about group order,
+     * results of first group are always returned first because first group is executed by trunk thread.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param firstCallback first sharding execute callback
+     * @param callback sharding execute callback
+     * @param serial whether using multi thread execute or not
+     * @param inCompletionOrder whether returning results in completion order of groups or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> List<O> groupExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback, 
+                                       final ShardingGroupExecuteCallback<I, O> callback, final boolean serial, final boolean inCompletionOrder) throws SQLException {
         if (inputGroups.isEmpty()) {
             return Collections.emptyList();
         }
-        return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
+        return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback, inCompletionOrder);
     }
     
     private <I, O> List<O> serialExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback,
@@ -96,11 +148,11 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     }
     
     private <I, O> List<O> parallelExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback,
-                                           final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
+                                           final ShardingGroupExecuteCallback<I, O> callback, final boolean inCompletionOrder) throws SQLException {
         Iterator<ShardingExecuteGroup<I>> inputGroupsIterator = inputGroups.iterator();
         ShardingExecuteGroup<I> firstInputs = inputGroupsIterator.next();
         Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncGroupExecute(Lists.newArrayList(inputGroupsIterator), callback);
-        return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures, inCompletionOrder);
     }
     
     private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
@@ -113,30 +165,83 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private <I, O> ListenableFuture<Collection<O>> asyncGroupExecute(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback) {
         final Map<String, Object> dataMap = ShardingExecuteDataMap.getDataMap();
-        return executorService.submit(new Callable<Collection<O>>() {
+        final long submittedNanos = System.nanoTime();
+        ListenableFutureTask<Collection<O>> result = ListenableFutureTask.create(new Callable<Collection<O>>() {
             
             @Override
             public Collection<O> call() throws SQLException {
-                return callback.execute(inputGroup.getInputs(), false, dataMap);
+                return execute(inputGroup, callback, false, dataMap, submittedNanos);
             }
         });
+        Optional<DataSourceExecuteQueue> dataSourceExecuteQueue = getDataSourceExecuteQueue(inputGroup.getDataSourceName());
+        if (dataSourceExecuteQueue.isPresent()) {
+            dataSourceExecuteQueue.get().submit(result, executorService);
+        } else {
+            executorService.execute(result);
+        }
+        return result;
     }
     
     private <I, O> Collection<O> syncGroupExecute(final ShardingExecuteGroup<I> executeGroup, final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
-        return callback.execute(executeGroup.getInputs(), true, ShardingExecuteDataMap.getDataMap());
+        long submittedNanos = System.nanoTime();
+        Optional<DataSourceExecuteQueue> dataSourceExecuteQueue = getDataSourceExecuteQueue(executeGroup.getDataSourceName());
+        if (!dataSourceExecuteQueue.isPresent()) {
+            return execute(executeGroup, callback, true, ShardingExecuteDataMap.getDataMap(), submittedNanos);
+        }
+        dataSourceExecuteQueue.get().acquire();
+        try {
+            return execute(executeGroup, callback, true, ShardingExecuteDataMap.getDataMap(), submittedNanos);
+        } finally {
+            dataSourceExecuteQueue.get().release(executorService);
+        }
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>();
-        result.addAll(firstResults);
-        for (ListenableFuture<Collection<O>> each : restFutures) {
-            try {
+    private <I, O> Collection<O> execute(final ShardingExecuteGroup<I> executeGroup, final ShardingGroupExecuteCallback<I, O> callback,
+                                         final boolean isTrunkThread, final Map<String, Object> dataMap, final long submittedNanos) throws SQLException {
+        long startedNanos = System.nanoTime();
+        try {
+            return callback.execute(executeGroup.getInputs(), isTrunkThread, dataMap);
+        } finally {
+            executeGroupHook.finish(executeGroup.getDataSourceName(), isTrunkThread, startedNanos - submittedNanos, System.nanoTime() - startedNanos);
+        }
+    }
+    
+    private Optional<DataSourceExecuteQueue> getDataSourceExecuteQueue(final String dataSourceName) {
+        if (maxConcurrencyPerDataSource <= 0 || null == dataSourceName) {
+            return Optional.absent();
+        }
+        if (!dataSourceExecuteQueues.containsKey(dataSourceName)) {
+            dataSourceExecuteQueues.putIfAbsent(dataSourceName, new DataSourceExecuteQueue(maxConcurrencyPerDataSource));
+        }
+        return Optional.of(dataSourceExecuteQueues.get(dataSourceName));
+    }
+    
+    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures, final boolean inCompletionOrder) throws SQLException {
+        try {
+            List<O> result = new LinkedList<>();
+            result.addAll(firstResults);
+            if (inCompletionOrder) {
+                for (ListenableFuture<Collection<O>> each : Futures.inCompletionOrder(restFutures)) {
+                    result.addAll(each.get());
+                }
+                return result;
+            }
+            waitForCompletion(restFutures);
+            for (ListenableFuture<Collection<O>> each : restFutures) {
                 result.addAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                return throwException(ex);
             }
+            return result;
+        } catch (final InterruptedException | ExecutionException ex) {
+            return throwException(ex);
+        } catch (final CancellationException ex) {
+            throw new ShardingException("Execute group is rejected by closed executor.", ex);
+        }
+    }
+    
+    private <O> void waitForCompletion(final Collection<ListenableFuture<Collection<O>>> futures) throws InterruptedException, ExecutionException {
+        for (ListenableFuture<Collection<O>> each : Futures.inCompletionOrder(futures)) {
+            each.get();
         }
-        return result;
     }
     
     private <O> List<O> throwException(final Exception exception) throws SQLException {
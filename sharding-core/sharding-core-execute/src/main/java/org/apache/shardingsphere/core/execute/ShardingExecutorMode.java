@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+/**
+ * Sharding executor mode.
+ *
+ * @author agent
+ */
+public enum ShardingExecutorMode {
+    
+    /**
+     * Execute groups on platform threads of a thread pool.
+     */
+    PLATFORM_THREAD,
+    
+    /**
+     * Execute each group on a new virtual thread, available on JDK 21 or above.
+     */
+    VIRTUAL_THREAD;
+    
+    /**
+     * Get sharding executor mode via name.
+     *
+     * @param name name of sharding executor mode, case insensitive
+     * @return sharding executor mode
+     */
+    public static ShardingExecutorMode valueFrom(final String name) {
+        for (ShardingExecutorMode each : values()) {
+            if (each.name().equalsIgnoreCase(name)) {
+                return each;
+            }
+        }
+        throw new UnsupportedOperationException(String.format("Cannot find executor mode '%s'.", name));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.execute;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import org.apache.shardingsphere.core.exception.ShardingException;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -39,22 +40,47 @@ public final class ShardingExecutorService {
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
-    private ListeningExecutorService executorService;
+    private final ListeningExecutorService executorService;
     
     public ShardingExecutorService(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ShardingExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, ShardingExecutorMode.PLATFORM_THREAD);
+    }
+    
+    public ShardingExecutorService(final int executorSize, final ShardingExecutorMode executorMode) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorMode);
+    }
+    
+    public ShardingExecutorService(final int executorSize, final String nameFormat, final ShardingExecutorMode executorMode) {
+        executorService = MoreExecutors.listeningDecorator(createExecutorService(executorSize, nameFormat, executorMode));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
+    private ExecutorService createExecutorService(final int executorSize, final String nameFormat, final ShardingExecutorMode executorMode) {
+        switch (executorMode) {
+            case VIRTUAL_THREAD:
+                return getVirtualThreadExecutorService();
+            default:
+                return getExecutorService(executorSize, nameFormat);
+        }
+    }
+    
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
         ThreadFactory shardingThreadFactory = ShardingThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(shardingThreadFactory) : Executors.newFixedThreadPool(executorSize, shardingThreadFactory);
     }
     
+    private ExecutorService getVirtualThreadExecutorService() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            throw new ShardingException("Executor mode 'VIRTUAL_THREAD' requires JDK 21 or above.", ex);
+        }
+    }
+    
     /**
      * Close executor service.
      */
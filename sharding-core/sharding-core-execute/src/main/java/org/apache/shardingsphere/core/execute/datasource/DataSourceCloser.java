@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.datasource;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Supplier;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Data source closer.
+ * 
+ * <p>
+ * Replaced data sources can be closed after drained, which means no connection of data source is in use or drain timeout exceeded.
+ * Active connections are recognized for HikariCP, DBCP, Tomcat JDBC and Druid pools, other data sources are closed without draining.
+ * Other resources can be closed after drained too, with their own drained condition.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class DataSourceCloser {
+    
+    private static final long DRAIN_TIMEOUT_MILLISECONDS = 60 * 1000L;
+    
+    private static final long DRAIN_CHECK_INTERVAL_MILLISECONDS = 100L;
+    
+    private static final ExecutorService CLOSE_EXECUTOR = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("DataSource-Closer"));
+    
+    /**
+     * Close data source.
+     * 
+     * @param dataSource data source to be closed
+     */
+    public static void close(final DataSource dataSource) {
+        try {
+            Method method = dataSource.getClass().getDeclaredMethod("close");
+            method.setAccessible(true);
+            method.invoke(dataSource);
+        } catch (final ReflectiveOperationException ignored) {
+        }
+    }
+    
+    /**
+     * Close data sources and resources asynchronously after data sources drained.
+     * 
+     * @param dataSources data sources to be closed
+     * @param resources resources to be closed after data sources closed
+     */
+    public static void closeAfterDrained(final Collection<DataSource> dataSources, final AutoCloseable... resources) {
+        final Collection<DataSource> closingDataSources = new ArrayList<>(dataSources);
+        final Collection<AutoCloseable> closingResources = Arrays.asList(resources);
+        CLOSE_EXECUTOR.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLISECONDS;
+                for (DataSource each : closingDataSources) {
+                    awaitDrained(each, deadline);
+                    close(each);
+                }
+                for (AutoCloseable each : closingResources) {
+                    closeResource(each);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Close resource asynchronously after resource drained.
+     * 
+     * @param resource resource to be closed
+     * @param drainedCondition condition of resource drained
+     */
+    public static void closeAfterDrained(final AutoCloseable resource, final Supplier<Boolean> drainedCondition) {
+        CLOSE_EXECUTOR.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                awaitDrained(drainedCondition, System.currentTimeMillis() + DRAIN_TIMEOUT_MILLISECONDS);
+                closeResource(resource);
+            }
+        });
+    }
+    
+    private static void awaitDrained(final DataSource dataSource, final long deadline) {
+        awaitDrained(new Supplier<Boolean>() {
+            
+            @Override
+            public Boolean get() {
+                return getActiveConnections(dataSource).or(0) <= 0;
+            }
+        }, deadline);
+    }
+    
+    private static void awaitDrained(final Supplier<Boolean> drainedCondition, final long deadline) {
+        while (System.currentTimeMillis() < deadline && !drainedCondition.get()) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(DRAIN_CHECK_INTERVAL_MILLISECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    private static Optional<Integer> getActiveConnections(final DataSource dataSource) {
+        try {
+            Optional<Method> poolMXBeanMethod = findMethod(dataSource, "getHikariPoolMXBean");
+            if (poolMXBeanMethod.isPresent()) {
+                Object poolMXBean = poolMXBeanMethod.get().invoke(dataSource);
+                return null == poolMXBean ? Optional.of(0) : Optional.of((Integer) poolMXBean.getClass().getMethod("getActiveConnections").invoke(poolMXBean));
+            }
+            for (String each : Arrays.asList("getNumActive", "getActiveCount")) {
+                Optional<Method> activeCountMethod = findMethod(dataSource, each);
+                if (activeCountMethod.isPresent()) {
+                    return Optional.of(((Number) activeCountMethod.get().invoke(dataSource)).intValue());
+                }
+            }
+        } catch (final ReflectiveOperationException | ClassCastException ex) {
+            log.warn("Can not get active connections of data source `{}`.", dataSource.getClass().getName(), ex);
+        }
+        return Optional.absent();
+    }
+    
+    private static Optional<Method> findMethod(final DataSource dataSource, final String methodName) {
+        try {
+            return Optional.of(dataSource.getClass().getMethod(methodName));
+        } catch (final NoSuchMethodException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private static void closeResource(final AutoCloseable resource) {
+        try {
+            resource.close();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Close resource `{}` failure.", resource.getClass().getName(), ex);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.datasource;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Data source warmer.
+ * 
+ * <p>
+ * Connections up to minimum idle size of pool are borrowed at the same time and then released, so the pool holds them as idle connections before serving.
+ * Minimum idle size is recognized for HikariCP, DBCP, Tomcat JDBC and Druid pools, one connection is borrowed for other data sources.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class DataSourceWarmer {
+    
+    /**
+     * Warm up data source.
+     * 
+     * @param dataSource data source to be warmed up
+     * @throws SQLException SQL exception
+     */
+    public static void warmUp(final DataSource dataSource) throws SQLException {
+        int connectionSize = getWarmUpConnectionSize(dataSource);
+        Collection<Connection> connections = new ArrayList<>(connectionSize);
+        try {
+            for (int i = 0; i < connectionSize; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection each : connections) {
+                each.close();
+            }
+        }
+    }
+    
+    private static int getWarmUpConnectionSize(final DataSource dataSource) {
+        Optional<Integer> minIdle = getPoolSize(dataSource, "getMinimumIdle", "getMinIdle");
+        Optional<Integer> maxPoolSize = getPoolSize(dataSource, "getMaximumPoolSize", "getMaxTotal", "getMaxActive");
+        int result = Math.max(minIdle.or(1), 1);
+        return maxPoolSize.isPresent() && maxPoolSize.get() > 0 ? Math.min(result, maxPoolSize.get()) : result;
+    }
+    
+    private static Optional<Integer> getPoolSize(final DataSource dataSource, final String... methodNames) {
+        for (String each : Arrays.asList(methodNames)) {
+            try {
+                Method method = dataSource.getClass().getMethod(each);
+                return Optional.of(((Number) method.invoke(dataSource)).intValue());
+            } catch (final NoSuchMethodException ignored) {
+            } catch (final ReflectiveOperationException | ClassCastException ex) {
+                log.warn("Can not get pool size by `{}` of data source `{}`.", each, dataSource.getClass().getName(), ex);
+                return Optional.absent();
+            }
+        }
+        return Optional.absent();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.hook;
+
+/**
+ * Execute group hook.
+ *
+ * @author agent
+ */
+public interface ExecuteGroupHook {
+    
+    /**
+     * Handle when execute group finished.
+     * 
+     * @param dataSourceName data source name of execute group, null if execute group is not bound to one data source
+     * @param isTrunkThread is execution in trunk thread
+     * @param queueWaitNanos nanoseconds from execute group submitted to execution started, including waiting for concurrency permit of data source
+     * @param executionNanos nanoseconds of execution
+     */
+    void finish(String dataSourceName, boolean isTrunkThread, long queueWaitNanos, long executionNanos);
+}
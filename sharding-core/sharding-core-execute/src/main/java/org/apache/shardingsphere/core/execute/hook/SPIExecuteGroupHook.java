@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.hook;
+
+import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
+
+import java.util.Collection;
+
+/**
+ * Execute group hook for SPI.
+ *
+ * @author agent
+ */
+public final class SPIExecuteGroupHook implements ExecuteGroupHook {
+    
+    private final Collection<ExecuteGroupHook> executeGroupHooks = NewInstanceServiceLoader.newServiceInstances(ExecuteGroupHook.class);
+    
+    static {
+        NewInstanceServiceLoader.register(ExecuteGroupHook.class);
+    }
+    
+    @Override
+    public void finish(final String dataSourceName, final boolean isTrunkThread, final long queueWaitNanos, final long executionNanos) {
+        for (ExecuteGroupHook each : executeGroupHooks) {
+            each.finish(dataSourceName, isTrunkThread, queueWaitNanos, executionNanos);
+        }
+    }
+}
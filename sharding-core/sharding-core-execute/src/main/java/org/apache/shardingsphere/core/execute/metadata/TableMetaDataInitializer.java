@@ -18,10 +18,14 @@
 package org.apache.shardingsphere.core.execute.metadata;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
+import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
@@ -30,10 +34,18 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Table meta data initializer.
@@ -42,16 +54,27 @@ import java.util.Map;
  */
 public final class TableMetaDataInitializer {
     
+    private static final int MAX_LOADING_GROUP_COUNT = Runtime.getRuntime().availableProcessors() * 2;
+    
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
+    private final ShardingExecuteEngine executeEngine;
+    
     private final TableMetaDataConnectionManager connectionManager;
     
+    private final boolean isCheckingMetaData;
+    
+    private final int maxLoadingGroupCount;
+    
     private final TableMetaDataLoader tableMetaDataLoader;
     
     public TableMetaDataInitializer(final ShardingDataSourceMetaData shardingDataSourceMetaData, final ShardingExecuteEngine executeEngine, 
                                     final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final boolean isCheckingMetaData) {
         this.shardingDataSourceMetaData = shardingDataSourceMetaData;
+        this.executeEngine = executeEngine;
         this.connectionManager = connectionManager;
+        this.isCheckingMetaData = isCheckingMetaData;
+        maxLoadingGroupCount = Math.max(Math.min(MAX_LOADING_GROUP_COUNT, maxConnectionsSizePerQuery), 1);
         tableMetaDataLoader = new TableMetaDataLoader(shardingDataSourceMetaData, executeEngine, connectionManager, maxConnectionsSizePerQuery, isCheckingMetaData);
     }
     
@@ -67,6 +90,44 @@ public final class TableMetaDataInitializer {
         return tableMetaDataLoader.load(logicTableName, shardingRule);
     }
     
+    /**
+     * Load table meta data if table is existed.
+     * 
+     * <p>
+     * Tables with table rule or broadcast tables are always loaded as the same as loading all table meta data, 
+     * other tables are loaded from default data source only if existed.
+     * </p>
+     *
+     * @param logicTableName logic table name
+     * @param shardingRule sharding rule
+     * @return table meta data, absent if table is not existed
+     * @throws SQLException SQL exception
+     */
+    public Optional<TableMetaData> loadIfExisted(final String logicTableName, final ShardingRule shardingRule) throws SQLException {
+        if (shardingRule.findTableRule(logicTableName).isPresent() || shardingRule.isBroadcastTable(logicTableName)) {
+            return Optional.of(tableMetaDataLoader.load(logicTableName, shardingRule));
+        }
+        Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
+        if (!actualDefaultDataSourceName.isPresent() || logicTableName.contains("$") || logicTableName.contains("/")) {
+            return Optional.absent();
+        }
+        DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(actualDefaultDataSourceName.get());
+        String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
+        try (Connection connection = connectionManager.getConnection(actualDefaultDataSourceName.get())) {
+            String schemaName = getCurrentSchemaName(connection);
+            if (!isTableExisted(connection, catalog, schemaName, logicTableName)) {
+                return Optional.absent();
+            }
+            Map<String, String> columnTypes = new LinkedHashMap<>();
+            try (ResultSet resultSet = connection.getMetaData().getColumns(catalog, schemaName, logicTableName, "%")) {
+                while (resultSet.next()) {
+                    columnTypes.put(resultSet.getString("COLUMN_NAME"), resultSet.getString("TYPE_NAME"));
+                }
+            }
+            return Optional.of(createTableMetaData(columnTypes, getPrimaryKeys(connection, catalog, schemaName, logicTableName)));
+        }
+    }
+    
     /**
      * Load all table meta data.
      * 
@@ -82,30 +143,72 @@ public final class TableMetaDataInitializer {
     }
     
     private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+        List<String> logicTableNames = new ArrayList<>(shardingRule.getTableRules().size());
         for (TableRule each : shardingRule.getTableRules()) {
-            result.put(each.getLogicTable(), tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+            logicTableNames.add(each.getLogicTable());
+        }
+        return loadTables(logicTableNames, shardingRule);
+    }
+    
+    private Map<String, TableMetaData> loadTables(final List<String> logicTableNames, final ShardingRule shardingRule) throws SQLException {
+        Map<String, TableMetaData> result = new HashMap<>(logicTableNames.size(), 1);
+        if (isCheckingMetaData) {
+            // Checking loads every data node of a table on the execute engine, so tables are loaded one by one to avoid nesting on the same executor.
+            for (String each : logicTableNames) {
+                result.put(each, tableMetaDataLoader.load(each, shardingRule));
+            }
+            return result;
+        }
+        List<TableMetaData> tableMetaDataList = executeEngine.groupExecute(getLoadingGroups(logicTableNames), new ShardingGroupExecuteCallback<String, TableMetaData>() {
+            
+            @Override
+            public Collection<TableMetaData> execute(final Collection<String> groupedTableNames, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                Collection<TableMetaData> tableMetaDataCollection = new LinkedList<>();
+                for (String each : groupedTableNames) {
+                    tableMetaDataCollection.add(tableMetaDataLoader.load(each, shardingRule));
+                }
+                return tableMetaDataCollection;
+            }
+        });
+        Iterator<TableMetaData> tableMetaDataIterator = tableMetaDataList.iterator();
+        for (String each : logicTableNames) {
+            result.put(each, tableMetaDataIterator.next());
         }
         return result;
     }
     
     private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
         Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
-        if (actualDefaultDataSourceName.isPresent()) {
-            for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
-                result.put(each, tableMetaDataLoader.load(each, shardingRule));
+        if (!actualDefaultDataSourceName.isPresent()) {
+            return Collections.emptyMap();
+        }
+        String dataSourceName = actualDefaultDataSourceName.get();
+        DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
+        String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
+        List<String> ruleTableNames = new LinkedList<>();
+        List<String> plainTableNames = new LinkedList<>();
+        String schemaName;
+        Map<String, Map<String, String>> columnTypes;
+        try (Connection connection = connectionManager.getConnection(dataSourceName)) {
+            schemaName = getCurrentSchemaName(connection);
+            for (String each : getAllTableNames(connection, catalog, schemaName)) {
+                if (shardingRule.findTableRule(each).isPresent() || shardingRule.isBroadcastTable(each)) {
+                    ruleTableNames.add(each);
+                } else {
+                    plainTableNames.add(each);
+                }
             }
+            columnTypes = getColumnTypes(connection, catalog, schemaName, plainTableNames);
         }
+        Map<String, TableMetaData> result = new HashMap<>(plainTableNames.size() + ruleTableNames.size(), 1);
+        result.putAll(loadPlainTables(dataSourceName, catalog, schemaName, plainTableNames, columnTypes));
+        result.putAll(loadTables(ruleTableNames, shardingRule));
         return result;
     }
     
-    private Collection<String> getAllTableNames(final String dataSourceName) throws SQLException {
+    private Collection<String> getAllTableNames(final Connection connection, final String catalog, final String schemaName) throws SQLException {
         Collection<String> result = new LinkedHashSet<>();
-        DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
-        String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
-        try (Connection connection = connectionManager.getConnection(dataSourceName);
-             ResultSet resultSet = connection.getMetaData().getTables(catalog, getCurrentSchemaName(connection), null, new String[]{"TABLE"})) {
+        try (ResultSet resultSet = connection.getMetaData().getTables(catalog, schemaName, null, new String[]{"TABLE"})) {
             while (resultSet.next()) {
                 String tableName = resultSet.getString("TABLE_NAME");
                 if (!tableName.contains("$") && !tableName.contains("/")) {
@@ -116,6 +219,86 @@ public final class TableMetaDataInitializer {
         return result;
     }
     
+    private boolean isTableExisted(final Connection connection, final String catalog, final String schemaName, final String tableName) throws SQLException {
+        try (ResultSet resultSet = connection.getMetaData().getTables(catalog, schemaName, tableName, new String[]{"TABLE"})) {
+            while (resultSet.next()) {
+                if (tableName.equals(resultSet.getString("TABLE_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private Map<String, Map<String, String>> getColumnTypes(final Connection connection, final String catalog, final String schemaName, final Collection<String> tableNames) throws SQLException {
+        Map<String, Map<String, String>> result = new HashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            result.put(each, new LinkedHashMap<String, String>());
+        }
+        if (tableNames.isEmpty()) {
+            return result;
+        }
+        try (ResultSet resultSet = connection.getMetaData().getColumns(catalog, schemaName, "%", "%")) {
+            while (resultSet.next()) {
+                Map<String, String> tableColumnTypes = result.get(resultSet.getString("TABLE_NAME"));
+                if (null != tableColumnTypes) {
+                    tableColumnTypes.put(resultSet.getString("COLUMN_NAME"), resultSet.getString("TYPE_NAME"));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, TableMetaData> loadPlainTables(final String dataSourceName, final String catalog, final String schemaName,
+                                                       final List<String> tableNames, final Map<String, Map<String, String>> columnTypes) throws SQLException {
+        List<TableMetaData> tableMetaDataList = executeEngine.groupExecute(getLoadingGroups(tableNames), new ShardingGroupExecuteCallback<String, TableMetaData>() {
+            
+            @Override
+            public Collection<TableMetaData> execute(final Collection<String> groupedTableNames, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                Collection<TableMetaData> tableMetaDataCollection = new LinkedList<>();
+                try (Connection connection = connectionManager.getConnection(dataSourceName)) {
+                    for (String each : groupedTableNames) {
+                        tableMetaDataCollection.add(createTableMetaData(columnTypes.get(each), getPrimaryKeys(connection, catalog, schemaName, each)));
+                    }
+                }
+                return tableMetaDataCollection;
+            }
+        });
+        Map<String, TableMetaData> result = new HashMap<>(tableNames.size(), 1);
+        Iterator<TableMetaData> tableMetaDataIterator = tableMetaDataList.iterator();
+        for (String each : tableNames) {
+            result.put(each, tableMetaDataIterator.next());
+        }
+        return result;
+    }
+    
+    private Collection<String> getPrimaryKeys(final Connection connection, final String catalog, final String schemaName, final String tableName) throws SQLException {
+        Collection<String> result = new HashSet<>();
+        try (ResultSet resultSet = connection.getMetaData().getPrimaryKeys(catalog, schemaName, tableName)) {
+            while (resultSet.next()) {
+                result.add(resultSet.getString("COLUMN_NAME"));
+            }
+        }
+        return result;
+    }
+    
+    private TableMetaData createTableMetaData(final Map<String, String> columnTypes, final Collection<String> primaryKeys) {
+        List<ColumnMetaData> columnMetaDataList = new ArrayList<>(columnTypes.size());
+        for (Entry<String, String> entry : columnTypes.entrySet()) {
+            columnMetaDataList.add(new ColumnMetaData(entry.getKey(), entry.getValue(), primaryKeys.contains(entry.getKey())));
+        }
+        return new TableMetaData(columnMetaDataList);
+    }
+    
+    private Collection<ShardingExecuteGroup<String>> getLoadingGroups(final List<String> tableNames) {
+        Collection<ShardingExecuteGroup<String>> result = new LinkedList<>();
+        int groupSize = (tableNames.size() + maxLoadingGroupCount - 1) / maxLoadingGroupCount;
+        for (List<String> each : Lists.partition(tableNames, Math.max(groupSize, 1))) {
+            result.add(new ShardingExecuteGroup<>(each));
+        }
+        return result;
+    }
+    
     private String getCurrentSchemaName(final Connection connection) throws SQLException {
         try {
             return connection.getSchema();
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.util.concurrent.Futures;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table meta data refresher.
+ * 
+ * <p>
+ * Lazily loaded table meta data is refreshed in background, queries use previous meta data until the table is reloaded.
+ * All loaded tables are refreshed periodically and in parallel if refresh interval is positive,
+ * refreshing threads are bounded by available processors and released when idle.
+ * </p>
+ *
+ * @author agent
+ */
+@Slf4j
+public final class TableMetaDataRefresher implements AutoCloseable {
+    
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    
+    private final ShardingTableMetaData shardingTableMetaData;
+    
+    private final ScheduledThreadPoolExecutor refreshExecutor;
+    
+    public TableMetaDataRefresher(final ShardingTableMetaData shardingTableMetaData, final long refreshIntervalSeconds) {
+        this.shardingTableMetaData = shardingTableMetaData;
+        refreshExecutor = new ScheduledThreadPoolExecutor(Runtime.getRuntime().availableProcessors(), ShardingThreadFactoryBuilder.build("TableMetaData-Refresher"));
+        refreshExecutor.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        refreshExecutor.allowCoreThreadTimeOut(true);
+        if (shardingTableMetaData.isLazyLoading() && refreshIntervalSeconds > 0) {
+            refreshExecutor.scheduleWithFixedDelay(new Runnable() {
+                
+                @Override
+                public void run() {
+                    refreshAll();
+                }
+            }, refreshIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+    
+    private void refreshAll() {
+        shardingTableMetaData.evictAbsentTables();
+        for (String each : new ArrayList<>(shardingTableMetaData.getTables().keySet())) {
+            refresh(each);
+        }
+    }
+    
+    /**
+     * Refresh table meta data in background.
+     * 
+     * <p>
+     * Table not loaded yet is removed at once, so it will be loaded when accessed next time.
+     * </p>
+     * 
+     * @param logicTableName logic table name
+     * @return future of refreshing
+     */
+    public Future<?> refresh(final String logicTableName) {
+        if (!shardingTableMetaData.getTables().containsKey(logicTableName)) {
+            shardingTableMetaData.remove(logicTableName);
+            return Futures.immediateFuture(null);
+        }
+        return refreshExecutor.submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    shardingTableMetaData.refresh(logicTableName);
+                    // CHECKSTYLE:OFF
+                } catch (final SQLException | RuntimeException ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Refresh table meta data of `{}` failure.", logicTableName, ex);
+                }
+            }
+        });
+    }
+    
+    @Override
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -66,11 +66,27 @@ public final class SQLExecuteTemplate {
      * @return execute result
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("unchecked")
     public <T> List<T> executeGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups,
                                     final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback) throws SQLException {
+        return executeGroup(sqlExecuteGroups, firstCallback, callback, false);
+    }
+    
+    /**
+     * Execute group.
+     *
+     * @param sqlExecuteGroups SQL execute groups
+     * @param firstCallback first SQL execute callback
+     * @param callback SQL execute callback
+     * @param inCompletionOrder whether returning results in completion order of groups or not
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> executeGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups,
+                                    final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback, final boolean inCompletionOrder) throws SQLException {
         try {
-            return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback, serial);
+            return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback, serial, inCompletionOrder);
         } catch (final SQLException ex) {
             ExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.core.execute;
 
+import org.apache.shardingsphere.core.execute.datasource.DataSourceCloserTest;
+import org.apache.shardingsphere.core.execute.datasource.DataSourceWarmerTest;
+import org.apache.shardingsphere.core.execute.hook.SPIExecuteGroupHookTest;
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHookTest;
 import org.apache.shardingsphere.core.execute.hook.SPISQLExecutionHookTest;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializerTest;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataRefresherTest;
 import org.apache.shardingsphere.core.execute.sql.execute.AllExecuteTests;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplateTest;
 import org.apache.shardingsphere.core.execute.threadlocal.ExecutorExceptionHandlerTest;
@@ -31,8 +36,14 @@ import org.junit.runners.Suite.SuiteClasses;
         SQLExecutePrepareTemplateTest.class, 
         ExecutorExceptionHandlerTest.class, 
         ShardingExecuteEngineTest.class, 
+        ShardingExecutorModeTest.class, 
         SPIRootInvokeHookTest.class, 
         SPISQLExecutionHookTest.class, 
+        SPIExecuteGroupHookTest.class, 
+        DataSourceCloserTest.class, 
+        DataSourceWarmerTest.class, 
+        TableMetaDataInitializerTest.class, 
+        TableMetaDataRefresherTest.class, 
         AllExecuteTests.class
 })
 public final class AllExecutorTests {
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.core.execute;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.hook.fixture.ExecuteGroupHookFixture;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,14 +27,21 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -102,6 +111,206 @@ public class ShardingExecuteEngineTest {
         assertThat(actual.size(), is(0));
     }
     
+    @Test
+    public void assertParallelExecuteFailsWithoutWaitingSlowerGroups() throws InterruptedException {
+        final CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        final List<ShardingExecuteGroup<StatementExecuteUnit>> groups = new ArrayList<>(mockInputGroups(3, 1));
+        try {
+            shardingExecuteEngine.groupExecute(groups, new ShardingGroupExecuteCallback<StatementExecuteUnit, String>() {
+                
+                @Override
+                public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap)
+                        throws SQLException {
+                    if (inputs == groups.get(1).getInputs()) {
+                        awaitUninterruptibly(slowGroupLatch);
+                    }
+                    if (inputs == groups.get(2).getInputs()) {
+                        throw new SQLException("failed");
+                    }
+                    return Collections.singletonList("succeed");
+                }
+            });
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("failed"));
+            assertThat(slowGroupLatch.getCount(), is(1L));
+        } finally {
+            slowGroupLatch.countDown();
+        }
+    }
+    
+    @Test
+    public void assertParallelExecuteKeepsInputGroupOrder() throws SQLException {
+        final List<ShardingExecuteGroup<StatementExecuteUnit>> groups = new ArrayList<>(mockInputGroups(3, 1));
+        final CountDownLatch lastGroupLatch = new CountDownLatch(1);
+        List<Integer> actual = shardingExecuteEngine.groupExecute(groups, new ShardingGroupExecuteCallback<StatementExecuteUnit, Integer>() {
+            
+            @Override
+            public Collection<Integer> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                int index = indexOf(groups, inputs);
+                if (1 == index) {
+                    awaitUninterruptibly(lastGroupLatch);
+                } else if (2 == index) {
+                    lastGroupLatch.countDown();
+                }
+                return Collections.singletonList(index);
+            }
+        });
+        assertThat(actual, is(Arrays.asList(0, 1, 2)));
+    }
+    
+    @Test
+    public void assertParallelExecuteWithVirtualThreadMode() throws SQLException {
+        ShardingExecuteEngine virtualThreadExecuteEngine;
+        try {
+            virtualThreadExecuteEngine = new ShardingExecuteEngine(0, ShardingExecutorMode.VIRTUAL_THREAD);
+        } catch (final ShardingException ex) {
+            assertThat(ex.getMessage(), is("Executor mode 'VIRTUAL_THREAD' requires JDK 21 or above."));
+            return;
+        }
+        ShardingExecuteDataMap.setDataMap(Collections.<String, Object>singletonMap("key", "value"));
+        try {
+            List<Object> actual = virtualThreadExecuteEngine.groupExecute(mockInputGroups(3, 1), new ShardingGroupExecuteCallback<StatementExecuteUnit, Object>() {
+                
+                @Override
+                public Collection<Object> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                    return Collections.singletonList(shardingExecuteDataMap.get("key"));
+                }
+            });
+            assertThat(actual, is(Arrays.<Object>asList("value", "value", "value")));
+        } finally {
+            ShardingExecuteDataMap.setDataMap(new LinkedHashMap<String, Object>());
+            virtualThreadExecuteEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertParallelExecuteWithMaxConcurrencyPerDataSource() throws SQLException {
+        ShardingExecuteEngine limitedExecuteEngine = new ShardingExecuteEngine(10, ShardingExecutorMode.PLATFORM_THREAD, 1);
+        final AtomicInteger runningCount = new AtomicInteger();
+        final AtomicInteger maxRunningCount = new AtomicInteger();
+        try {
+            limitedExecuteEngine.groupExecute(mockInputGroups("ds_0", 4), new ShardingGroupExecuteCallback<StatementExecuteUnit, String>() {
+                
+                @Override
+                public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                    int currentRunningCount = runningCount.incrementAndGet();
+                    if (currentRunningCount > maxRunningCount.get()) {
+                        maxRunningCount.set(currentRunningCount);
+                    }
+                    sleepUninterruptibly(50L);
+                    runningCount.decrementAndGet();
+                    return Collections.singletonList("succeed");
+                }
+            });
+        } finally {
+            limitedExecuteEngine.close();
+        }
+        assertThat(maxRunningCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertParallelExecuteWithMaxConcurrencyPerDataSourceNotBlockingOtherDataSources() throws SQLException {
+        ShardingExecuteEngine limitedExecuteEngine = new ShardingExecuteEngine(2, ShardingExecutorMode.PLATFORM_THREAD, 1);
+        final CountDownLatch otherDataSourceLatch = new CountDownLatch(1);
+        final List<ShardingExecuteGroup<StatementExecuteUnit>> groups = new ArrayList<>(4);
+        groups.add(new ShardingExecuteGroup<>("ds_trunk", Collections.singletonList(mock(StatementExecuteUnit.class))));
+        groups.addAll(mockInputGroups("ds_0", 2));
+        groups.addAll(mockInputGroups("ds_1", 1));
+        try {
+            List<Boolean> actual = limitedExecuteEngine.groupExecute(groups, new ShardingGroupExecuteCallback<StatementExecuteUnit, Boolean>() {
+                
+                @Override
+                public Collection<Boolean> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                    int index = indexOf(groups, inputs);
+                    if (1 == index) {
+                        return Collections.singletonList(awaitUninterruptibly(otherDataSourceLatch, 5L));
+                    }
+                    if (3 == index) {
+                        otherDataSourceLatch.countDown();
+                    }
+                    return Collections.singletonList(true);
+                }
+            });
+            assertThat(actual, is(Arrays.asList(true, true, true, true)));
+        } finally {
+            limitedExecuteEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertParallelExecuteInCompletionOrder() throws SQLException {
+        final List<ShardingExecuteGroup<StatementExecuteUnit>> groups = new ArrayList<>(mockInputGroups(3, 1));
+        final CountDownLatch lastGroupLatch = new CountDownLatch(1);
+        List<Integer> actual = shardingExecuteEngine.groupExecute(groups, null, new ShardingGroupExecuteCallback<StatementExecuteUnit, Integer>() {
+            
+            @Override
+            public Collection<Integer> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                int index = indexOf(groups, inputs);
+                if (0 == index) {
+                    awaitUninterruptibly(lastGroupLatch);
+                } else if (1 == index) {
+                    awaitUninterruptibly(lastGroupLatch);
+                    sleepUninterruptibly(100L);
+                } else if (2 == index) {
+                    lastGroupLatch.countDown();
+                }
+                return Collections.singletonList(index);
+            }
+        }, false, true);
+        assertThat(actual, is(Arrays.asList(0, 2, 1)));
+    }
+    
+    @Test
+    public void assertParallelExecuteReportsExecuteGroupHook() throws SQLException {
+        ExecuteGroupHookFixture.clearFinished();
+        List<String> actual = shardingExecuteEngine.groupExecute(mockInputGroups("ds_0", 3), callback);
+        assertThat(actual.size(), is(3));
+        assertThat(ExecuteGroupHookFixture.getFinishedCount("ds_0"), is(3));
+    }
+    
+    private Collection<ShardingExecuteGroup<StatementExecuteUnit>> mockInputGroups(final String dataSourceName, final int groupSize) {
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> result = new LinkedList<>();
+        for (int i = 0; i < groupSize; i++) {
+            result.add(new ShardingExecuteGroup<>(dataSourceName, Collections.singletonList(mock(StatementExecuteUnit.class))));
+        }
+        return result;
+    }
+    
+    private void sleepUninterruptibly(final long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private int indexOf(final List<ShardingExecuteGroup<StatementExecuteUnit>> groups, final Collection<StatementExecuteUnit> inputs) {
+        for (int i = 0; i < groups.size(); i++) {
+            if (inputs == groups.get(i).getInputs()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private boolean awaitUninterruptibly(final CountDownLatch latch, final long timeoutSeconds) {
+        try {
+            return latch.await(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     @RequiredArgsConstructor
     private final class MockGroupExecuteCallback implements ShardingExecuteCallback<StatementExecuteUnit, String>, ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
     
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.datasource;
+
+import com.google.common.base.Supplier;
+import org.apache.shardingsphere.core.execute.fixture.PooledDataSourceFixture;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceCloserTest {
+    
+    @Test
+    public void assertClose() {
+        PooledDataSourceFixture dataSource = new PooledDataSourceFixture();
+        DataSourceCloser.close(dataSource);
+        assertTrue(dataSource.isClosed());
+    }
+    
+    @Test
+    public void assertCloseAfterDrained() throws InterruptedException {
+        PooledDataSourceFixture dataSource = new PooledDataSourceFixture();
+        dataSource.setNumActive(1);
+        final CountDownLatch resourceClosedLatch = new CountDownLatch(1);
+        DataSourceCloser.closeAfterDrained(Collections.<DataSource>singletonList(dataSource), new AutoCloseable() {
+            
+            @Override
+            public void close() {
+                resourceClosedLatch.countDown();
+            }
+        });
+        assertFalse(resourceClosedLatch.await(300L, TimeUnit.MILLISECONDS));
+        assertFalse(dataSource.isClosed());
+        dataSource.setNumActive(0);
+        assertTrue(resourceClosedLatch.await(5L, TimeUnit.SECONDS));
+        assertTrue(dataSource.isClosed());
+    }
+    
+    @Test
+    public void assertCloseResourceAfterDrained() throws InterruptedException {
+        final AtomicBoolean drained = new AtomicBoolean();
+        final CountDownLatch resourceClosedLatch = new CountDownLatch(1);
+        DataSourceCloser.closeAfterDrained(new AutoCloseable() {
+            
+            @Override
+            public void close() {
+                resourceClosedLatch.countDown();
+            }
+        }, new Supplier<Boolean>() {
+            
+            @Override
+            public Boolean get() {
+                return drained.get();
+            }
+        });
+        assertFalse(resourceClosedLatch.await(300L, TimeUnit.MILLISECONDS));
+        drained.set(true);
+        assertTrue(resourceClosedLatch.await(5L, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.datasource;
+
+import org.apache.shardingsphere.core.execute.fixture.PooledDataSourceFixture;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DataSourceWarmerTest {
+    
+    @Test
+    public void assertWarmUpToMinIdle() throws SQLException {
+        PooledDataSourceFixture dataSource = new PooledDataSourceFixture();
+        dataSource.setMinIdle(5);
+        dataSource.setMaxActive(10);
+        DataSourceWarmer.warmUp(dataSource);
+        assertThat(dataSource.getPeakNumActive(), is(5));
+        assertThat(dataSource.getNumActive(), is(0));
+    }
+    
+    @Test
+    public void assertWarmUpWithMinIdleGreaterThanMaxActive() throws SQLException {
+        PooledDataSourceFixture dataSource = new PooledDataSourceFixture();
+        dataSource.setMinIdle(5);
+        dataSource.setMaxActive(3);
+        DataSourceWarmer.warmUp(dataSource);
+        assertThat(dataSource.getPeakNumActive(), is(3));
+        assertThat(dataSource.getNumActive(), is(0));
+    }
+    
+    @Test
+    public void assertWarmUpWithoutMinIdle() throws SQLException {
+        PooledDataSourceFixture dataSource = new PooledDataSourceFixture();
+        DataSourceWarmer.warmUp(dataSource);
+        assertThat(dataSource.getPeakNumActive(), is(1));
+        assertThat(dataSource.getNumActive(), is(0));
+    }
+}
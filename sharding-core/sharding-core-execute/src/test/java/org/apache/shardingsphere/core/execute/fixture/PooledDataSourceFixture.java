@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.fixture;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@Getter
+@Setter
+public final class PooledDataSourceFixture implements DataSource {
+    
+    private volatile int numActive;
+    
+    private volatile boolean closed;
+    
+    private int minIdle;
+    
+    private int maxActive;
+    
+    private int peakNumActive;
+    
+    @Override
+    public synchronized Connection getConnection() throws SQLException {
+        numActive++;
+        peakNumActive = Math.max(peakNumActive, numActive);
+        Connection result = mock(Connection.class);
+        doAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                releaseConnection();
+                return null;
+            }
+        }).when(result).close();
+        return result;
+    }
+    
+    private synchronized void releaseConnection() {
+        numActive--;
+    }
+    
+    @Override
+    public Connection getConnection(final String username, final String password) {
+        return null;
+    }
+    
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+    
+    @Override
+    public void setLogWriter(final PrintWriter out) {
+    }
+    
+    @Override
+    public void setLoginTimeout(final int seconds) {
+    }
+    
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+    
+    @Override
+    public Logger getParentLogger() {
+        return null;
+    }
+    
+    @Override
+    public <T> T unwrap(final Class<T> iface) {
+        return null;
+    }
+    
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return false;
+    }
+    
+    /**
+     * Close data source.
+     */
+    public void close() {
+        closed = true;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.hook.fixture;
+
+import org.apache.shardingsphere.core.execute.hook.ExecuteGroupHook;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public final class ExecuteGroupHookFixture implements ExecuteGroupHook {
+    
+    private static final Collection<String> DATA_SOURCE_NAMES = new ConcurrentLinkedQueue<>();
+    
+    @Override
+    public void finish(final String dataSourceName, final boolean isTrunkThread, final long queueWaitNanos, final long executionNanos) {
+        if (null != dataSourceName && queueWaitNanos >= 0 && executionNanos >= 0) {
+            DATA_SOURCE_NAMES.add(dataSourceName);
+        }
+    }
+    
+    /**
+     * Get count of finished execute groups of data source.
+     * 
+     * @param dataSourceName data source name
+     * @return count of finished execute groups
+     */
+    public static int getFinishedCount(final String dataSourceName) {
+        int result = 0;
+        for (String each : DATA_SOURCE_NAMES) {
+            if (each.equals(dataSourceName)) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Clear finished execute groups.
+     */
+    public static void clearFinished() {
+        DATA_SOURCE_NAMES.clear();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class TableMetaDataInitializerTest {
+    
+    private static final List<String> PLAIN_TABLE_NAMES = Arrays.asList("t_plain_0", "t_plain_1", "t_plain_2", "t_plain_3", "t_plain_4", "t_plain_5", "t_plain_6", "t_plain_7");
+    
+    private final AtomicInteger activeConnectionCount = new AtomicInteger();
+    
+    private final AtomicInteger peakConnectionCount = new AtomicInteger();
+    
+    private ShardingExecuteEngine executeEngine;
+    
+    private ShardingRule shardingRule;
+    
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        executeEngine = new ShardingExecuteEngine(10);
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "ds.t_order_${0..1}"));
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order_item", "ds.t_order_item_${0..1}"));
+        shardingRule = new ShardingRule(shardingRuleConfig, Collections.singletonList("ds"));
+        connection = mockConnection();
+    }
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    private Connection mockConnection() throws SQLException {
+        Connection result = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(result.getMetaData()).thenReturn(databaseMetaData);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                activeConnectionCount.decrementAndGet();
+                return null;
+            }
+        }).when(result).close();
+        when(databaseMetaData.getTables(nullable(String.class), nullable(String.class), nullable(String.class), nullable(String[].class))).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) {
+                String tableNamePattern = invocation.getArgument(2);
+                List<Map<String, String>> rows = new LinkedList<>();
+                for (String each : null == tableNamePattern ? getAllTableNames() : Collections.singletonList(tableNamePattern)) {
+                    rows.add(Collections.singletonMap("TABLE_NAME", each));
+                }
+                return createResultSet(rows);
+            }
+        });
+        when(databaseMetaData.getColumns(nullable(String.class), nullable(String.class), anyString(), eq("%"))).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) {
+                String tableNamePattern = invocation.getArgument(2);
+                List<Map<String, String>> rows = new LinkedList<>();
+                for (String each : "%".equals(tableNamePattern) ? getAllTableNames() : Collections.singletonList(tableNamePattern)) {
+                    rows.add(createColumnRow(each, "id", "int"));
+                    rows.add(createColumnRow(each, "status", "varchar"));
+                }
+                return createResultSet(rows);
+            }
+        });
+        when(databaseMetaData.getPrimaryKeys(nullable(String.class), nullable(String.class), anyString())).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) {
+                return createResultSet(Collections.singletonList(Collections.singletonMap("COLUMN_NAME", "id")));
+            }
+        });
+        return result;
+    }
+    
+    private List<String> getAllTableNames() {
+        List<String> result = new LinkedList<>(PLAIN_TABLE_NAMES);
+        result.add("t_order");
+        result.add("t_order_item");
+        return result;
+    }
+    
+    private Map<String, String> createColumnRow(final String tableName, final String columnName, final String typeName) {
+        Map<String, String> result = new HashMap<>(3, 1);
+        result.put("TABLE_NAME", tableName);
+        result.put("COLUMN_NAME", columnName);
+        result.put("TYPE_NAME", typeName);
+        return result;
+    }
+    
+    private ResultSet createResultSet(final List<Map<String, String>> rows) {
+        final Iterator<Map<String, String>> iterator = rows.iterator();
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class[]{ResultSet.class}, new InvocationHandler() {
+            
+            private Map<String, String> currentRow;
+            
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                switch (method.getName()) {
+                    case "next":
+                        currentRow = iterator.hasNext() ? iterator.next() : null;
+                        return null != currentRow;
+                    case "getString":
+                        return currentRow.get((String) args[0]);
+                    default:
+                        return null;
+                }
+            }
+        });
+    }
+    
+    private TableMetaDataConnectionManager createConnectionManager() {
+        return new TableMetaDataConnectionManager() {
+            
+            @Override
+            public Connection getConnection(final String dataSourceName) throws SQLException {
+                int activeCount = activeConnectionCount.incrementAndGet();
+                synchronized (peakConnectionCount) {
+                    peakConnectionCount.set(Math.max(peakConnectionCount.get(), activeCount));
+                }
+                try {
+                    Thread.sleep(50L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return connection;
+            }
+        };
+    }
+    
+    @Test
+    public void assertLoadWithMaxConnectionsSizePerQuery() {
+        ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(Collections.singletonMap("ds", "jdbc:h2:mem:ds"), shardingRule, DatabaseType.H2);
+        Map<String, TableMetaData> actual = new TableMetaDataInitializer(shardingDataSourceMetaData, executeEngine, createConnectionManager(), 2, false).load(shardingRule);
+        assertThat(actual.size(), is(PLAIN_TABLE_NAMES.size() + 2));
+        for (String each : getAllTableNames()) {
+            assertTrue(actual.containsKey(each));
+            assertThat(actual.get(each).getColumns().size(), is(2));
+            assertTrue(actual.get(each).getColumns().get("id").isPrimaryKey());
+            assertThat(actual.get(each).getColumns().get("status").getDataType(), is("varchar"));
+        }
+        assertThat(activeConnectionCount.get(), is(0));
+        assertThat(peakConnectionCount.get(), is(2));
+    }
+    
+    @Test
+    public void assertLoadWithSingleConnectionPerQuery() {
+        ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(Collections.singletonMap("ds", "jdbc:h2:mem:ds"), shardingRule, DatabaseType.H2);
+        Map<String, TableMetaData> actual = new TableMetaDataInitializer(shardingDataSourceMetaData, executeEngine, createConnectionManager(), 1, false).load(shardingRule);
+        assertThat(actual.size(), is(PLAIN_TABLE_NAMES.size() + 2));
+        assertThat(activeConnectionCount.get(), is(0));
+        assertThat(peakConnectionCount.get(), is(1));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaDataProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataRefresherTest {
+    
+    private final TableMetaData tableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("id", "int", true)));
+    
+    private final TableMetaData refreshedTableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "bigint", true)));
+    
+    private final AtomicReference<TableMetaData> loadedTableMetaData = new AtomicReference<>();
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private TableMetaDataRefresher tableMetaDataRefresher;
+    
+    @Before
+    public void setUp() {
+        shardingTableMetaData = new ShardingTableMetaData(new TableMetaDataProvider() {
+            
+            @Override
+            public Optional<TableMetaData> load(final String logicTableName) {
+                return Optional.fromNullable(loadedTableMetaData.get());
+            }
+        });
+        tableMetaDataRefresher = new TableMetaDataRefresher(shardingTableMetaData, 0L);
+    }
+    
+    @After
+    public void tearDown() {
+        tableMetaDataRefresher.close();
+    }
+    
+    @Test
+    public void assertRefreshLoadedTable() throws InterruptedException, ExecutionException {
+        loadedTableMetaData.set(tableMetaData);
+        assertThat(shardingTableMetaData.get("t_order"), is(tableMetaData));
+        loadedTableMetaData.set(refreshedTableMetaData);
+        tableMetaDataRefresher.refresh("t_order").get();
+        assertThat(shardingTableMetaData.get("t_order"), is(refreshedTableMetaData));
+        assertThat(shardingTableMetaData.getLoadCount(), is(2L));
+    }
+    
+    @Test
+    public void assertRefreshAbsentTable() throws InterruptedException, ExecutionException {
+        assertNull(shardingTableMetaData.get("t_order"));
+        loadedTableMetaData.set(tableMetaData);
+        Future<?> future = tableMetaDataRefresher.refresh("t_order");
+        assertTrue(future.isDone());
+        assertThat(shardingTableMetaData.get("t_order"), is(tableMetaData));
+        assertThat(shardingTableMetaData.getLoadCount(), is(2L));
+    }
+    
+    @Test
+    public void assertRefreshAllPeriodically() throws InterruptedException {
+        loadedTableMetaData.set(tableMetaData);
+        assertThat(shardingTableMetaData.get("t_order"), is(tableMetaData));
+        assertThat(shardingTableMetaData.get("t_order_item"), is(tableMetaData));
+        loadedTableMetaData.set(refreshedTableMetaData);
+        try (TableMetaDataRefresher periodicRefresher = new TableMetaDataRefresher(shardingTableMetaData, 1L)) {
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (!isRefreshed("t_order", "t_order_item") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50L);
+            }
+        }
+        assertTrue(isRefreshed("t_order", "t_order_item"));
+    }
+    
+    private boolean isRefreshed(final String... logicTableNames) {
+        for (String each : logicTableNames) {
+            if (refreshedTableMetaData != shardingTableMetaData.getTables().get(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
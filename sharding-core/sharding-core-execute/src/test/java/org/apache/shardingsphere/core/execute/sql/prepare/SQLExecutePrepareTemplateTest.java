@@ -55,6 +55,7 @@ public class SQLExecutePrepareTemplateTest {
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups(mockShardRouteUnit(1, 1), callback);
         assertThat(actual.size(), is(1));
         for (ShardingExecuteGroup<StatementExecuteUnit> each : actual) {
+            assertThat(each.getDataSourceName(), is("ds_0"));
             assertThat(each.getInputs().size(), is(1));
         }
     }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dal.DALMergeEngine;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Result merge engine factory.
@@ -42,7 +44,7 @@ import java.util.List;
 public final class MergeEngineFactory {
     
     /**
-     * Create merge engine instance.
+     * Create merge engine instance with default sharding properties.
      *
      * @param databaseType database type
      * @param shardingRule sharding rule
@@ -54,8 +56,25 @@ public final class MergeEngineFactory {
      */
     public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule,
                                           final SQLRouteResult routeResult, final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults) throws SQLException {
+        return newInstance(databaseType, new ShardingProperties(new Properties()), shardingRule, routeResult, shardingTableMetaData, queryResults);
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param databaseType database type
+     * @param shardingProperties sharding properties
+     * @param shardingRule sharding rule
+     * @param routeResult SQL route result
+     * @param shardingTableMetaData sharding table meta Data
+     * @param queryResults query results
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingProperties shardingProperties, final ShardingRule shardingRule,
+                                          final SQLRouteResult routeResult, final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults) throws SQLException {
         if (routeResult.getSqlStatement() instanceof SelectStatement) {
-            return new DQLMergeEngine(databaseType, routeResult, queryResults);
+            return new DQLMergeEngine(databaseType, shardingProperties, routeResult, queryResults);
         } 
         if (routeResult.getSqlStatement() instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) routeResult.getSqlStatement(), shardingTableMetaData);
@@ -21,6 +21,8 @@ import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
@@ -42,6 +44,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
@@ -60,11 +63,18 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final List<QueryResult> queryResults;
     
+    private final ShardingProperties shardingProperties;
+    
     @Getter
     private final Map<String, Integer> columnLabelIndexMap;
     
     public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+        this(databaseType, new ShardingProperties(new Properties()), routeResult, queryResults);
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final ShardingProperties shardingProperties, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
         this.databaseType = databaseType;
+        this.shardingProperties = shardingProperties;
         this.routeResult = routeResult;
         this.selectStatement = (SelectStatement) routeResult.getSqlStatement();
         this.queryResults = getRealQueryResults(queryResults);
@@ -130,8 +140,27 @@ public final class DQLMergeEngine implements MergeEngine {
         if (selectStatement.isSameGroupByAndOrderByItems()) {
             return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
         } else {
-            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement,
+                    shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_GROUP_BY_MEMORY_SIZE), getMaxRowCount());
+        }
+    }
+    
+    private int getMaxRowCount() {
+        Limit limit = routeResult.getLimit();
+        if (null == limit || limit.getRowCountValue() < 0) {
+            return -1;
+        }
+        long result;
+        if (DatabaseType.MySQL == databaseType || DatabaseType.PostgreSQL == databaseType || DatabaseType.H2 == databaseType) {
+            result = (long) limit.getOffsetValue() + limit.getRowCountValue();
+        } else if (DatabaseType.Oracle == databaseType) {
+            result = limit.getRowCount().isBoundOpened() ? limit.getRowCountValue() : limit.getRowCountValue() - 1;
+        } else if (DatabaseType.SQLServer == databaseType) {
+            result = limit.getRowCountValue();
+        } else {
+            return -1;
         }
+        return result > Integer.MAX_VALUE ? -1 : (int) Math.max(result, 0);
     }
     
     private MergedResult decorate(final MergedResult mergedResult) throws SQLException {
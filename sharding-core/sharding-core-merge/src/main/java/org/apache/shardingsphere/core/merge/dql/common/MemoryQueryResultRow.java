@@ -35,6 +35,10 @@ public class MemoryQueryResultRow {
         data = load(queryResult);
     }
     
+    public MemoryQueryResultRow(final Object[] data) {
+        this.data = data;
+    }
+    
     private Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getColumnCount();
         Object[] result = new Object[columnCount];
@@ -65,4 +69,13 @@ public class MemoryQueryResultRow {
         Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
         data[columnIndex - 1] = value;
     }
+    
+    /**
+     * Get column count.
+     * 
+     * @return column count
+     */
+    public int getColumnCount() {
+        return data.length;
+    }
 }
@@ -19,15 +19,20 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Ordering;
+import com.google.common.collect.PeekingIterator;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.merge.dql.groupby.spill.GroupBySpillMerger;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.parser.context.selectitem.AggregationSelectItem;
 
+import java.io.Closeable;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -39,31 +44,58 @@ import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>
+ * Groups are spilled to local files once they exceed max memory group size, unless some values cannot be spilled.
+ * Spilled files are released when all rows are read or the merged result is closed.
+ * </p>
  *
  * @author zhangliang
  */
-public final class GroupByMemoryMergedResult extends MemoryMergedResult {
+public final class GroupByMemoryMergedResult extends MemoryMergedResult implements Closeable {
     
     private final SelectStatement selectStatement;
     
+    private final int maxMemoryGroupSize;
+    
+    private final int maxRowCount;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
-    public GroupByMemoryMergedResult(
-            final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+    private GroupBySpillMerger spillMerger;
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, 
+                                     final List<QueryResult> queryResults, final SelectStatement selectStatement, final int maxMemoryGroupSize, final int maxRowCount) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
+        this.maxMemoryGroupSize = maxMemoryGroupSize;
+        this.maxRowCount = maxRowCount;
         memoryResultSetRows = init(queryResults);
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+        try {
+            boolean spillable = maxMemoryGroupSize > 0;
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                    initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
+                    aggregate(each, groupByValue, aggregationMap);
+                    if (spillable && dataMap.size() > maxMemoryGroupSize) {
+                        spillable = spill(dataMap, aggregationMap);
+                    }
+                }
+            }
+            if (null != spillMerger) {
+                return initWithSpilledGroups(dataMap, aggregationMap);
             }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            close();
+            throw ex;
         }
         setAggregationValueToMemoryRow(dataMap, aggregationMap);
         List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
@@ -73,6 +105,26 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result.iterator();
     }
     
+    private boolean spill(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+        if (!GroupBySpillMerger.isSpillable(dataMap, aggregationMap)) {
+            return false;
+        }
+        if (null == spillMerger) {
+            spillMerger = new GroupBySpillMerger(selectStatement);
+        }
+        spillMerger.spill(dataMap, aggregationMap);
+        return true;
+    }
+    
+    private Iterator<MemoryQueryResultRow> initWithSpilledGroups(final Map<GroupByValue, MemoryQueryResultRow> dataMap, 
+                                                                 final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+        PeekingIterator<MemoryQueryResultRow> result = Iterators.peekingIterator(spillMerger.merge(dataMap, aggregationMap));
+        if (result.hasNext()) {
+            setCurrentResultSetRow(result.peek());
+        }
+        return result;
+    }
+    
     private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
                                           final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
         if (!dataMap.containsKey(groupByValue)) {
@@ -119,8 +171,12 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap) {
+        GroupByRowComparator comparator = new GroupByRowComparator(selectStatement);
+        if (maxRowCount >= 0 && maxRowCount < dataMap.size()) {
+            return Ordering.from(comparator).leastOf(dataMap.values(), maxRowCount);
+        }
         List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(selectStatement));
+        Collections.sort(result, comparator);
         return result;
     }
     
@@ -132,4 +188,11 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
         return false;
     }
+    
+    @Override
+    public void close() {
+        if (null != spillMerger) {
+            spillMerger.close();
+        }
+    }
 }
@@ -39,4 +39,11 @@ public interface AggregationUnit {
      * @return aggregation result
      */
     Comparable<?> getResult();
+    
+    /**
+     * Get partial aggregation values, which can be merged into another aggregation unit.
+     * 
+     * @return partial aggregation values
+     */
+    List<Comparable<?>> getPartialValues();
 }
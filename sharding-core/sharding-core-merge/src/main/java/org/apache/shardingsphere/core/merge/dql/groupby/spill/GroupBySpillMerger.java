@@ -0,0 +1,431 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.spill;
+
+import com.google.common.collect.AbstractIterator;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.groupby.GroupByRowComparator;
+import org.apache.shardingsphere.core.merge.dql.groupby.GroupByValue;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parse.parser.context.selectitem.AggregationSelectItem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+
+/**
+ * Spill merger for group by.
+ * 
+ * <p>
+ * Groups which exceed memory budget are hash partitioned by group by values and spilled to local temporary files with partial aggregation values.
+ * Each partition is aggregated and sorted in memory one by one, then sorted partitions are merged as a stream.
+ * Groups left in memory are merged with their partitions, and a sorted partition which cannot be spilled is kept in memory.
+ * Opened files are closed and deleted when the merge ends, fails or is closed earlier.
+ * </p>
+ *
+ * @author agent
+ */
+public final class GroupBySpillMerger implements Closeable {
+    
+    private static final int PARTITION_SIZE = 16;
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final SelectStatement selectStatement;
+    
+    private final File[] partitionFiles = new File[PARTITION_SIZE];
+    
+    private final DataOutputStream[] partitionOutputs = new DataOutputStream[PARTITION_SIZE];
+    
+    private final int[] partitionRowCounts = new int[PARTITION_SIZE];
+    
+    private final Collection<File> spilledFiles = new LinkedList<>();
+    
+    private final Collection<DataInputStream> openedInputs = new LinkedList<>();
+    
+    private final GroupByRowComparator rowComparator;
+    
+    public GroupBySpillMerger(final SelectStatement selectStatement) {
+        this.selectStatement = selectStatement;
+        rowComparator = new GroupByRowComparator(selectStatement);
+    }
+    
+    /**
+     * Judge whether groups can be spilled.
+     * 
+     * @param dataMap data map
+     * @param aggregationMap aggregation map
+     * @return groups can be spilled or not
+     */
+    public static boolean isSpillable(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+        if (!isSpillable(dataMap.values())) {
+            return false;
+        }
+        for (Map<AggregationSelectItem, AggregationUnit> each : aggregationMap.values()) {
+            for (AggregationUnit aggregationUnit : each.values()) {
+                for (Comparable<?> value : aggregationUnit.getPartialValues()) {
+                    if (!BinaryValueCodec.isSupported(value)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isSpillable(final Collection<MemoryQueryResultRow> rows) {
+        for (MemoryQueryResultRow each : rows) {
+            for (int i = 1; i <= each.getColumnCount(); i++) {
+                if (!BinaryValueCodec.isSupported(each.getCell(i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Spill groups to partition files, and clear them from memory.
+     * 
+     * @param dataMap data map
+     * @param aggregationMap aggregation map
+     */
+    public void spill(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+        try {
+            for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+                int partition = getPartition(entry.getKey().getGroupValues());
+                DataOutputStream output = getPartitionOutput(partition);
+                writeRow(output, entry.getValue());
+                for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+                    writeValues(output, aggregationMap.get(entry.getKey()).get(each).getPartialValues());
+                }
+                partitionRowCounts[partition]++;
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new ShardingException(ex);
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+    }
+    
+    private int getPartition(final List<?> groupValues) {
+        return (groupValues.hashCode() & Integer.MAX_VALUE) % PARTITION_SIZE;
+    }
+    
+    private DataOutputStream getPartitionOutput(final int partition) throws IOException {
+        if (null == partitionOutputs[partition]) {
+            partitionFiles[partition] = createTempFile();
+            partitionOutputs[partition] = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(partitionFiles[partition]), BUFFER_SIZE));
+        }
+        return partitionOutputs[partition];
+    }
+    
+    private File createTempFile() throws IOException {
+        File result = File.createTempFile("sharding-group-by-", ".spill");
+        spilledFiles.add(result);
+        return result;
+    }
+    
+    /**
+     * Merge spilled groups with groups left in memory.
+     * 
+     * @param dataMap data map of groups left in memory
+     * @param aggregationMap aggregation map of groups left in memory
+     * @return sorted memory query result rows
+     */
+    public Iterator<MemoryQueryResultRow> merge(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+        List<Collection<GroupByValue>> memoryGroupByValues = new ArrayList<>(PARTITION_SIZE);
+        for (int i = 0; i < PARTITION_SIZE; i++) {
+            memoryGroupByValues.add(new LinkedList<GroupByValue>());
+        }
+        for (GroupByValue each : dataMap.keySet()) {
+            memoryGroupByValues.get(getPartition(each.getGroupValues())).add(each);
+        }
+        Collection<SortedRun> sortedRuns = new LinkedList<>();
+        try {
+            for (int i = 0; i < PARTITION_SIZE; i++) {
+                if (null != partitionOutputs[i]) {
+                    partitionOutputs[i].close();
+                }
+                if (null != partitionOutputs[i] || !memoryGroupByValues.get(i).isEmpty()) {
+                    sortedRuns.add(sortPartition(i, memoryGroupByValues.get(i), dataMap, aggregationMap));
+                }
+            }
+            dataMap.clear();
+            aggregationMap.clear();
+            return new SortedRunsIterator(sortedRuns);
+        } catch (final IOException ex) {
+            close();
+            throw new ShardingException(ex);
+        }
+    }
+    
+    private SortedRun sortPartition(final int partition, final Collection<GroupByValue> memoryGroupByValues,
+                                    final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws IOException {
+        Map<List<?>, MemoryQueryResultRow> partitionDataMap = new HashMap<>(partitionRowCounts[partition] + memoryGroupByValues.size(), 1);
+        Map<List<?>, List<AggregationUnit>> partitionAggregationMap = new HashMap<>(partitionRowCounts[partition] + memoryGroupByValues.size(), 1);
+        if (null != partitionFiles[partition]) {
+            try (DataInputStream input = openInput(partitionFiles[partition])) {
+                for (int i = 0; i < partitionRowCounts[partition]; i++) {
+                    MemoryQueryResultRow row = readRow(input);
+                    for (AggregationUnit each : getAggregationUnits(getGroupValues(row), row, partitionDataMap, partitionAggregationMap)) {
+                        each.merge(readValues(input));
+                    }
+                }
+            }
+            delete(partitionFiles[partition]);
+        }
+        for (GroupByValue each : memoryGroupByValues) {
+            Iterator<AggregationUnit> aggregationUnits = getAggregationUnits(each.getGroupValues(), dataMap.get(each), partitionDataMap, partitionAggregationMap).iterator();
+            for (AggregationSelectItem aggregationSelectItem : selectStatement.getAggregationSelectItems()) {
+                aggregationUnits.next().merge(aggregationMap.get(each).get(aggregationSelectItem).getPartialValues());
+            }
+        }
+        List<MemoryQueryResultRow> rows = new ArrayList<>(partitionDataMap.size());
+        for (Entry<List<?>, MemoryQueryResultRow> entry : partitionDataMap.entrySet()) {
+            setAggregationValues(entry.getValue(), partitionAggregationMap.get(entry.getKey()));
+            rows.add(entry.getValue());
+        }
+        Collections.sort(rows, rowComparator);
+        return isSpillable(rows) ? writeSortedRun(rows) : new SortedRun(null, rows.size(), rows);
+    }
+    
+    private List<AggregationUnit> getAggregationUnits(final List<?> groupValues, final MemoryQueryResultRow row,
+                                                      final Map<List<?>, MemoryQueryResultRow> partitionDataMap, final Map<List<?>, List<AggregationUnit>> partitionAggregationMap) {
+        if (!partitionAggregationMap.containsKey(groupValues)) {
+            partitionDataMap.put(groupValues, row);
+            partitionAggregationMap.put(groupValues, createAggregationUnits());
+        }
+        return partitionAggregationMap.get(groupValues);
+    }
+    
+    private List<Object> getGroupValues(final MemoryQueryResultRow row) {
+        List<Object> result = new ArrayList<>(selectStatement.getGroupByItems().size());
+        for (OrderItem each : selectStatement.getGroupByItems()) {
+            result.add(row.getCell(each.getIndex()));
+        }
+        return result;
+    }
+    
+    private List<AggregationUnit> createAggregationUnits() {
+        List<AggregationUnit> result = new ArrayList<>(selectStatement.getAggregationSelectItems().size());
+        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+            result.add(AggregationUnitFactory.create(each.getType()));
+        }
+        return result;
+    }
+    
+    private void setAggregationValues(final MemoryQueryResultRow row, final List<AggregationUnit> aggregationUnits) {
+        int index = 0;
+        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+            row.setCell(each.getIndex(), aggregationUnits.get(index++).getResult());
+        }
+    }
+    
+    private SortedRun writeSortedRun(final List<MemoryQueryResultRow> rows) throws IOException {
+        File file = createTempFile();
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+            for (MemoryQueryResultRow each : rows) {
+                writeRow(output, each);
+            }
+        }
+        return new SortedRun(file, rows.size(), null);
+    }
+    
+    private static DataInputStream openInput(final File file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+    }
+    
+    private void delete(final File file) {
+        if (file.delete() || !file.exists()) {
+            spilledFiles.remove(file);
+        }
+    }
+    
+    /**
+     * Close opened files and delete spilled files.
+     */
+    @Override
+    public void close() {
+        for (DataOutputStream each : partitionOutputs) {
+            closeQuietly(each);
+        }
+        for (DataInputStream each : openedInputs) {
+            closeQuietly(each);
+        }
+        openedInputs.clear();
+        for (File each : spilledFiles) {
+            each.delete();
+        }
+        spilledFiles.clear();
+    }
+    
+    private static void closeQuietly(final Closeable closeable) {
+        if (null == closeable) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private static void writeRow(final DataOutputStream output, final MemoryQueryResultRow row) throws IOException {
+        output.writeInt(row.getColumnCount());
+        for (int i = 0; i < row.getColumnCount(); i++) {
+            BinaryValueCodec.write(output, row.getCell(i + 1));
+        }
+    }
+    
+    private static MemoryQueryResultRow readRow(final DataInputStream input) throws IOException {
+        Object[] data = new Object[input.readInt()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = BinaryValueCodec.read(input);
+        }
+        return new MemoryQueryResultRow(data);
+    }
+    
+    private static void writeValues(final DataOutputStream output, final List<Comparable<?>> values) throws IOException {
+        output.writeInt(values.size());
+        for (Comparable<?> each : values) {
+            BinaryValueCodec.write(output, each);
+        }
+    }
+    
+    private static List<Comparable<?>> readValues(final DataInputStream input) throws IOException {
+        int size = input.readInt();
+        List<Comparable<?>> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add((Comparable<?>) BinaryValueCodec.read(input));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRun {
+        
+        private final File file;
+        
+        private final int rowCount;
+        
+        private final List<MemoryQueryResultRow> rows;
+    }
+    
+    private final class SortedRunCursor {
+        
+        private final SortedRun sortedRun;
+        
+        private final DataInputStream input;
+        
+        private final Iterator<MemoryQueryResultRow> memoryRows;
+        
+        private int remainingRowCount;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        SortedRunCursor(final SortedRun sortedRun) throws IOException {
+            this.sortedRun = sortedRun;
+            if (null == sortedRun.file) {
+                input = null;
+                memoryRows = sortedRun.rows.iterator();
+            } else {
+                input = openInput(sortedRun.file);
+                openedInputs.add(input);
+                memoryRows = null;
+            }
+            remainingRowCount = sortedRun.rowCount;
+        }
+        
+        boolean next() throws IOException {
+            if (0 == remainingRowCount) {
+                if (null != input) {
+                    input.close();
+                    openedInputs.remove(input);
+                    delete(sortedRun.file);
+                }
+                return false;
+            }
+            currentRow = null == input ? memoryRows.next() : readRow(input);
+            remainingRowCount--;
+            return true;
+        }
+    }
+    
+    private final class SortedRunsIterator extends AbstractIterator<MemoryQueryResultRow> {
+        
+        private final PriorityQueue<SortedRunCursor> cursors;
+        
+        SortedRunsIterator(final Collection<SortedRun> sortedRuns) throws IOException {
+            cursors = new PriorityQueue<>(Math.max(sortedRuns.size(), 1), new Comparator<SortedRunCursor>() {
+                
+                @Override
+                public int compare(final SortedRunCursor o1, final SortedRunCursor o2) {
+                    return rowComparator.compare(o1.currentRow, o2.currentRow);
+                }
+            });
+            for (SortedRun each : sortedRuns) {
+                SortedRunCursor cursor = new SortedRunCursor(each);
+                if (cursor.next()) {
+                    cursors.offer(cursor);
+                }
+            }
+        }
+        
+        @Override
+        protected MemoryQueryResultRow computeNext() {
+            SortedRunCursor cursor = cursors.poll();
+            if (null == cursor) {
+                close();
+                return endOfData();
+            }
+            MemoryQueryResultRow result = cursor.currentRow;
+            try {
+                if (cursor.next()) {
+                    cursors.offer(cursor);
+                }
+            } catch (final IOException ex) {
+                close();
+                throw new ShardingException(ex);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Tournament tree for k-way merge, each internal node keeps the loser of its sub tournament and the root keeps the winner.
+ * Replaying winner's path only needs log2(k) comparisons per row.
+ * Equal values are taken in arrival order, the same as the priority queue used before.
+ * </p>
+ *
+ * @author agent
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private final long[] arrivals;
+    
+    private long arrivalCount;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[Math.max(this.orderByValues.length, 1)];
+        arrivals = new long[this.orderByValues.length];
+        for (int i = 0; i < arrivals.length; i++) {
+            arrivals[i] = arrivalCount++;
+        }
+        build();
+    }
+    
+    private void build() {
+        int size = orderByValues.length;
+        if (0 == size) {
+            return;
+        }
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean isLeftWin = isWinner(left, right);
+            winners[node] = isLeftWin ? left : right;
+            losers[node] = isLeftWin ? right : left;
+        }
+        losers[0] = winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[losers[0]];
+    }
+    
+    /**
+     * Get current winner.
+     * 
+     * @return order by value of current winner
+     */
+    public OrderByValue peek() {
+        return orderByValues[losers[0]];
+    }
+    
+    /**
+     * Iterate current winner to next data and replay tournament.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int winner = losers[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        arrivals[winner] = arrivalCount++;
+        for (int node = (winner + orderByValues.length) / 2; node > 0; node /= 2) {
+            if (isWinner(losers[node], winner)) {
+                int loser = winner;
+                winner = losers[node];
+                losers[node] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isWinner(final int index, final int otherIndex) {
+        if (exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && arrivals[index] < arrivals[otherIndex];
+    }
+}
@@ -32,9 +32,11 @@ import org.apache.shardingsphere.core.merge.dql.groupby.GroupByRowComparatorTest
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByValueTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AllAggregationTests;
+import org.apache.shardingsphere.core.merge.dql.groupby.spill.BinaryValueCodecTest;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtilTest;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResultTest;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByValueLoserTreeTest;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByValueTest;
 import org.apache.shardingsphere.core.merge.dql.pagination.LimitDecoratorMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMergedResultTest;
@@ -52,6 +54,7 @@ import org.junit.runners.Suite.SuiteClasses;
         MemoryQueryResultRowTest.class, 
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
+        OrderByValueLoserTreeTest.class, 
         OrderByStreamMergedResultTest.class, 
         CompareUtilTest.class, 
         GroupByValueTest.class, 
@@ -59,6 +62,7 @@ import org.junit.runners.Suite.SuiteClasses;
         GroupByStreamMergedResultTest.class, 
         GroupByMemoryMergedResultTest.class, 
         AllAggregationTests.class, 
+        BinaryValueCodecTest.class, 
         LimitDecoratorMergedResultTest.class,
         RowNumberDecoratorMergedResultTest.class,
         TopAndRowNumberDecoratorMergedResultTest.class,
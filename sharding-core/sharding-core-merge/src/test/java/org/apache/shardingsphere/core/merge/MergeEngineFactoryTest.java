@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.merge;
 
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dal.DALMergeEngine;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
@@ -36,6 +37,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -60,20 +62,27 @@ public final class MergeEngineFactoryTest {
     
     @Test
     public void assertNewInstanceWithSelectStatement() throws SQLException {
+        SQLRouteResult routeResult = new SQLRouteResult(new SelectStatement());
+        routeResult.setLimit(new Limit());
+        assertThat(MergeEngineFactory.newInstance(DatabaseType.MySQL, new ShardingProperties(new Properties()), null, routeResult, null, queryResults), instanceOf(DQLMergeEngine.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithSelectStatementAndDefaultProperties() throws SQLException {
         SQLRouteResult routeResult = new SQLRouteResult(new SelectStatement());
         routeResult.setLimit(new Limit());
         assertThat(MergeEngineFactory.newInstance(DatabaseType.MySQL, null, routeResult, null, queryResults), instanceOf(DQLMergeEngine.class));
     }
-
+    
     @Test
     public void assertNewInstanceWithDALStatement() throws SQLException {
         SQLRouteResult routeResult = new SQLRouteResult(new DALStatement());
-        assertThat(MergeEngineFactory.newInstance(DatabaseType.MySQL, null, routeResult, null, queryResults), instanceOf(DALMergeEngine.class));
+        assertThat(MergeEngineFactory.newInstance(DatabaseType.MySQL, new ShardingProperties(new Properties()), null, routeResult, null, queryResults), instanceOf(DALMergeEngine.class));
     }
     
     @Test(expected = UnsupportedOperationException.class)
     public void assertNewInstanceWithOtherStatement() throws SQLException {
         SQLRouteResult routeResult = new SQLRouteResult(new InsertStatement());
-        MergeEngineFactory.newInstance(DatabaseType.MySQL, null, routeResult, null, queryResults);
+        MergeEngineFactory.newInstance(DatabaseType.MySQL, new ShardingProperties(new Properties()), null, routeResult, null, queryResults);
     }
 }
@@ -19,31 +19,47 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.AggregationType;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
 import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.parser.context.limit.Limit;
+import org.apache.shardingsphere.core.parse.parser.context.limit.LimitValue;
 import org.apache.shardingsphere.core.parse.parser.context.orderby.OrderItem;
 import org.apache.shardingsphere.core.parse.parser.context.selectitem.AggregationSelectItem;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -86,15 +102,20 @@ public final class GroupByMemoryMergedResultTest {
     }
     
     private ResultSet mockResultSet() throws SQLException {
+        return mockResultSet(5);
+    }
+    
+    private ResultSet mockResultSet(final int columnCount) throws SQLException {
         ResultSet result = mock(ResultSet.class);
         ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
         when(result.getMetaData()).thenReturn(resultSetMetaData);
-        when(resultSetMetaData.getColumnCount()).thenReturn(5);
+        when(resultSetMetaData.getColumnCount()).thenReturn(columnCount);
         when(resultSetMetaData.getColumnLabel(1)).thenReturn("COUNT(*)");
         when(resultSetMetaData.getColumnLabel(2)).thenReturn("AVG(num)");
         when(resultSetMetaData.getColumnLabel(3)).thenReturn("id");
         when(resultSetMetaData.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
         when(resultSetMetaData.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        when(resultSetMetaData.getColumnLabel(6)).thenReturn("name");
         return result;
     }
     
@@ -135,4 +156,188 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithLimit() throws SQLException {
+        Limit limit = new Limit();
+        limit.setOffset(new LimitValue(1, -1, true));
+        limit.setRowCount(new LimitValue(1, -1, false));
+        routeResult.setLimit(limit);
+        mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, routeResult, queryResults);
+        when(resultSets.get(0).next()).thenReturn(true, false);
+        when(resultSets.get(0).getObject(1)).thenReturn(20);
+        when(resultSets.get(0).getObject(2)).thenReturn(0);
+        when(resultSets.get(0).getObject(3)).thenReturn(2);
+        when(resultSets.get(0).getObject(4)).thenReturn(2);
+        when(resultSets.get(0).getObject(5)).thenReturn(20);
+        when(resultSets.get(1).next()).thenReturn(true, false);
+        when(resultSets.get(1).getObject(1)).thenReturn(10);
+        when(resultSets.get(1).getObject(2)).thenReturn(0);
+        when(resultSets.get(1).getObject(3)).thenReturn(1);
+        when(resultSets.get(1).getObject(4)).thenReturn(1);
+        when(resultSets.get(1).getObject(5)).thenReturn(10);
+        when(resultSets.get(2).next()).thenReturn(true, true, false);
+        when(resultSets.get(2).getObject(1)).thenReturn(20, 30);
+        when(resultSets.get(2).getObject(2)).thenReturn(0);
+        when(resultSets.get(2).getObject(3)).thenReturn(2, 3);
+        when(resultSets.get(2).getObject(4)).thenReturn(2, 2, 3);
+        when(resultSets.get(2).getObject(5)).thenReturn(20, 20, 30);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpilledGroups() throws SQLException {
+        MergedResult expected = new DQLMergeEngine(DatabaseType.MySQL, routeResult, createQueryResults(20)).merge();
+        MergedResult actual = new DQLMergeEngine(DatabaseType.MySQL, createShardingProperties(2), routeResult, createQueryResults(20)).merge();
+        for (int id = 20; id > 0; id--) {
+            assertTrue(expected.next());
+            assertTrue(actual.next());
+            for (int columnIndex = 1; columnIndex <= 5; columnIndex++) {
+                assertThat(actual.getValue(columnIndex, Object.class), is(expected.getValue(columnIndex, Object.class)));
+            }
+            assertThat((Integer) actual.getValue(3, Object.class), is(id));
+            assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(3)));
+            assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30 * id)));
+        }
+        assertFalse(expected.next());
+        assertFalse(actual.next());
+        assertThat(getSpilledFileCount(), is(0));
+    }
+    
+    @Test
+    public void assertCloseWithSpilledGroupsBeforeAllRowsRead() throws SQLException, IOException {
+        Limit limit = new Limit();
+        limit.setOffset(new LimitValue(1, -1, true));
+        limit.setRowCount(new LimitValue(1, -1, false));
+        routeResult.setLimit(limit);
+        int originalSpilledFileCount = getSpilledFileCount();
+        MergedResult actual = new DQLMergeEngine(DatabaseType.MySQL, createShardingProperties(2), routeResult, createQueryResults(20)).merge();
+        assertTrue(getSpilledFileCount() > originalSpilledFileCount);
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(3, Object.class), is(19));
+        ((Closeable) actual).close();
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount));
+    }
+    
+    @Test
+    public void assertNextWithUnspillableGroups() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(2);
+        for (int i = 0; i < 2; i++) {
+            List<Object[]> rows = new LinkedList<>();
+            for (int id = 1; id <= 5; id++) {
+                rows.add(new Object[] {1, 0, new UnspillableValue(id), 1, id});
+            }
+            queryResults.add(createQueryResult(rows));
+        }
+        int originalSpilledFileCount = getSpilledFileCount();
+        MergedResult actual = new DQLMergeEngine(DatabaseType.MySQL, createShardingProperties(2), routeResult, queryResults).merge();
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount));
+        for (int id = 5; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is((Object) new UnspillableValue(id)));
+            assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(2)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithUnspillableGroupsAfterSpilled() throws SQLException {
+        List<Object[]> spillableRows = new LinkedList<>();
+        List<Object[]> unspillableRows = new LinkedList<>();
+        for (int id = 1; id <= 10; id++) {
+            spillableRows.add(new Object[] {1, 0, id, 1, id, "name"});
+            unspillableRows.add(new Object[] {1, 0, id + 10, 1, id + 10, new UnspillableValue(id + 10)});
+        }
+        for (int id = 1; id <= 10; id++) {
+            unspillableRows.add(new Object[] {1, 0, id, 1, id, "name"});
+        }
+        int originalSpilledFileCount = getSpilledFileCount();
+        List<QueryResult> queryResults = Lists.newArrayList(createQueryResult(spillableRows), createQueryResult(unspillableRows));
+        MergedResult actual = new DQLMergeEngine(DatabaseType.MySQL, createShardingProperties(2), routeResult, queryResults).merge();
+        assertTrue(getSpilledFileCount() > originalSpilledFileCount);
+        for (int id = 20; id > 10; id--) {
+            assertTrue(actual.next());
+            assertThat((Integer) actual.getValue(3, Object.class), is(id));
+            assertThat(actual.getValue(6, Object.class), is((Object) new UnspillableValue(id)));
+            assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(1)));
+        }
+        for (int id = 10; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat((Integer) actual.getValue(3, Object.class), is(id));
+            assertThat(actual.getValue(6, Object.class), is((Object) "name"));
+            assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(2)));
+        }
+        assertFalse(actual.next());
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount));
+    }
+    
+    private ShardingProperties createShardingProperties(final int maxGroupByMemorySize) {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MAX_GROUP_BY_MEMORY_SIZE.getKey(), String.valueOf(maxGroupByMemorySize));
+        return new ShardingProperties(props);
+    }
+    
+    private List<QueryResult> createQueryResults(final int groupCount) throws SQLException {
+        List<QueryResult> result = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            List<Object[]> rows = new LinkedList<>();
+            for (int id = 1; id <= groupCount; id++) {
+                rows.add(new Object[] {1, 0, id, 1, 10 * id});
+            }
+            result.add(createQueryResult(rows));
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final List<Object[]> rows) throws SQLException {
+        ResultSet resultSet = mockResultSet(rows.get(0).length);
+        final Iterator<Object[]> rowIterator = rows.iterator();
+        final Object[][] currentRow = new Object[1][];
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                if (!rowIterator.hasNext()) {
+                    return false;
+                }
+                currentRow[0] = rowIterator.next();
+                return true;
+            }
+        });
+        when(resultSet.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return currentRow[0][(Integer) invocation.getArgument(0) - 1];
+            }
+        });
+        return new TestQueryResult(resultSet);
+    }
+    
+    private int getSpilledFileCount() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-group-by-");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class UnspillableValue implements Comparable<UnspillableValue> {
+        
+        private final int value;
+        
+        @Override
+        public int compareTo(final UnspillableValue o) {
+            return Integer.compare(value, o.value);
+        }
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BinaryValueCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        List<Object> values = Arrays.<Object>asList(true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigInteger("7"), new BigDecimal("8.80"), "中文", timestamp);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        for (Object each : values) {
+            BinaryValueCodec.write(output, each);
+        }
+        BinaryValueCodec.write(output, null);
+        BinaryValueCodec.write(output, new byte[] {1, 2});
+        output.flush();
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (Object each : values) {
+            assertThat(BinaryValueCodec.read(input), is(each));
+        }
+        assertThat(BinaryValueCodec.read(input), nullValue());
+        assertArrayEquals((byte[]) BinaryValueCodec.read(input), new byte[] {1, 2});
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(BinaryValueCodec.isSupported(null));
+        assertTrue(BinaryValueCodec.isSupported(new Timestamp(1000L)));
+        assertFalse(BinaryValueCodec.isSupported(UUID.randomUUID()));
+        assertFalse(BinaryValueCodec.isSupported(new Object()));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertWriteUnsupportedValue() throws IOException {
+        BinaryValueCodec.write(new DataOutputStream(new ByteArrayOutputStream()), UUID.randomUUID());
+    }
+}
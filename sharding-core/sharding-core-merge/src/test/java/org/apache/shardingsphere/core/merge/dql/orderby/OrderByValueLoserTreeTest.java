@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.parse.parser.context.orderby.OrderItem;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    private final List<OrderItem> orderItems = Collections.singletonList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC));
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(3);
+        orderByValues.add(createOrderByValue(1, 4, 7));
+        orderByValues.add(createOrderByValue(2, 5));
+        orderByValues.add(createOrderByValue(3, 3, 6));
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        for (int each : new int[] {0, 1, 2, 2, 0, 1, 2, 0}) {
+            assertFalse(actual.isEmpty());
+            assertThat(actual.peek(), is(orderByValues.get(each)));
+            actual.next();
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithEqualValuesInArrivalOrder() throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(2);
+        orderByValues.add(createOrderByValue(1, 2));
+        orderByValues.add(createOrderByValue(2));
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        for (int each : new int[] {0, 1, 0}) {
+            assertFalse(actual.isEmpty());
+            assertThat(actual.peek(), is(orderByValues.get(each)));
+            actual.next();
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    private OrderByValue createOrderByValue(final Integer... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        Boolean[] hasNext = new Boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            hasNext[i] = i < values.length - 1;
+        }
+        when(queryResult.next()).thenReturn(true, hasNext);
+        when(queryResult.getValue(1, Object.class)).thenReturn(values[0], (Object[]) Arrays.copyOfRange(values, 1, values.length));
+        OrderByValue result = new OrderByValue(queryResult, orderItems);
+        result.next();
+        return result;
+    }
+}
@@ -63,9 +63,7 @@ public final class GeneratedKey {
     
     private static GeneratedKey createGeneratedKey(final ShardingRule shardingRule, final String generateKeyColumnName, final String generateKeyTableName, final int insertValueSize) {
         GeneratedKey result = new GeneratedKey(generateKeyColumnName);
-        for (int i = 0; i < insertValueSize; i++) {
-            result.getGeneratedKeys().add(shardingRule.generateKey(generateKeyTableName));
-        }
+        result.getGeneratedKeys().addAll(shardingRule.generateKeys(generateKeyTableName, insertValueSize));
         return result;
     }
     
@@ -41,6 +41,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -69,17 +71,41 @@ public final class GeneratedKeyTest {
     public void assertGetGenerateKeyWhenCreateWithGenerateKeyColumnConfiguration() {
         mockGetGenerateKeyWhenCreate();
         when(shardingRule.findGenerateKeyColumnName("tbl")).thenReturn(Optional.of("id"));
+        when(shardingRule.generateKeys("tbl", 1)).thenReturn(Collections.<Comparable<?>>singletonList(1L));
         Optional<GeneratedKey> actual = GeneratedKey.getGenerateKey(shardingRule, Collections.<Object>singletonList(1), insertStatement);
         assertTrue(actual.isPresent());
+        assertThat(actual.get().getColumnName(), is("id"));
         assertThat(actual.get().getGeneratedKeys().size(), is(1));
+        assertThat(actual.get().getGeneratedKeys().get(0), is((Comparable) 1L));
+    }
+    
+    @Test
+    public void assertGetGenerateKeyWhenCreateWithMultipleInsertValues() {
+        mockGetGenerateKeyWhenCreate(3);
+        when(shardingRule.findGenerateKeyColumnName("tbl")).thenReturn(Optional.of("id"));
+        when(shardingRule.generateKeys("tbl", 3)).thenReturn(Arrays.<Comparable<?>>asList(1L, 2L, 3L));
+        Optional<GeneratedKey> actual = GeneratedKey.getGenerateKey(shardingRule, Collections.emptyList(), insertStatement);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getGeneratedKeys().size(), is(3));
+        assertThat(actual.get().getGeneratedKeys().get(0), is((Comparable) 1L));
+        assertThat(actual.get().getGeneratedKeys().get(1), is((Comparable) 2L));
+        assertThat(actual.get().getGeneratedKeys().get(2), is((Comparable) 3L));
+        verify(shardingRule).generateKeys("tbl", 3);
+        verify(shardingRule, never()).generateKey("tbl");
     }
     
     private void mockGetGenerateKeyWhenCreate() {
+        mockGetGenerateKeyWhenCreate(1);
+    }
+    
+    private void mockGetGenerateKeyWhenCreate(final int insertValueSize) {
         Tables tables = mock(Tables.class);
         when(insertStatement.getTables()).thenReturn(tables);
         when(tables.getSingleTableName()).thenReturn("tbl");
         InsertValues insertValues = new InsertValues();
-        insertValues.getValues().add(mock(InsertValue.class));
+        for (int i = 0; i < insertValueSize; i++) {
+            insertValues.getValues().add(mock(InsertValue.class));
+        }
         when(insertStatement.getInsertValues()).thenReturn(insertValues);
     }
     
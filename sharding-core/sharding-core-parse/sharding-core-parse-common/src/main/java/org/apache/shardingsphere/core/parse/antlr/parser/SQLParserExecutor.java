@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.antlr.parser;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+
+/**
+ * SQL parser executor.
+ * 
+ * <p>
+ * SQL is parsed by the parser reused in current thread with SLL prediction mode and bail error strategy first,
+ * and parsed again with LL prediction mode and default error strategy only if SLL parsing is cancelled by syntax error or stops before end of SQL.
+ * SLL parsing may exit a loop early because the start rule does not end with EOF, e.g. after the first join of a multi-join select,
+ * so its result is only accepted if all tokens are consumed.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserExecutor {
+    
+    /**
+     * Execute to parse SQL to AST.
+     * 
+     * @param databaseType database type
+     * @param sql SQL
+     * @return AST
+     */
+    public static ParserRuleContext execute(final DatabaseType databaseType, final String sql) {
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance(databaseType, sql);
+        if (!(sqlParser instanceof Parser)) {
+            return sqlParser.execute();
+        }
+        Optional<ParserRuleContext> result = executeWithSLL(sqlParser, (Parser) sqlParser);
+        return result.isPresent() ? result.get() : executeWithLL(sqlParser, (Parser) sqlParser);
+    }
+    
+    private static Optional<ParserRuleContext> executeWithSLL(final SQLParser sqlParser, final Parser parser) {
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            ParserRuleContext result = sqlParser.execute();
+            return Token.EOF == parser.getCurrentToken().getType() ? Optional.of(result) : Optional.<ParserRuleContext>absent();
+        } catch (final ParseCancellationException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private static ParserRuleContext executeWithLL(final SQLParser sqlParser, final Parser parser) {
+        parser.reset();
+        parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return sqlParser.execute();
+    }
+}
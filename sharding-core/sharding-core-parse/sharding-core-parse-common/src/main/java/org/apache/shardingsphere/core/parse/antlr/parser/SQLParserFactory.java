@@ -19,11 +19,20 @@ package org.apache.shardingsphere.core.parse.antlr.parser;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenSource;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.parse.api.SQLParser;
 import org.apache.shardingsphere.core.parse.spi.ShardingParseEngine;
 import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * SQL parser factory.
  * 
@@ -33,6 +42,16 @@ import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final Map<DatabaseType, ShardingParseEngine> PARSE_ENGINES = new ConcurrentHashMap<>();
+    
+    private static final ThreadLocal<Map<DatabaseType, SQLParser>> THREAD_LOCAL_PARSERS = new ThreadLocal<Map<DatabaseType, SQLParser>>() {
+        
+        @Override
+        protected Map<DatabaseType, SQLParser> initialValue() {
+            return new EnumMap<>(DatabaseType.class);
+        }
+    };
+    
     static {
         NewInstanceServiceLoader.register(ShardingParseEngine.class);
     }
@@ -45,9 +64,55 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
+        return getParseEngine(databaseType).createSQLParser(sql);
+    }
+    
+    /**
+     * Get SQL parser reused by current thread.
+     * 
+     * <p>
+     * Lexer and token stream of the parser are reset with SQL, so the parser must not be used after next invocation on the same thread.
+     * </p>
+     * 
+     * @param databaseType database type
+     * @param sql SQL
+     * @return SQL parser
+     */
+    public static SQLParser getThreadLocalInstance(final DatabaseType databaseType, final String sql) {
+        Map<DatabaseType, SQLParser> sqlParsers = THREAD_LOCAL_PARSERS.get();
+        SQLParser result = sqlParsers.get(databaseType);
+        if (null != result && resetInputStream(result, sql)) {
+            return result;
+        }
+        result = newInstance(databaseType, sql);
+        sqlParsers.put(databaseType, result);
+        return result;
+    }
+    
+    private static boolean resetInputStream(final SQLParser sqlParser, final String sql) {
+        if (!(sqlParser instanceof Parser)) {
+            return false;
+        }
+        Parser parser = (Parser) sqlParser;
+        TokenSource tokenSource = parser.getTokenStream().getTokenSource();
+        if (!(tokenSource instanceof Lexer)) {
+            return false;
+        }
+        Lexer lexer = (Lexer) tokenSource;
+        lexer.setInputStream(CharStreams.fromString(sql));
+        parser.setTokenStream(new CommonTokenStream(lexer));
+        return true;
+    }
+    
+    private static ShardingParseEngine getParseEngine(final DatabaseType databaseType) {
+        ShardingParseEngine result = PARSE_ENGINES.get(databaseType);
+        if (null != result) {
+            return result;
+        }
         for (ShardingParseEngine each : NewInstanceServiceLoader.newServiceInstances(ShardingParseEngine.class)) {
             if (DatabaseType.valueOf(each.getDatabaseType()) == databaseType) {
-                return each.createSQLParser(sql);
+                PARSE_ENGINES.put(databaseType, each);
+                return each;
             }
         }
         throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.antlr.parser;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.parse.lexer.LexerEngine;
+import org.apache.shardingsphere.core.parse.lexer.LexerEngineFactory;
+import org.apache.shardingsphere.core.parse.lexer.token.Assist;
+import org.apache.shardingsphere.core.parse.lexer.token.Literals;
+import org.apache.shardingsphere.core.parse.parameterize.ParameterizedSQL;
+import org.apache.shardingsphere.core.parse.parameterize.SQLParameterizeEngine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.regex.Pattern;
+
+/**
+ * SQL parser warm up.
+ * 
+ * <p>
+ * Prediction DFA learned by SQL parsers is shared by all parsers of same database type,
+ * replaying SQLs of previous workload at startup makes first parsing of those SQLs avoid full context prediction.
+ * SQL file holds one SQL per line, blank lines and lines start with '#' are ignored.
+ * Only SQLs without literals are saved, literals of DML are replaced with placeholders before saving,
+ * and SQLs already in the file are kept, so the file accumulates workloads of several runs.
+ * SQLs saved by latest run are moved to end of file, and earliest SQLs are dropped when the file exceeds max size.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserWarmUp {
+    
+    private static final Pattern LINE_SEPARATOR_PATTERN = Pattern.compile("[\\r\\n]+");
+    
+    /**
+     * Warm up SQL parsers.
+     * 
+     * @param databaseType database type
+     * @param sqls SQLs to be parsed
+     * @return count of SQLs parsed without exception
+     */
+    public static int warmUp(final DatabaseType databaseType, final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                SQLParserExecutor.execute(databaseType, each);
+                result++;
+                // CHECKSTYLE:OFF
+            } catch (final Exception ignored) {
+                // CHECKSTYLE:ON
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Load SQLs from file.
+     * 
+     * @param sqlFile SQL file
+     * @return SQLs
+     * @throws IOException IO exception
+     */
+    public static Collection<String> load(final String sqlFile) throws IOException {
+        Collection<String> result = new LinkedList<>();
+        for (String each : Files.readAllLines(Paths.get(sqlFile), StandardCharsets.UTF_8)) {
+            String sql = each.trim();
+            if (!sql.isEmpty() && !sql.startsWith("#")) {
+                result.add(sql);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Save SQLs to file.
+     * 
+     * @param databaseType database type
+     * @param sqls SQLs
+     * @param sqlFile SQL file
+     * @param maxSize max count of SQLs kept in file
+     * @throws IOException IO exception
+     */
+    public static void save(final DatabaseType databaseType, final Collection<String> sqls, final String sqlFile, final long maxSize) throws IOException {
+        Path path = Paths.get(sqlFile);
+        Collection<String> lines = new LinkedHashSet<>();
+        if (Files.isRegularFile(path)) {
+            lines.addAll(load(sqlFile));
+        }
+        SQLParameterizeEngine parameterizeEngine = new SQLParameterizeEngine(databaseType);
+        for (String each : sqls) {
+            String sql = LINE_SEPARATOR_PATTERN.matcher(each).replaceAll(" ").trim();
+            if (sql.isEmpty()) {
+                continue;
+            }
+            Optional<ParameterizedSQL> parameterizedSQL = parameterizeEngine.parameterize(sql);
+            if (parameterizedSQL.isPresent()) {
+                sql = parameterizedSQL.get().getSql();
+            }
+            if (!containsLiteral(databaseType, sql)) {
+                lines.remove(sql);
+                lines.add(sql);
+            }
+        }
+        Iterator<String> iterator = lines.iterator();
+        while (lines.size() > maxSize) {
+            iterator.next();
+            iterator.remove();
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8);
+    }
+    
+    private static boolean containsLiteral(final DatabaseType databaseType, final String sql) {
+        try {
+            LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+            lexerEngine.nextToken();
+            while (Assist.END != lexerEngine.getCurrentToken().getType()) {
+                if (isLiteral(lexerEngine.getCurrentToken().getType())) {
+                    return true;
+                }
+                lexerEngine.nextToken();
+            }
+            return false;
+        } catch (final ShardingException ex) {
+            return true;
+        }
+    }
+    
+    private static boolean isLiteral(final Object tokenType) {
+        return Literals.INT == tokenType || Literals.FLOAT == tokenType || Literals.HEX == tokenType || Literals.CHARS == tokenType;
+    }
+}
@@ -17,21 +17,44 @@
 
 package org.apache.shardingsphere.core.parse.cache;
 
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map.Entry;
 
 /**
  * Parsing result cache.
+ * 
+ * <p>
+ * Cache is bounded by maximum entry size, least recently used entries will be evicted when size exceeded.
+ * Reads are lock free, hit, miss and eviction counts are recorded.
+ * </p>
  *
  * @author zhangliang
  * @author zhaojun
  */
 public final class ParsingResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    /**
+     * Default maximum size of parsing result cache.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 65535L;
+    
+    private final Cache<String, SQLStatement> cache;
+    
+    public ParsingResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public ParsingResultCache(final long maximumSize) {
+        Preconditions.checkArgument(maximumSize >= 0L, "Maximum size of parsing result cache can not be negative.");
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats().build();
+    }
     
     /**
      * Put SQL and parsing result into cache.
@@ -50,13 +73,63 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Put all parsing results of another cache, except SQLs which access excluded tables.
+     * 
+     * @param parsingResultCache parsing result cache to be copied
+     * @param excludedTableNames lower case names of excluded tables
+     */
+    public void putAll(final ParsingResultCache parsingResultCache, final Collection<String> excludedTableNames) {
+        for (Entry<String, SQLStatement> entry : parsingResultCache.cache.asMap().entrySet()) {
+            if (!isAccessed(entry.getValue(), excludedTableNames)) {
+                cache.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+    
+    private boolean isAccessed(final SQLStatement sqlStatement, final Collection<String> tableNames) {
+        for (String each : sqlStatement.getTables().getTableNames()) {
+            if (tableNames.contains(each.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get cached SQLs.
+     * 
+     * @return cached SQLs
+     */
+    public Collection<String> getSQLs() {
+        return new ArrayList<>(cache.asMap().keySet());
+    }
+    
+    /**
+     * Get cached size.
+     * 
+     * @return cached size
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get statistics of hit, miss and eviction counts.
+     * 
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
     }
 }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parameterize;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Sets;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.parse.lexer.LexerEngine;
+import org.apache.shardingsphere.core.parse.lexer.LexerEngineFactory;
+import org.apache.shardingsphere.core.parse.lexer.token.Assist;
+import org.apache.shardingsphere.core.parse.lexer.token.Keyword;
+import org.apache.shardingsphere.core.parse.lexer.token.Literals;
+import org.apache.shardingsphere.core.parse.lexer.token.Symbol;
+import org.apache.shardingsphere.core.parse.lexer.token.Token;
+import org.apache.shardingsphere.core.util.NumberUtil;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL parameterize engine.
+ * 
+ * <p>
+ * Normalize literals of DML into placeholders, so statements with same shape but different literals can share one parsed SQL statement.
+ * Only literals of WHERE, HAVING, SET, VALUES and LIMIT clauses which are safe to be placeholders are parameterized,
+ * such as right side of comparison, values of IN and INSERT, BETWEEN ranges and pagination.
+ * Literals in select items, functions, JOIN conditions, ORDER BY and GROUP BY are kept as they are, so labels of select items are not changed.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class SQLParameterizeEngine {
+    
+    private static final Collection<String> DML_KEYWORDS = Sets.newHashSet("SELECT", "INSERT", "UPDATE", "DELETE");
+    
+    private static final Collection<Symbol> COMPARISON_SYMBOLS = Sets.newHashSet(
+            Symbol.EQ, Symbol.GT, Symbol.LT, Symbol.GT_EQ, Symbol.LT_EQ, Symbol.LT_GT, Symbol.BANG_EQ, Symbol.LT_EQ_GT);
+    
+    private static final Collection<String> PARAMETERIZABLE_KEYWORDS = Sets.newHashSet("LIMIT", "OFFSET", "BETWEEN", "LIKE");
+    
+    private static final Collection<String> PARAMETERIZABLE_CLAUSE_KEYWORDS = Sets.newHashSet("WHERE", "HAVING", "SET", "VALUES", "VALUE", "LIMIT");
+    
+    private static final Collection<String> UNPARAMETERIZABLE_CLAUSE_KEYWORDS = Sets.newHashSet("SELECT", "FROM", "JOIN", "ON", "USING", "GROUP", "ORDER", "UNION", "DUPLICATE", "FOR");
+    
+    private static final Collection<String> VALUE_LIST_KEYWORDS = Sets.newHashSet("IN", "VALUES", "VALUE");
+    
+    private final DatabaseType databaseType;
+    
+    /**
+     * Parameterize SQL.
+     * 
+     * @param sql SQL
+     * @return parameterized SQL, absent if SQL is not DML or no literal can be parameterized
+     */
+    public Optional<ParameterizedSQL> parameterize(final String sql) {
+        try {
+            return doParameterize(sql);
+        } catch (final ShardingException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private Optional<ParameterizedSQL> doParameterize(final String sql) {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        lexerEngine.nextToken();
+        if (!DML_KEYWORDS.contains(lexerEngine.getCurrentToken().getLiterals().toUpperCase())) {
+            return Optional.absent();
+        }
+        StringBuilder normalizedSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new LinkedList<>();
+        LinkedList<Boolean> valueListParentheses = new LinkedList<>();
+        Token previousToken = lexerEngine.getCurrentToken();
+        boolean inParameterizableClause = false;
+        boolean inValues = false;
+        boolean inLimit = false;
+        boolean inBetween = false;
+        boolean isBetweenAnd = false;
+        int lastPosition = 0;
+        lexerEngine.nextToken();
+        while (Assist.END != lexerEngine.getCurrentToken().getType()) {
+            Token currentToken = lexerEngine.getCurrentToken();
+            if (Symbol.QUESTION == currentToken.getType() || isUnsafeChars(sql, currentToken)) {
+                return Optional.absent();
+            }
+            if (isLiteral(currentToken) && inParameterizableClause && isParameterizable(previousToken, valueListParentheses, inLimit, isBetweenAnd)) {
+                int beginPosition = getBeginPosition(currentToken);
+                normalizedSQL.append(sql, lastPosition, beginPosition).append(Symbol.QUESTION.getLiterals());
+                parameters.add(getValue(currentToken));
+                lastPosition = currentToken.getEndPosition();
+            }
+            if (Symbol.LEFT_PAREN == currentToken.getType()) {
+                valueListParentheses.push(isValueListKeyword(previousToken) || inValues && valueListParentheses.isEmpty() && Symbol.COMMA == previousToken.getType());
+            } else if (Symbol.RIGHT_PAREN == currentToken.getType() && !valueListParentheses.isEmpty()) {
+                valueListParentheses.pop();
+            } else if (isKeyword(currentToken) && valueListParentheses.isEmpty()) {
+                String keyword = currentToken.getLiterals().toUpperCase();
+                inParameterizableClause = PARAMETERIZABLE_CLAUSE_KEYWORDS.contains(keyword) || inParameterizableClause && !UNPARAMETERIZABLE_CLAUSE_KEYWORDS.contains(keyword);
+                inValues = "VALUES".equals(keyword) || "VALUE".equals(keyword);
+                inLimit = "LIMIT".equals(keyword) || inLimit && "OFFSET".equals(keyword);
+                isBetweenAnd = inBetween && "AND".equals(keyword);
+                inBetween = "BETWEEN".equals(keyword) || inBetween && !isBetweenAnd;
+            }
+            previousToken = currentToken;
+            lexerEngine.nextToken();
+        }
+        if (parameters.isEmpty()) {
+            return Optional.absent();
+        }
+        normalizedSQL.append(sql.substring(lastPosition));
+        return Optional.of(new ParameterizedSQL(normalizedSQL.toString(), parameters));
+    }
+    
+    private boolean isUnsafeChars(final String sql, final Token token) {
+        if (Literals.CHARS != token.getType()) {
+            return false;
+        }
+        int beginPosition = getBeginPosition(token);
+        return token.getLiterals().indexOf('\\') >= 0 || '\'' != sql.charAt(beginPosition) || beginPosition > 0 && Character.isLetter(sql.charAt(beginPosition - 1));
+    }
+    
+    private boolean isLiteral(final Token token) {
+        return Literals.INT == token.getType() || Literals.CHARS == token.getType();
+    }
+    
+    private boolean isParameterizable(final Token previousToken, final LinkedList<Boolean> valueListParentheses, final boolean inLimit, final boolean isBetweenAnd) {
+        if (COMPARISON_SYMBOLS.contains(previousToken.getType())) {
+            return true;
+        }
+        if (isKeyword(previousToken)) {
+            String keyword = previousToken.getLiterals().toUpperCase();
+            return PARAMETERIZABLE_KEYWORDS.contains(keyword) || isBetweenAnd && "AND".equals(keyword);
+        }
+        if (Symbol.LEFT_PAREN == previousToken.getType() || Symbol.COMMA == previousToken.getType()) {
+            return valueListParentheses.isEmpty() ? inLimit && Symbol.COMMA == previousToken.getType() : valueListParentheses.peek();
+        }
+        return false;
+    }
+    
+    private boolean isKeyword(final Token token) {
+        return token.getType() instanceof Keyword && !(token.getType() instanceof Symbol);
+    }
+    
+    private boolean isValueListKeyword(final Token token) {
+        return isKeyword(token) && VALUE_LIST_KEYWORDS.contains(token.getLiterals().toUpperCase());
+    }
+    
+    private int getBeginPosition(final Token token) {
+        return Literals.CHARS == token.getType() ? token.getEndPosition() - token.getLiterals().length() - 2 : token.getEndPosition() - token.getLiterals().length();
+    }
+    
+    private Object getValue(final Token token) {
+        return Literals.CHARS == token.getType() ? token.getLiterals() : NumberUtil.getExactlyNumber(token.getLiterals(), 10);
+    }
+    
+    /**
+     * Restore parameters into parameterized SQL.
+     * 
+     * @param parameterizedSQL parameterized SQL
+     * @param parameters parameters of placeholders
+     * @return SQL with literals
+     */
+    public String restore(final String parameterizedSQL, final List<Object> parameters) {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, parameterizedSQL);
+        StringBuilder result = new StringBuilder(parameterizedSQL.length() + parameters.size() * 8);
+        int lastPosition = 0;
+        int parameterIndex = 0;
+        lexerEngine.nextToken();
+        while (Assist.END != lexerEngine.getCurrentToken().getType()) {
+            if (Symbol.QUESTION == lexerEngine.getCurrentToken().getType()) {
+                int endPosition = lexerEngine.getCurrentToken().getEndPosition();
+                result.append(parameterizedSQL, lastPosition, endPosition - 1);
+                appendLiteral(result, parameters.get(parameterIndex++));
+                lastPosition = endPosition;
+            }
+            lexerEngine.nextToken();
+        }
+        return result.append(parameterizedSQL.substring(lastPosition)).toString();
+    }
+    
+    private void appendLiteral(final StringBuilder sql, final Object parameter) {
+        if (null == parameter) {
+            sql.append("NULL");
+        } else if (parameter instanceof Number) {
+            sql.append(parameter);
+        } else {
+            sql.append('\'').append(parameter).append('\'');
+        }
+    }
+}
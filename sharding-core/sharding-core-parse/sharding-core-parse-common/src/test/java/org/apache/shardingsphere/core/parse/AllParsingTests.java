@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.core.parse;
 
 import org.apache.shardingsphere.core.parse.antlr.AllAntlrTests;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCacheTest;
 import org.apache.shardingsphere.core.parse.hook.SPIParsingHookTest;
 import org.apache.shardingsphere.core.parse.lexer.AllLexerTests;
+import org.apache.shardingsphere.core.parse.parameterize.SQLParameterizeEngineTest;
 import org.apache.shardingsphere.core.parse.parser.constant.AllConstantTests;
 import org.apache.shardingsphere.core.parse.parser.context.AllContextTests;
 import org.apache.shardingsphere.core.parse.parser.sql.AllSQLTests;
@@ -37,7 +39,9 @@ import org.junit.runners.Suite.SuiteClasses;
         SQLJudgeEngineTest.class, 
         AllContextTests.class, 
         AllConstantTests.class, 
-        SPIParsingHookTest.class
+        SPIParsingHookTest.class, 
+        ParsingResultCacheTest.class, 
+        SQLParameterizeEngineTest.class
 })
 public final class AllParsingTests {
 }
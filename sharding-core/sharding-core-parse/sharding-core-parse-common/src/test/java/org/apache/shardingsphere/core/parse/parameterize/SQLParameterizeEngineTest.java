@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parameterize;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParameterizeEngineTest {
+    
+    private final SQLParameterizeEngine parameterizeEngine = new SQLParameterizeEngine(DatabaseType.MySQL);
+    
+    @Test
+    public void assertParameterizeSelect() {
+        Optional<ParameterizedSQL> actual = parameterizeEngine.parameterize("SELECT * FROM t_order WHERE user_id = 10 AND status IN ('init', 'done') AND order_id BETWEEN 1 AND 100 LIMIT 5, 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND status IN (?, ?) AND order_id BETWEEN ? AND ? LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "init", "done", 1, 100, 5, 10)));
+    }
+    
+    @Test
+    public void assertParameterizeInsert() {
+        Optional<ParameterizedSQL> actual = parameterizeEngine.parameterize("INSERT INTO t_order (order_id, status) VALUES (1, 'init'), (2, 'done')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "init", 2, "done")));
+    }
+    
+    @Test
+    public void assertParameterizeWithoutOrderByAndFunctionLiterals() {
+        Optional<ParameterizedSQL> actual = parameterizeEngine.parameterize("SELECT SUBSTR(status, 1, 2) FROM t_order WHERE order_id = 1 ORDER BY 1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT SUBSTR(status, 1, 2) FROM t_order WHERE order_id = ? ORDER BY 1"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertParameterizeWithoutSelectItemAndJoinConditionLiterals() {
+        Optional<ParameterizedSQL> actual = parameterizeEngine.parameterize(
+                "SELECT user_id, SUM(CASE WHEN o.status = 'init' THEN 1 END) FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id AND i.status = 'init' "
+                        + "WHERE o.user_id = 10 GROUP BY user_id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT user_id, SUM(CASE WHEN o.status = 'init' THEN 1 END) FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id AND i.status = 'init' "
+                + "WHERE o.user_id = ? GROUP BY user_id"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(10)));
+    }
+    
+    @Test
+    public void assertParameterizeUpdate() {
+        Optional<ParameterizedSQL> actual = parameterizeEngine.parameterize("UPDATE t_order SET status = 'done' WHERE order_id = 1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("UPDATE t_order SET status = ? WHERE order_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList("done", 1)));
+    }
+    
+    @Test
+    public void assertParameterizeWithoutLiterals() {
+        assertFalse(parameterizeEngine.parameterize("SELECT * FROM t_order").isPresent());
+    }
+    
+    @Test
+    public void assertParameterizeWithPlaceholder() {
+        assertFalse(parameterizeEngine.parameterize("SELECT * FROM t_order WHERE order_id = ? AND user_id = 1").isPresent());
+    }
+    
+    @Test
+    public void assertParameterizeWithEscapedChars() {
+        assertFalse(parameterizeEngine.parameterize("SELECT * FROM t_order WHERE status = 'a\\'b'").isPresent());
+    }
+    
+    @Test
+    public void assertParameterizeDDL() {
+        assertFalse(parameterizeEngine.parameterize("CREATE TABLE t_order (status VARCHAR(10))").isPresent());
+    }
+    
+    @Test
+    public void assertRestore() {
+        assertThat(parameterizeEngine.restore("SELECT * FROM t_order_0 WHERE user_id = ? AND status = ? AND remark = '?' LIMIT ?", Arrays.<Object>asList(10, "init", 15)),
+                is("SELECT * FROM t_order_0 WHERE user_id = 10 AND status = 'init' AND remark = '?' LIMIT 15"));
+    }
+}
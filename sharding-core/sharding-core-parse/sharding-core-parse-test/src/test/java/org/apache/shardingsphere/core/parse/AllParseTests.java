@@ -19,6 +19,9 @@ package org.apache.shardingsphere.core.parse;
 
 import org.apache.shardingsphere.core.parse.ddl.IntegrateDDLParsingCompatibleTest;
 import org.apache.shardingsphere.core.parse.integrate.AllParsingIntegrateTests;
+import org.apache.shardingsphere.core.parse.parser.SQLParserExecutorTest;
+import org.apache.shardingsphere.core.parse.parser.SQLParserFactoryTest;
+import org.apache.shardingsphere.core.parse.parser.SQLParserWarmUpTest;
 import org.apache.shardingsphere.core.parse.rule.AllRuleTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -27,6 +30,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         AllRuleTests.class,
+        SQLParserFactoryTest.class,
+        SQLParserExecutorTest.class,
+        SQLParserWarmUpTest.class,
         AntlrIntegrateParsingTest.class,
         IntegrateDDLParsingCompatibleTest.class,
         AllParsingIntegrateTests.class
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.antlr.v4.runtime.Parser;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parse.antlr.parser.SQLParserExecutor;
+import org.apache.shardingsphere.core.parse.antlr.parser.SQLParserFactory;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserExecutorTest {
+    
+    private static final String MULTI_JOIN_SQL = "SELECT o.order_id, i.item_id, u.user_name FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id "
+            + "LEFT JOIN t_user u ON o.user_id = u.user_id INNER JOIN t_order_ext e USING (order_id) WHERE o.user_id = ? AND o.status = 'OK' ORDER BY o.order_id";
+    
+    @Test
+    public void assertExecuteMultiJoinSQL() {
+        for (DatabaseType each : new DatabaseType[] {DatabaseType.MySQL, DatabaseType.PostgreSQL}) {
+            assertThat(toStringTree(each, MULTI_JOIN_SQL), is(toStringTreeWithLL(each, MULTI_JOIN_SQL)));
+        }
+    }
+    
+    @Test
+    public void assertExecuteWithSyntaxError() {
+        assertThat(SQLParserExecutor.execute(DatabaseType.MySQL, "SELECT order_id FROM t_order WHERE").getChild(0).getClass().getSimpleName(), is("SelectContext"));
+        assertThat(toStringTree(DatabaseType.MySQL, MULTI_JOIN_SQL), is(toStringTreeWithLL(DatabaseType.MySQL, MULTI_JOIN_SQL)));
+    }
+    
+    private String toStringTree(final DatabaseType databaseType, final String sql) {
+        return SQLParserExecutor.execute(databaseType, sql).toStringTree((Parser) SQLParserFactory.getThreadLocalInstance(databaseType, sql));
+    }
+    
+    private String toStringTreeWithLL(final DatabaseType databaseType, final String sql) {
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, sql);
+        return sqlParser.execute().toStringTree((Parser) sqlParser);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parse.antlr.parser.SQLParserFactory;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserFactoryTest {
+    
+    @Test
+    public void assertNewInstance() {
+        assertThat(SQLParserFactory.newInstance(DatabaseType.MySQL, "SELECT 1"), not(sameInstance(SQLParserFactory.newInstance(DatabaseType.MySQL, "SELECT 1"))));
+    }
+    
+    @Test
+    public void assertGetThreadLocalInstance() {
+        SQLParser expected = SQLParserFactory.getThreadLocalInstance(DatabaseType.MySQL, "SELECT 1");
+        expected.execute();
+        SQLParser actual = SQLParserFactory.getThreadLocalInstance(DatabaseType.MySQL, "SELECT id FROM t_order");
+        assertThat(actual, sameInstance(expected));
+        assertThat(actual.execute().getText(), is("SELECTidFROMt_order"));
+    }
+    
+    @Test
+    public void assertGetThreadLocalInstanceForDifferentDatabaseTypes() {
+        assertThat(SQLParserFactory.getThreadLocalInstance(DatabaseType.MySQL, "SELECT 1"), not(sameInstance(SQLParserFactory.getThreadLocalInstance(DatabaseType.PostgreSQL, "SELECT 1"))));
+    }
+}
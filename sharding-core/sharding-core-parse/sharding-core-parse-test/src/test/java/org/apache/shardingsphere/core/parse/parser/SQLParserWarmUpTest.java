@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parse.antlr.parser.SQLParserWarmUp;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserWarmUpTest {
+    
+    @Test
+    public void assertWarmUp() {
+        assertThat(SQLParserWarmUp.warmUp(DatabaseType.MySQL, Arrays.asList("SELECT id FROM t_order WHERE user_id = ?", "INSERT INTO t_order (user_id) VALUES (?)")), is(2));
+    }
+    
+    @Test
+    public void assertSaveAndLoad() throws IOException {
+        File file = File.createTempFile("sql-parser-warm-up-", ".sql");
+        try {
+            SQLParserWarmUp.save(DatabaseType.MySQL, Arrays.asList("SELECT id\nFROM t_order", "SELECT id FROM t_order", " "), file.getPath(), 10L);
+            assertThat(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8), is(Collections.singletonList("SELECT id FROM t_order")));
+            Files.write(file.toPath(), Arrays.asList("# comment", "", "SELECT 1", "  SELECT 2  "), StandardCharsets.UTF_8);
+            assertThat(SQLParserWarmUp.load(file.getPath()).toArray(), is(new Object[]{"SELECT 1", "SELECT 2"}));
+        } finally {
+            file.delete();
+        }
+    }
+    
+    @Test
+    public void assertSaveWithoutLiterals() throws IOException {
+        File file = File.createTempFile("sql-parser-warm-up-", ".sql");
+        try {
+            SQLParserWarmUp.save(DatabaseType.MySQL, Arrays.asList("SELECT id FROM t_order WHERE user_id = 10 AND status = 'paid'",
+                    "SELECT id FROM t_order WHERE user_id = ?", "SELECT SUBSTR(name, 1, 2) FROM t_user", "DROP TABLE t_order_1"), file.getPath(), 10L);
+            assertThat(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8),
+                    is(Arrays.asList("SELECT id FROM t_order WHERE user_id = ? AND status = ?", "SELECT id FROM t_order WHERE user_id = ?", "DROP TABLE t_order_1")));
+        } finally {
+            file.delete();
+        }
+    }
+    
+    @Test
+    public void assertSaveWithExistedFile() throws IOException {
+        File file = File.createTempFile("sql-parser-warm-up-", ".sql");
+        try {
+            Files.write(file.toPath(), Arrays.asList("# comment", "SELECT id FROM t_order", "SELECT id FROM t_user"), StandardCharsets.UTF_8);
+            SQLParserWarmUp.save(DatabaseType.MySQL, Arrays.asList("SELECT id FROM t_user", "SELECT id FROM t_order_item"), file.getPath(), 10L);
+            assertThat(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8), is(Arrays.asList("SELECT id FROM t_order", "SELECT id FROM t_user", "SELECT id FROM t_order_item")));
+        } finally {
+            file.delete();
+        }
+    }
+    
+    @Test
+    public void assertSaveWithMaxSize() throws IOException {
+        File file = File.createTempFile("sql-parser-warm-up-", ".sql");
+        try {
+            Files.write(file.toPath(), Arrays.asList("SELECT id FROM t_order", "SELECT id FROM t_user", "SELECT id FROM t_order_item"), StandardCharsets.UTF_8);
+            SQLParserWarmUp.save(DatabaseType.MySQL, Arrays.asList("SELECT id FROM t_order", "SELECT id FROM t_config"), file.getPath(), 3L);
+            assertThat(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8), is(Arrays.asList("SELECT id FROM t_order_item", "SELECT id FROM t_order", "SELECT id FROM t_config")));
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rewritten SQL cache.
+ * 
+ * <p>
+ * Cache SQL builder and actual SQL of each table unit for one logic SQL,
+ * only used when rewriting of the logic SQL does not depend on parameters, so parameters are the only thing changed for each execution.
+ * </p>
+ *
+ * @author agent
+ */
+public final class RewrittenSQLCache {
+    
+    private final ConcurrentMap<TableUnit, String> actualSQLs = new ConcurrentHashMap<>();
+    
+    private volatile SQLBuilder sqlBuilder;
+    
+    Optional<SQLBuilder> getSQLBuilder() {
+        return Optional.fromNullable(sqlBuilder);
+    }
+    
+    void setSQLBuilder(final SQLBuilder sqlBuilder) {
+        this.sqlBuilder = sqlBuilder;
+    }
+    
+    Optional<String> getActualSQL(final TableUnit tableUnit) {
+        return Optional.fromNullable(actualSQLs.get(tableUnit));
+    }
+    
+    void putActualSQL(final TableUnit tableUnit, final String actualSQL) {
+        actualSQLs.put(tableUnit, actualSQL);
+    }
+    
+    /**
+     * Get cached size of actual SQL.
+     * 
+     * @return cached size of actual SQL
+     */
+    public int size() {
+        return actualSQLs.size();
+    }
+}
@@ -67,6 +67,12 @@ public final class SQLBuilder {
         segments.add(currentSegment);
     }
     
+    public SQLBuilder(final SQLBuilder sqlBuilder, final List<Object> parameters) {
+        segments = sqlBuilder.segments;
+        this.parameters = parameters;
+        currentSegment = sqlBuilder.currentSegment;
+    }
+    
     /**
      * Append literals.
      *
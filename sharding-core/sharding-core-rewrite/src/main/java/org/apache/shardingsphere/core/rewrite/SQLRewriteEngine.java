@@ -115,6 +115,8 @@ public final class SQLRewriteEngine {
     
     private final OptimizeResult optimizeResult;
     
+    private final RewrittenSQLCache rewrittenSQLCache;
+    
     private final RewriteHook rewriteHook = new SPIRewriteHook();
     
     /**
@@ -128,6 +130,22 @@ public final class SQLRewriteEngine {
      */
     public SQLRewriteEngine(final ShardingRule shardingRule,
                             final String originalSQL, final DatabaseType databaseType, final SQLRouteResult sqlRouteResult, final List<Object> parameters, final OptimizeResult optimizeResult) {
+        this(shardingRule, originalSQL, databaseType, sqlRouteResult, parameters, optimizeResult, null);
+    }
+    
+    /**
+     * Constructs SQL rewrite engine with rewritten SQL cache.
+     * 
+     * @param shardingRule databases and tables sharding rule
+     * @param originalSQL original SQL
+     * @param databaseType database type
+     * @param sqlRouteResult SQL route result
+     * @param parameters parameters
+     * @param optimizeResult optimize result
+     * @param rewrittenSQLCache rewritten SQL cache of original SQL, {@code null} if not cache
+     */
+    public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, final DatabaseType databaseType, 
+                            final SQLRouteResult sqlRouteResult, final List<Object> parameters, final OptimizeResult optimizeResult, final RewrittenSQLCache rewrittenSQLCache) {
         this.shardingRule = shardingRule;
         this.originalSQL = originalSQL;
         this.databaseType = databaseType;
@@ -137,6 +155,16 @@ public final class SQLRewriteEngine {
         this.parameters = parameters;
         appendedIndexAndParameters = new LinkedHashMap<>();
         this.optimizeResult = optimizeResult;
+        this.rewrittenSQLCache = isIndependentOfParameters() ? rewrittenSQLCache : null;
+    }
+    
+    private boolean isIndependentOfParameters() {
+        for (SQLToken each : sqlTokens) {
+            if (!(each instanceof TableToken || each instanceof SchemaToken || each instanceof IndexToken || each instanceof RemoveToken)) {
+                return false;
+            }
+        }
+        return true;
     }
     
     /**
@@ -146,6 +174,19 @@ public final class SQLRewriteEngine {
      * @return SQL builder
      */
     public SQLBuilder rewrite(final boolean isSingleRouting) {
+        if (null == rewrittenSQLCache) {
+            return createSQLBuilder(isSingleRouting);
+        }
+        Optional<SQLBuilder> cachedSQLBuilder = rewrittenSQLCache.getSQLBuilder();
+        if (cachedSQLBuilder.isPresent()) {
+            return new SQLBuilder(cachedSQLBuilder.get(), parameters);
+        }
+        SQLBuilder result = createSQLBuilder(isSingleRouting);
+        rewrittenSQLCache.setSQLBuilder(result);
+        return result;
+    }
+    
+    private SQLBuilder createSQLBuilder(final boolean isSingleRouting) {
         SQLBuilder result = new SQLBuilder(parameters);
         if (sqlTokens.isEmpty()) {
             return appendOriginalLiterals(result);
@@ -508,7 +549,8 @@ public final class SQLRewriteEngine {
     public SQLUnit generateSQL(final TableUnit tableUnit, final SQLBuilder sqlBuilder, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         rewriteHook.start(tableUnit);
         try {
-            SQLUnit result = sqlBuilder.toSQL(tableUnit, getTableTokens(tableUnit), shardingRule, shardingDataSourceMetaData);
+            SQLUnit result = null == rewrittenSQLCache ? sqlBuilder.toSQL(tableUnit, getTableTokens(tableUnit), shardingRule, shardingDataSourceMetaData)
+                    : generateSQLWithCache(tableUnit, sqlBuilder, shardingDataSourceMetaData);
             rewriteHook.finishSuccess(result);
             return result;
             // CHECKSTYLE:OFF
@@ -519,6 +561,16 @@ public final class SQLRewriteEngine {
         }
     }
    
+    private SQLUnit generateSQLWithCache(final TableUnit tableUnit, final SQLBuilder sqlBuilder, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+        Optional<String> cachedSQL = rewrittenSQLCache.getActualSQL(tableUnit);
+        if (cachedSQL.isPresent()) {
+            return new SQLUnit(cachedSQL.get(), new ArrayList<>(parameters));
+        }
+        SQLUnit result = sqlBuilder.toSQL(tableUnit, getTableTokens(tableUnit), shardingRule, shardingDataSourceMetaData);
+        rewrittenSQLCache.putActualSQL(tableUnit, result.getSql());
+        return result;
+    }
+    
     private Map<String, String> getTableTokens(final TableUnit tableUnit) {
         Map<String, String> result = new HashMap<>();
         for (RoutingTable each : tableUnit.getRoutingTables()) {
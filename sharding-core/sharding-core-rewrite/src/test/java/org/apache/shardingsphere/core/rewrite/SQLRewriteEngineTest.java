@@ -49,6 +49,7 @@ import org.apache.shardingsphere.core.parse.parser.expression.SQLExpression;
 import org.apache.shardingsphere.core.parse.parser.expression.SQLNumberExpression;
 import org.apache.shardingsphere.core.parse.parser.expression.SQLPlaceholderExpression;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.type.RoutingTable;
 import org.apache.shardingsphere.core.route.type.TableUnit;
 import org.apache.shardingsphere.core.rule.DataNode;
@@ -146,6 +147,45 @@ public final class SQLRewriteEngineTest {
         assertThat(rewriteEngine.rewrite(false).toSQL(null, tableTokens, null, shardingDataSourceMetaData).getSql(), is("SELECT table_1.id, x.name FROM table_1 x WHERE table_1.id=? AND x.name=?"));
     }
     
+    @Test
+    public void assertGenerateSQLWithRewrittenSQLCache() {
+        selectStatement.addSQLToken(new TableToken(7, "table_x", QuoteCharacter.NONE, 0));
+        selectStatement.addSQLToken(new TableToken(31, "table_x", QuoteCharacter.NONE, 0));
+        selectStatement.addSQLToken(new TableToken(47, "table_x", QuoteCharacter.NONE, 0));
+        routeResult = new SQLRouteResult(selectStatement);
+        routeResult.setLimit(selectStatement.getLimit());
+        String sql = "SELECT table_x.id, x.name FROM table_x x WHERE table_x.id=? AND x.name=?";
+        TableUnit tableUnit = new TableUnit("db0");
+        tableUnit.getRoutingTables().add(new RoutingTable("table_x", "table_1"));
+        RewrittenSQLCache rewrittenSQLCache = new RewrittenSQLCache();
+        SQLRewriteEngine firstRewriteEngine = new SQLRewriteEngine(shardingRule, sql, DatabaseType.MySQL, routeResult, Arrays.<Object>asList(1, "x"), null, rewrittenSQLCache);
+        SQLUnit firstSQLUnit = firstRewriteEngine.generateSQL(tableUnit, firstRewriteEngine.rewrite(false), shardingDataSourceMetaData);
+        SQLRewriteEngine secondRewriteEngine = new SQLRewriteEngine(shardingRule, sql, DatabaseType.MySQL, routeResult, Arrays.<Object>asList(2, "y"), null, rewrittenSQLCache);
+        SQLUnit secondSQLUnit = secondRewriteEngine.generateSQL(tableUnit, secondRewriteEngine.rewrite(false), shardingDataSourceMetaData);
+        assertThat(rewrittenSQLCache.size(), is(1));
+        assertThat(firstSQLUnit.getSql(), is("SELECT table_1.id, x.name FROM table_1 x WHERE table_1.id=? AND x.name=?"));
+        assertThat(secondSQLUnit.getSql(), is(firstSQLUnit.getSql()));
+        assertThat(secondSQLUnit.getParameters(), is(Arrays.<Object>asList(2, "y")));
+    }
+    
+    @Test
+    public void assertGenerateSQLWithRewrittenSQLCacheForParametersDependentTokens() {
+        selectStatement.addSQLToken(new TableToken(18, "table_x", QuoteCharacter.NONE, 0));
+        ItemsToken itemsToken = new ItemsToken(12);
+        itemsToken.getItems().add("x.id as GROUP_BY_DERIVED_0");
+        selectStatement.addSQLToken(itemsToken);
+        routeResult = new SQLRouteResult(selectStatement);
+        routeResult.setLimit(selectStatement.getLimit());
+        TableUnit tableUnit = new TableUnit("db0");
+        tableUnit.getRoutingTables().add(new RoutingTable("table_x", "table_1"));
+        RewrittenSQLCache rewrittenSQLCache = new RewrittenSQLCache();
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(
+                shardingRule, "SELECT x.age FROM table_x x GROUP BY x.id", DatabaseType.MySQL, routeResult, Collections.emptyList(), null, rewrittenSQLCache);
+        assertThat(rewriteEngine.generateSQL(tableUnit, rewriteEngine.rewrite(false), shardingDataSourceMetaData).getSql(), 
+                is("SELECT x.age, x.id as GROUP_BY_DERIVED_0 FROM table_1 x GROUP BY x.id"));
+        assertThat(rewrittenSQLCache.size(), is(0));
+    }
+    
     @Test
     public void assertRewriteForOrderByAndGroupByDerivedColumns() {
         selectStatement.addSQLToken(new TableToken(18, "table_x", QuoteCharacter.NONE, 0));
@@ -23,11 +23,10 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Batch route unit.
@@ -41,9 +40,9 @@ public final class BatchRouteUnit {
     
     private final RouteUnit routeUnit;
     
-    private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
-    
     @Getter(AccessLevel.NONE)
+    private int[] jdbcAddBatchTimesArray = new int[8];
+    
     private int actualCallAddBatchTimes;
     
     public BatchRouteUnit(final RouteUnit routeUnit) {
@@ -56,7 +55,20 @@ public final class BatchRouteUnit {
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        if (actualCallAddBatchTimes == jdbcAddBatchTimesArray.length) {
+            jdbcAddBatchTimesArray = Arrays.copyOf(jdbcAddBatchTimesArray, actualCallAddBatchTimes << 1);
+        }
+        jdbcAddBatchTimesArray[actualCallAddBatchTimes++] = jdbcAddBatchTimes;
+    }
+    
+    /**
+     * Get times of use JDBC API call addBatch which mapped to times of actual call addBatch after route.
+     *
+     * @param actualAddBatchTimes times of actual call addBatch after route
+     * @return times of use JDBC API call addBatch
+     */
+    public int getJdbcAddBatchTimes(final int actualAddBatchTimes) {
+        return jdbcAddBatchTimesArray[actualAddBatchTimes];
     }
     
     /**
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.route.router.sharding.ShardingRouterFactor
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Statement routing engine.
@@ -56,4 +57,18 @@ public final class StatementRoutingEngine {
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
     }
+    
+    /**
+     * SQL route with parameterized SQL.
+     * 
+     * <p>Parameterized SQL is shared by statements with same shape, so parsed result will be cached.</p>
+     *
+     * @param parameterizedSQL parameterized SQL
+     * @param parameters parameters extracted from literals
+     * @return route result
+     */
+    public SQLRouteResult route(final String parameterizedSQL, final List<Object> parameters) {
+        SQLStatement sqlStatement = shardingRouter.parse(parameterizedSQL, true);
+        return masterSlaveRouter.route(shardingRouter.route(parameterizedSQL, parameters, sqlStatement));
+    }
 }
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.core.route.type.standard;
 
-import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
@@ -30,7 +29,6 @@ import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingTable;
 import org.apache.shardingsphere.core.route.type.TableUnit;
-import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
@@ -164,10 +162,9 @@ public final class StandardRoutingEngine implements RoutingEngine {
     
     private List<RouteValue> getShardingValuesFromShardingConditions(final Collection<String> shardingColumns, final ShardingCondition shardingCondition) {
         List<RouteValue> result = new ArrayList<>(shardingColumns.size());
+        boolean isBindingTable = shardingRule.findBindingTableRule(logicTableName).isPresent();
         for (RouteValue each : shardingCondition.getShardingValues()) {
-            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(logicTableName);
-            if ((logicTableName.equals(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName)) 
-                    && shardingColumns.contains(each.getColumnName())) {
+            if ((isBindingTable || logicTableName.equals(each.getTableName())) && shardingColumns.contains(each.getColumnName())) {
                 result.add(each);
             }
         }
@@ -195,10 +192,10 @@ public final class StandardRoutingEngine implements RoutingEngine {
     
     private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues) {
         Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
-        Collection<String> routedTables = new LinkedHashSet<>(tableShardingValues.isEmpty() ? availableTargetTables
-                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
+        Collection<String> routedTables = tableShardingValues.isEmpty() ? availableTargetTables
+                : new LinkedHashSet<>(shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
         Preconditions.checkState(!routedTables.isEmpty(), "no table route info");
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new ArrayList<>(routedTables.size());
         for (String each : routedTables) {
             result.add(new DataNode(routedDataSource, each));
         }
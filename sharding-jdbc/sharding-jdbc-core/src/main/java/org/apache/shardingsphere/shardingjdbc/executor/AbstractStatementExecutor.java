@@ -32,10 +32,13 @@ import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.ddl.AlterTableStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
+import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
@@ -123,9 +126,17 @@ public class AbstractStatementExecutor {
         }
     }
     
-    @SuppressWarnings("unchecked")
     protected final <T> List<T> executeCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
-        List<T> result = sqlExecuteTemplate.executeGroup((Collection) executeGroups, executeCallback);
+        return executeCallback(executeCallback, false);
+    }
+    
+    protected final <T> List<T> executeQueryCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
+        return executeCallback(executeCallback, connection.getShardingContext().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.EXECUTOR_QUERY_RESULTS_IN_COMPLETION_ORDER));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T> List<T> executeCallback(final SQLExecuteCallback<T> executeCallback, final boolean inCompletionOrder) throws SQLException {
+        List<T> result = sqlExecuteTemplate.executeGroup((Collection) executeGroups, null, executeCallback, inCompletionOrder);
         refreshShardingMetaDataIfNeeded(connection.getShardingContext(), sqlStatement);
         return result;
     }
@@ -140,18 +151,29 @@ public class AbstractStatementExecutor {
      * @throws SQLException sql exception
      */
     public void clear() throws SQLException {
-        clearStatements();
-        statements.clear();
-        parameterSets.clear();
-        connections.clear();
-        resultSets.clear();
-        executeGroups.clear();
+        try {
+            clearStatements();
+        } finally {
+            statements.clear();
+            parameterSets.clear();
+            connections.clear();
+            resultSets.clear();
+            executeGroups.clear();
+        }
     }
     
     private void clearStatements() throws SQLException {
-        for (Statement each : getStatements()) {
-            each.close();
-        }
+        new ForceExecuteTemplate<Statement>().execute(getStatements(), new ForceExecuteCallback<Statement>() {
+            
+            @Override
+            public void execute(final Statement statement) throws SQLException {
+                closeStatement(statement);
+            }
+        });
+    }
+    
+    protected void closeStatement(final Statement statement) throws SQLException {
+        statement.close();
     }
     
     private void refreshShardingMetaDataIfNeeded(final ShardingContext shardingContext, final SQLStatement sqlStatement) {
@@ -165,13 +187,20 @@ public class AbstractStatementExecutor {
     }
     
     private void refreshTableMetaData(final ShardingContext shardingContext, final CreateTableStatement createTableStatement) {
-        String tableName = createTableStatement.getTables().getSingleTableName();
-        shardingContext.getMetaData().getTable().put(tableName, getTableMetaDataInitializer().load(tableName, shardingContext.getShardingRule()));
+        refreshTableMetaData(shardingContext, createTableStatement.getTables().getSingleTableName());
     }
     
     private void refreshTableMetaData(final ShardingContext shardingContext, final AlterTableStatement alterTableStatement) {
-        String tableName = alterTableStatement.getTables().getSingleTableName();
-        shardingContext.getMetaData().getTable().put(tableName, getTableMetaDataInitializer().load(tableName, shardingContext.getShardingRule()));
+        refreshTableMetaData(shardingContext, alterTableStatement.getTables().getSingleTableName());
+    }
+    
+    private void refreshTableMetaData(final ShardingContext shardingContext, final String tableName) {
+        ShardingTableMetaData shardingTableMetaData = shardingContext.getMetaData().getTable();
+        if (shardingTableMetaData.isLazyLoading()) {
+            shardingContext.getTableMetaDataRefresher().refresh(tableName);
+        } else {
+            shardingTableMetaData.put(tableName, getTableMetaDataInitializer().load(tableName, shardingContext.getShardingRule()));
+        }
     }
     
     private void refreshTableMetaData(final ShardingContext shardingContext, final DropTableStatement dropTableStatement) {
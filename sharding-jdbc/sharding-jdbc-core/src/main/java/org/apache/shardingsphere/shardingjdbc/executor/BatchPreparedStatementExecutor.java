@@ -20,7 +20,6 @@ package org.apache.shardingsphere.shardingjdbc.executor;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
-import com.google.common.collect.Collections2;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import lombok.Getter;
@@ -41,10 +40,10 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Prepared statement executor to process add batch.
@@ -55,7 +54,7 @@ import java.util.Map.Entry;
  */
 public final class BatchPreparedStatementExecutor extends AbstractStatementExecutor {
     
-    private final Collection<BatchRouteUnit> routeUnits = new LinkedList<>();
+    private final Map<RouteUnit, BatchRouteUnit> routeUnits = new LinkedHashMap<>();
     
     @Getter
     private final boolean returnGeneratedKeys;
@@ -76,7 +75,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      */
     public void init(final SQLRouteResult routeResult) throws SQLException {
         setSqlStatement(routeResult.getSqlStatement());
-        getExecuteGroups().addAll(obtainExecuteGroups(routeUnits));
+        getExecuteGroups().addAll(obtainExecuteGroups(routeUnits.values()));
     }
     
     private Collection<ShardingExecuteGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<BatchRouteUnit> routeUnits) throws SQLException {
@@ -112,45 +111,17 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
      * @param routeResult route result
      */
     public void addBatchForRouteUnits(final SQLRouteResult routeResult) {
-        handleOldRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        handleNewRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
-        batchCount++;
-    }
-    
-    private Collection<BatchRouteUnit> createBatchRouteUnits(final Collection<RouteUnit> routeUnits) {
-        Collection<BatchRouteUnit> result = new LinkedList<>();
-        for (RouteUnit each : routeUnits) {
-            result.add(new BatchRouteUnit(each));
-        }
-        return result;
-    }
-    
-    private void handleOldRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        for (final BatchRouteUnit each : newRouteUnits) {
-            Optional<BatchRouteUnit> batchRouteUnitOptional = Iterators.tryFind(routeUnits.iterator(), new Predicate<BatchRouteUnit>() {
-                
-                @Override
-                public boolean apply(final BatchRouteUnit input) {
-                    return input.equals(each);
-                }
-            });
-            if (batchRouteUnitOptional.isPresent()) {
-                reviseBatchRouteUnit(batchRouteUnitOptional.get(), each);
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            BatchRouteUnit batchRouteUnit = routeUnits.get(each);
+            if (null == batchRouteUnit) {
+                batchRouteUnit = new BatchRouteUnit(each);
+                routeUnits.put(each, batchRouteUnit);
+            } else {
+                batchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
             }
+            batchRouteUnit.mapAddBatchCount(batchCount);
         }
-    }
-    
-    private void reviseBatchRouteUnit(final BatchRouteUnit oldBatchRouteUnit, final BatchRouteUnit newBatchRouteUnit) {
-        oldBatchRouteUnit.getRouteUnit().getSqlUnit().getParameters().addAll(newBatchRouteUnit.getRouteUnit().getSqlUnit().getParameters());
-        oldBatchRouteUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewRouteUnits(final Collection<BatchRouteUnit> newRouteUnits) {
-        newRouteUnits.removeAll(routeUnits);
-        for (BatchRouteUnit each : newRouteUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        routeUnits.addAll(newRouteUnits);
+        batchCount++;
     }
     
     /**
@@ -181,17 +152,13 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
         int count = 0;
         for (ShardingExecuteGroup<StatementExecuteUnit> each : getExecuteGroups()) {
             for (StatementExecuteUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null;
-                for (BatchRouteUnit eachRouteUnit : routeUnits) {
-                    if (eachRouteUnit.getRouteUnit().equals(eachUnit.getRouteUnit())) {
-                        jdbcAndActualAddBatchCallTimesMap = eachRouteUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
+                BatchRouteUnit batchRouteUnit = routeUnits.get(eachUnit.getRouteUnit());
+                int[] actualResult = results.get(count);
+                if (null != actualResult) {
+                    for (int i = 0; i < batchRouteUnit.getActualCallAddBatchTimes(); i++) {
+                        result[batchRouteUnit.getJdbcAddBatchTimes(i)] += actualResult[i];
                     }
                 }
-                for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                    result[entry.getKey()] += value;
-                }
                 count++;
             }
         }
@@ -247,15 +214,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
     }
     
     private List<List<Object>> getParameterSets(final StatementExecuteUnit executeUnit) {
-        List<List<Object>> result;
-        result = Collections2.filter(routeUnits, new Predicate<BatchRouteUnit>() {
-
-            @Override
-            public boolean apply(final BatchRouteUnit input) {
-                return input.getRouteUnit().equals(executeUnit.getRouteUnit());
-            }
-        }).iterator().next().getParameterSets();
-        return result;
+        return routeUnits.get(executeUnit.getRouteUnit()).getParameterSets();
     }
     
     @Override
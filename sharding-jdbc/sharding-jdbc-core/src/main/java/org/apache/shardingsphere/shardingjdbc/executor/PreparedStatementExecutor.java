@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingjdbc.executor;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
@@ -53,6 +54,9 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
     @Getter
     private final boolean returnGeneratedKeys;
     
+    @Setter
+    private boolean statementsReusable = true;
+    
     public PreparedStatementExecutor(
             final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys, final ShardingConnection shardingConnection) {
         super(resultSetType, resultSetConcurrency, resultSetHoldability, shardingConnection);
@@ -86,10 +90,26 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
         });
     }
     
-    @SuppressWarnings("MagicConstant")
     private PreparedStatement createPreparedStatement(final Connection connection, final String sql) throws SQLException {
-        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql, getResultSetType(), getResultSetConcurrency(), getResultSetHoldability());
+        return getConnection().getPreparedStatementCache().getPreparedStatement(connection, sql, returnGeneratedKeys, getResultSetType(), getResultSetConcurrency(), getResultSetHoldability());
+    }
+    
+    @Override
+    protected void closeStatement(final Statement statement) throws SQLException {
+        if (statementsReusable) {
+            closeResultSets(statement);
+            getConnection().getPreparedStatementCache().release((PreparedStatement) statement);
+        } else {
+            statement.close();
+        }
+    }
+    
+    private void closeResultSets(final Statement statement) throws SQLException {
+        for (ResultSet each : getResultSets()) {
+            if (!each.isClosed() && statement == each.getStatement()) {
+                each.close();
+            }
+        }
     }
     
     /**
@@ -107,7 +127,7 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
                 return getQueryResult(statement, connectionMode);
             }
         };
-        return executeCallback(executeCallback);
+        return executeQueryCallback(executeCallback);
     }
     
     private QueryResult getQueryResult(final Statement statement, final ConnectionMode connectionMode) throws SQLException {
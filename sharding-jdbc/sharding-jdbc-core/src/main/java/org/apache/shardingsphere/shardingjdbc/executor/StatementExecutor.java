@@ -96,7 +96,7 @@ public final class StatementExecutor extends AbstractStatementExecutor {
                 return getQueryResult(routeUnit, statement, connectionMode);
             }
         };
-        return executeCallback(executeCallback);
+        return executeQueryCallback(executeCallback);
     }
     
     private QueryResult getQueryResult(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
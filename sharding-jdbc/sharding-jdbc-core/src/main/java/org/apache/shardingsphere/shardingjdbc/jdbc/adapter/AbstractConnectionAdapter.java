@@ -253,6 +253,12 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         MasterVisitedManager.clear();
         TransactionTypeHolder.clear();
         int connectionSize = cachedConnections.size();
+        SQLException closeCachedStatementsException = null;
+        try {
+            closeCachedStatements();
+        } catch (final SQLException ex) {
+            closeCachedStatementsException = ex;
+        }
         try {
             forceExecuteTemplateForClose.execute(cachedConnections.entries(), new ForceExecuteCallback<Entry<String, Connection>>() {
         
@@ -261,12 +267,35 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
                     cachedConnections.getValue().close();
                 }
             });
+        } catch (final SQLException ex) {
+            if (null != closeCachedStatementsException) {
+                ex.setNextException(closeCachedStatementsException);
+            }
+            throw ex;
         } finally {
             cachedConnections.clear();
             rootInvokeHook.finish(connectionSize);
+            releaseContext();
+        }
+        if (null != closeCachedStatementsException) {
+            throw closeCachedStatementsException;
         }
     }
     
+    /**
+     * Close statements cached by connection before closing backend connections.
+     * 
+     * @throws SQLException SQL exception
+     */
+    protected void closeCachedStatements() throws SQLException {
+    }
+    
+    /**
+     * Release runtime context held by connection after backend connections closed.
+     */
+    protected void releaseContext() {
+    }
+    
     @Override
     public final boolean isClosed() {
         return closed;
@@ -21,12 +21,12 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.execute.datasource.DataSourceCloser;
 import org.apache.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 
 import javax.sql.DataSource;
 import java.io.PrintWriter;
-import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
@@ -48,16 +48,24 @@ public abstract class AbstractDataSourceAdapter extends AbstractUnsupportedOpera
     
     private final Map<String, DataSource> dataSourceMap;
     
-    private ShardingTransactionManagerEngine shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
+    private ShardingTransactionManagerEngine shardingTransactionManagerEngine;
     
     private PrintWriter logWriter = new PrintWriter(System.out);
     
     public AbstractDataSourceAdapter(final Map<String, DataSource> dataSourceMap) throws SQLException {
         databaseType = getDatabaseType(dataSourceMap.values());
+        shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
         shardingTransactionManagerEngine.init(databaseType, dataSourceMap);
         this.dataSourceMap = dataSourceMap;
     }
     
+    protected AbstractDataSourceAdapter(final AbstractDataSourceAdapter originalDataSource) {
+        databaseType = originalDataSource.databaseType;
+        shardingTransactionManagerEngine = originalDataSource.shardingTransactionManagerEngine;
+        dataSourceMap = originalDataSource.dataSourceMap;
+        logWriter = originalDataSource.logWriter;
+    }
+    
     protected final DatabaseType getDatabaseType(final Collection<DataSource> dataSources) throws SQLException {
         DatabaseType result = null;
         for (DataSource each : dataSources) {
@@ -90,12 +98,7 @@ public abstract class AbstractDataSourceAdapter extends AbstractUnsupportedOpera
     @Override
     public void close() throws Exception {
         for (DataSource each : dataSourceMap.values()) {
-            try {
-                Method method = each.getClass().getDeclaredMethod("close");
-                method.setAccessible(true);
-                method.invoke(each);
-            } catch (final ReflectiveOperationException ignored) {
-            }
+            DataSourceCloser.close(each);
         }
         shardingTransactionManagerEngine.close();
     }
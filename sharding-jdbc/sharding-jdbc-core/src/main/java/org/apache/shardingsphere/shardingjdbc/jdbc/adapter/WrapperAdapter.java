@@ -61,6 +61,15 @@ public abstract class WrapperAdapter implements Wrapper {
         jdbcMethodInvocations.add(new JdbcMethodInvocation(targetClass.getMethod(methodName, argumentTypes), arguments));
     }
     
+    /**
+     * Judge whether any method invocation recorded.
+     * 
+     * @return any method invocation recorded or not
+     */
+    public final boolean isMethodInvocationRecorded() {
+        return !jdbcMethodInvocations.isEmpty();
+    }
+    
     /**
      * Replay methods invocation.
      * 
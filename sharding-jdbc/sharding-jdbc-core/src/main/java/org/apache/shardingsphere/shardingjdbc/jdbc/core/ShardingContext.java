@@ -17,36 +17,62 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core;
 
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.config.ShardingRuleConfigurationChange;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingExecutorMode;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataRefresher;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaDataProvider;
+import org.apache.shardingsphere.core.parse.antlr.parser.SQLParserWarmUp;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 
 import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Sharding runtime context.
  * 
+ * <p>
+ * Sharding context renewed from original one shares table meta data and parsing results of unchanged table rules,
+ * and shares execute engine if executor properties are not changed. Table meta data is reloaded if data sources are changed.
+ * Execute engine is reference counted by contexts sharing it, and is closed after the last of them closed.
+ * Lazily loaded table meta data is refreshed in background by table meta data refresher owned by this context.
+ * Sharding context is retained by connections using it, and is drained after all of them released.
+ * </p>
+ * 
  * @author gaohongtao
  * @author panjuan
  */
 @Getter
+@Slf4j
 public final class ShardingContext implements AutoCloseable {
     
     private final DatabaseMetaData cachedDatabaseMetaData;
@@ -61,19 +87,96 @@ public final class ShardingContext implements AutoCloseable {
     
     private final ShardingMetaData metaData;
     
+    private final TableMetaDataRefresher tableMetaDataRefresher;
+    
     private final ParsingResultCache parsingResultCache;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, DataSource> dataSourceMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> dataSourceURLs;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger executeEngineReferenceCount;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger retainedCount = new AtomicInteger();
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean closed = new AtomicBoolean();
+    
     public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final Properties props) throws SQLException {
         this.shardingRule = shardingRule;
         this.cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
         this.databaseType = databaseType;
+        this.dataSourceMap = dataSourceMap;
+        dataSourceURLs = getDataSourceURLs(dataSourceMap);
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
-        int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        executeEngine = new ShardingExecuteEngine(executorSize);
-        ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType);
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData).load(shardingRule));
+        executeEngine = createExecuteEngine();
+        executeEngineReferenceCount = new AtomicInteger(1);
+        ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType);
+        ShardingTableMetaData shardingTableMetaData = createShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData));
+        metaData = new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
+        tableMetaDataRefresher = new TableMetaDataRefresher(shardingTableMetaData, shardingProperties.<Long>getValue(ShardingPropertiesConstant.LAZY_LOADING_TABLE_METADATA_REFRESH_INTERVAL_SECONDS));
+        parsingResultCache = new ParsingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE));
+        warmUpSQLParsers();
+    }
+    
+    public ShardingContext(final ShardingContext originalContext, final ShardingRule shardingRule, final Properties props) throws SQLException {
+        this(originalContext, originalContext.dataSourceMap, shardingRule, props);
+    }
+    
+    public ShardingContext(final ShardingContext originalContext, final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Properties props) throws SQLException {
+        boolean isDataSourceChanged = dataSourceMap != originalContext.dataSourceMap;
+        this.shardingRule = shardingRule;
+        this.cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
+        databaseType = originalContext.databaseType;
+        this.dataSourceMap = dataSourceMap;
+        dataSourceURLs = isDataSourceChanged ? getDataSourceURLs(dataSourceMap) : originalContext.dataSourceURLs;
+        shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        if (isPropertiesChanged(originalContext,
+                ShardingPropertiesConstant.EXECUTOR_SIZE, ShardingPropertiesConstant.EXECUTOR_MODE, ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE)) {
+            executeEngine = createExecuteEngine();
+            executeEngineReferenceCount = new AtomicInteger(1);
+        } else {
+            executeEngine = originalContext.executeEngine;
+            executeEngineReferenceCount = originalContext.executeEngineReferenceCount;
+            executeEngineReferenceCount.incrementAndGet();
+        }
+        ShardingRuleConfigurationChange ruleChange = new ShardingRuleConfigurationChange(originalContext.shardingRule.getShardingRuleConfig(), shardingRule.getShardingRuleConfig());
+        ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType);
+        TableMetaDataInitializer tableMetaDataInitializer = getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData);
+        ShardingTableMetaData shardingTableMetaData = isDataSourceChanged || isTableMetaDataReloadRequired(originalContext, ruleChange)
+                ? createShardingTableMetaData(tableMetaDataInitializer)
+                : renewShardingTableMetaData(originalContext.metaData.getTable(), tableMetaDataInitializer, ruleChange.getChangedLogicTables());
         metaData = new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
-        parsingResultCache = new ParsingResultCache();
+        tableMetaDataRefresher = new TableMetaDataRefresher(shardingTableMetaData, shardingProperties.<Long>getValue(ShardingPropertiesConstant.LAZY_LOADING_TABLE_METADATA_REFRESH_INTERVAL_SECONDS));
+        parsingResultCache = new ParsingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE));
+        if (!ruleChange.isGlobalChanged()) {
+            parsingResultCache.putAll(originalContext.parsingResultCache, ruleChange.getChangedLogicTables());
+        }
+    }
+    
+    private ShardingExecuteEngine createExecuteEngine() {
+        int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
+        ShardingExecutorMode executorMode = ShardingExecutorMode.valueFrom(shardingProperties.<String>getValue(ShardingPropertiesConstant.EXECUTOR_MODE));
+        int maxConcurrencyPerDataSource = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE);
+        return new ShardingExecuteEngine(executorSize, executorMode, maxConcurrencyPerDataSource);
+    }
+    
+    private boolean isTableMetaDataReloadRequired(final ShardingContext originalContext, final ShardingRuleConfigurationChange ruleChange) {
+        return ruleChange.isGlobalChanged() || isPropertiesChanged(originalContext, ShardingPropertiesConstant.LAZY_LOADING_TABLE_METADATA_ENABLED,
+                ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED, ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+    }
+    
+    private boolean isPropertiesChanged(final ShardingContext originalContext, final ShardingPropertiesConstant... shardingPropertiesConstants) {
+        for (ShardingPropertiesConstant each : shardingPropertiesConstants) {
+            if (!originalContext.shardingProperties.getValue(each).equals(shardingProperties.getValue(each))) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -102,8 +205,91 @@ public final class ShardingContext implements AutoCloseable {
                 shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
     }
     
+    private ShardingTableMetaData createShardingTableMetaData(final TableMetaDataInitializer tableMetaDataInitializer) {
+        if (!shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.LAZY_LOADING_TABLE_METADATA_ENABLED)) {
+            return new ShardingTableMetaData(tableMetaDataInitializer.load(shardingRule));
+        }
+        return new ShardingTableMetaData(new TableMetaDataProvider() {
+            
+            @Override
+            public Optional<TableMetaData> load(final String logicTableName) throws SQLException {
+                return tableMetaDataInitializer.loadIfExisted(logicTableName, shardingRule);
+            }
+        });
+    }
+    
+    private ShardingTableMetaData renewShardingTableMetaData(
+            final ShardingTableMetaData originalTableMetaData, final TableMetaDataInitializer tableMetaDataInitializer, final Collection<String> changedLogicTables) throws SQLException {
+        Map<String, TableMetaData> tables = new HashMap<>(originalTableMetaData.getTables());
+        tables.keySet().removeAll(changedLogicTables);
+        if (originalTableMetaData.isLazyLoading()) {
+            ShardingTableMetaData result = createShardingTableMetaData(tableMetaDataInitializer);
+            for (Entry<String, TableMetaData> entry : tables.entrySet()) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+            return result;
+        }
+        for (String each : changedLogicTables) {
+            Optional<TableMetaData> tableMetaData = tableMetaDataInitializer.loadIfExisted(each, shardingRule);
+            if (tableMetaData.isPresent()) {
+                tables.put(each, tableMetaData.get());
+            }
+        }
+        return new ShardingTableMetaData(tables);
+    }
+    
+    @SneakyThrows
+    private void warmUpSQLParsers() {
+        String warmUpFile = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_WARM_UP_FILE);
+        if (!Strings.isNullOrEmpty(warmUpFile) && new File(warmUpFile).isFile()) {
+            SQLParserWarmUp.warmUp(databaseType, SQLParserWarmUp.load(warmUpFile));
+        }
+    }
+    
+    private void saveSQLParserWarmUpFile() {
+        String warmUpFile = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_WARM_UP_FILE);
+        if (Strings.isNullOrEmpty(warmUpFile) || 0 == parsingResultCache.size()) {
+            return;
+        }
+        try {
+            SQLParserWarmUp.save(databaseType, parsingResultCache.getSQLs(), warmUpFile, shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE));
+        } catch (final IOException ex) {
+            log.error("Save SQL parser warm up file {} failure.", warmUpFile, ex);
+        }
+    }
+    
+    /**
+     * Retain sharding context by connection.
+     */
+    public void retain() {
+        retainedCount.incrementAndGet();
+    }
+    
+    /**
+     * Release sharding context by connection.
+     */
+    public void release() {
+        retainedCount.decrementAndGet();
+    }
+    
+    /**
+     * Judge sharding context is drained or not.
+     * 
+     * @return sharding context is drained or not
+     */
+    public boolean isDrained() {
+        return 0 == retainedCount.get();
+    }
+    
     @Override
     public void close() {
-        executeEngine.close();
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        tableMetaDataRefresher.close();
+        if (0 == executeEngineReferenceCount.decrementAndGet()) {
+            executeEngine.close();
+        }
+        saveSQLParserWarmUpFile();
     }
 }
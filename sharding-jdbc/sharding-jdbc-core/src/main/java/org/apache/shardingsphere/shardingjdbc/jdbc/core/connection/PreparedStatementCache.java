@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
+
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
+import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Cache of backend prepared statements for one sharding connection.
+ * 
+ * <p>
+ * Backend prepared statements are keyed by backend connection, actual SQL and result set options.
+ * A statement is borrowed by one execution at a time and returned to cache when execution cleared,
+ * least recently returned statements will be closed when cache size exceeded.
+ * </p>
+ *
+ * @author agent
+ */
+public final class PreparedStatementCache {
+    
+    private final int maximumSize;
+    
+    private final Map<StatementKey, PreparedStatement> idleStatements = new LinkedHashMap<>();
+    
+    private final Map<PreparedStatement, StatementKey> borrowedStatements = new IdentityHashMap<>();
+    
+    private final ForceExecuteTemplate<PreparedStatement> forceExecuteTemplate = new ForceExecuteTemplate<>();
+    
+    public PreparedStatementCache(final int maximumSize) {
+        Preconditions.checkArgument(maximumSize >= 0, "Maximum size of prepared statement cache can not be negative.");
+        this.maximumSize = maximumSize;
+    }
+    
+    /**
+     * Get prepared statement from cache, or prepare a new one if absent.
+     * 
+     * @param connection backend connection
+     * @param sql actual SQL
+     * @param returnGeneratedKeys return generated keys or not
+     * @param resultSetType result set type
+     * @param resultSetConcurrency result set concurrency
+     * @param resultSetHoldability result set holdability
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("MagicConstant")
+    public PreparedStatement getPreparedStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys, 
+                                                  final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        if (0 == maximumSize) {
+            return prepareStatement(connection, sql, returnGeneratedKeys, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+        StatementKey key = new StatementKey(connection, sql, returnGeneratedKeys, resultSetType, resultSetConcurrency, resultSetHoldability);
+        PreparedStatement result;
+        synchronized (this) {
+            result = idleStatements.remove(key);
+        }
+        if (null == result || result.isClosed()) {
+            result = prepareStatement(connection, sql, returnGeneratedKeys, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+        synchronized (this) {
+            borrowedStatements.put(result, key);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("MagicConstant")
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys, 
+                                               final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+    
+    /**
+     * Return prepared statement to cache.
+     * 
+     * <p>
+     * Statement not borrowed from this cache will be closed directly.
+     * Current result set of statement is closed before parameters cleared and statement returned to cache.
+     * </p>
+     * 
+     * @param statement prepared statement
+     * @throws SQLException SQL exception
+     */
+    public void release(final PreparedStatement statement) throws SQLException {
+        StatementKey key;
+        synchronized (this) {
+            key = borrowedStatements.remove(statement);
+        }
+        if (null == key || statement.isClosed()) {
+            statement.close();
+            return;
+        }
+        try {
+            closeResultSet(statement);
+            statement.clearParameters();
+        } catch (final SQLException ex) {
+            statement.close();
+            throw ex;
+        }
+        for (PreparedStatement each : putIdleStatement(key, statement)) {
+            each.close();
+        }
+    }
+    
+    private void closeResultSet(final PreparedStatement statement) throws SQLException {
+        ResultSet resultSet = statement.getResultSet();
+        if (null != resultSet) {
+            resultSet.close();
+        }
+    }
+    
+    private synchronized Collection<PreparedStatement> putIdleStatement(final StatementKey key, final PreparedStatement statement) {
+        Collection<PreparedStatement> result = new ArrayList<>(1);
+        if (idleStatements.containsKey(key)) {
+            result.add(statement);
+            return result;
+        }
+        idleStatements.put(key, statement);
+        Iterator<Entry<StatementKey, PreparedStatement>> iterator = idleStatements.entrySet().iterator();
+        while (idleStatements.size() > maximumSize) {
+            result.add(iterator.next().getValue());
+            iterator.remove();
+        }
+        return result;
+    }
+    
+    /**
+     * Get size of idle statements.
+     * 
+     * @return size of idle statements
+     */
+    public synchronized int size() {
+        return idleStatements.size();
+    }
+    
+    /**
+     * Close all idle statements and forget borrowed statements.
+     * 
+     * <p>
+     * Borrowed statements are still held by their executions, and will be closed with backend connections.
+     * </p>
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        Collection<PreparedStatement> statements;
+        synchronized (this) {
+            statements = new ArrayList<>(idleStatements.values());
+            idleStatements.clear();
+            borrowedStatements.clear();
+        }
+        forceExecuteTemplate.execute(statements, new ForceExecuteCallback<PreparedStatement>() {
+            
+            @Override
+            public void execute(final PreparedStatement statement) throws SQLException {
+                statement.close();
+            }
+        });
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class StatementKey {
+        
+        private final Connection connection;
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+        
+        private final int resultSetType;
+        
+        private final int resultSetConcurrency;
+        
+        private final int resultSetHoldability;
+    }
+}
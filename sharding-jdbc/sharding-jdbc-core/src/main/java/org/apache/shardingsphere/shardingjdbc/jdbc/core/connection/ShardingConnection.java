@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractConnectionAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingPreparedStatement;
@@ -31,6 +33,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Connection that support sharding.
@@ -47,11 +50,30 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     
     private final ShardingContext shardingContext;
     
+    @Getter(AccessLevel.NONE)
+    private PreparedStatementCache preparedStatementCache;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean contextReleased = new AtomicBoolean();
+    
     public ShardingConnection(final Map<String, DataSource> dataSourceMap, final ShardingContext shardingContext,
                               final ShardingTransactionManagerEngine shardingTransactionManagerEngine, final TransactionType transactionType) {
         super(shardingTransactionManagerEngine, transactionType);
         this.dataSourceMap = dataSourceMap;
         this.shardingContext = shardingContext;
+        shardingContext.retain();
+    }
+    
+    /**
+     * Get cache of backend prepared statements.
+     * 
+     * @return cache of backend prepared statements
+     */
+    public synchronized PreparedStatementCache getPreparedStatementCache() {
+        if (null == preparedStatementCache) {
+            preparedStatementCache = new PreparedStatementCache(shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PREPARED_STATEMENT_CACHE_SIZE));
+        }
+        return preparedStatementCache;
     }
     
     @Override
@@ -108,4 +130,18 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     protected boolean isOnlyLocalTransactionValid() {
         return false;
     }
+    
+    @Override
+    protected synchronized void closeCachedStatements() throws SQLException {
+        if (null != preparedStatementCache) {
+            preparedStatementCache.close();
+        }
+    }
+    
+    @Override
+    protected void releaseContext() {
+        if (contextReleased.compareAndSet(false, true)) {
+            shardingContext.release();
+        }
+    }
 }
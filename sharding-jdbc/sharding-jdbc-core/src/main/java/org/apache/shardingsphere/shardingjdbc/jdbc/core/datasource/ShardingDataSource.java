@@ -52,6 +52,17 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
         shardingContext = new ShardingContext(getDataSourceMap(), shardingRule, getDatabaseType(), props);
     }
     
+    public ShardingDataSource(final ShardingDataSource originalDataSource, final ShardingRule shardingRule, final Properties props) throws SQLException {
+        super(originalDataSource);
+        shardingContext = new ShardingContext(originalDataSource.shardingContext, shardingRule, props);
+    }
+    
+    public ShardingDataSource(final ShardingDataSource originalDataSource, final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Properties props) throws SQLException {
+        super(dataSourceMap);
+        checkDataSourceType(dataSourceMap);
+        shardingContext = new ShardingContext(originalDataSource.shardingContext, getDataSourceMap(), shardingRule, props);
+    }
+    
     private void checkDataSourceType(final Map<String, DataSource> dataSourceMap) {
         for (DataSource each : dataSourceMap.values()) {
             Preconditions.checkArgument(!(each instanceof MasterSlaveDataSource), "Initialized data sources can not be master-slave data sources.");
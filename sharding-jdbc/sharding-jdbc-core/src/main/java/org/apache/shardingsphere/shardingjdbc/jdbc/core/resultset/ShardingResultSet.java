@@ -20,6 +20,8 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractResultSetAdapter;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -56,6 +58,25 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.next();
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            closeMergedResult();
+        } finally {
+            super.close();
+        }
+    }
+    
+    private void closeMergedResult() throws SQLException {
+        if (mergeResultSet instanceof Closeable) {
+            try {
+                ((Closeable) mergeResultSet).close();
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
+        }
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return mergeResultSet.wasNull();
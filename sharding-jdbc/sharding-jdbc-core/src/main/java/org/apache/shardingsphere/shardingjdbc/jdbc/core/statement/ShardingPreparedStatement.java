@@ -108,8 +108,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             clearPrevious();
             shard();
             initPreparedStatementExecutor();
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), connection.getShardingContext().getShardingRule(), 
-                    routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
+            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), connection.getShardingContext().getShardingProperties(), 
+                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
             result = getResultSet(mergeEngine);
         } finally {
             clearBatch();
@@ -136,7 +136,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             queryResults.add(new StreamQueryResult(resultSet, shardingRule, shardingRule.getShardingEncryptorEngine()));
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(),
+            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), connection.getShardingContext().getShardingProperties(),
                     connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults);
             currentResultSet = getCurrentResultSet(resultSets, mergeEngine);
         }
@@ -206,6 +206,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     private void clearPrevious() throws SQLException {
+        preparedStatementExecutor.setStatementsReusable(!isMethodInvocationRecorded());
         preparedStatementExecutor.clear();
     }
     
@@ -256,6 +257,11 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         clearParameters();
     }
     
+    @Override
+    protected void closeRoutedStatements() throws SQLException {
+        clearPrevious();
+    }
+    
     @SuppressWarnings("MagicConstant")
     @Override
     public int getResultSetType() {
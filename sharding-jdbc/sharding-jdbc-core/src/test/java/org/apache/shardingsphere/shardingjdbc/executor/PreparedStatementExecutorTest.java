@@ -29,6 +29,7 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConne
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -44,7 +45,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -255,6 +258,26 @@ public final class PreparedStatementExecutorTest extends AbstractBaseExecutorTes
         return statement;
     }
     
+    @Test
+    public void assertClearWithStatementCloseFailure() throws SQLException {
+        SQLException closeException = new SQLException("close failure");
+        PreparedStatement failedStatement = mock(PreparedStatement.class);
+        doThrow(closeException).when(failedStatement).close();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        actual.setStatementsReusable(false);
+        actual.getStatements().addAll(Arrays.asList(failedStatement, statement));
+        actual.getConnections().add(mock(Connection.class));
+        try {
+            actual.clear();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException(), is(closeException));
+        }
+        verify(statement).close();
+        assertTrue(actual.getStatements().isEmpty());
+        assertTrue(actual.getConnections().isEmpty());
+    }
+    
     @SneakyThrows
     private void setExecuteGroups(final List<PreparedStatement> preparedStatements, final SQLType sqlType) {
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
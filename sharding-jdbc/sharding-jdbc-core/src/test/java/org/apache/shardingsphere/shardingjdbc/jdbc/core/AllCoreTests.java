@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core;
 
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.PreparedStatementCacheTest;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnectionTest;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.MasterSlaveDataSourceTest;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSourceTest;
@@ -38,6 +39,7 @@ import org.junit.runners.Suite.SuiteClasses;
         CachedDatabaseMetaDataTest.class, 
         MasterSlaveDataSourceTest.class, 
         ShardingConnectionTest.class, 
+        PreparedStatementCacheTest.class, 
         ShardingStatementTest.class, 
         ShardingPreparedStatementTest.class, 
         ShardingResultSetTest.class,
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PreparedStatementCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order_0 WHERE order_id = ?";
+    
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT))
+                .thenReturn(mock(PreparedStatement.class), mock(PreparedStatement.class), mock(PreparedStatement.class));
+    }
+    
+    @Test
+    public void assertReuseReleasedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement expected = getPreparedStatement(cache, connection);
+        cache.release(expected);
+        assertThat(cache.size(), is(1));
+        assertThat(getPreparedStatement(cache, connection), sameInstance(expected));
+        assertThat(cache.size(), is(0));
+        verify(expected).clearParameters();
+        verify(expected, never()).close();
+        verify(connection, times(1)).prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+    }
+    
+    @Test
+    public void assertCloseResultSetBeforeReleasedStatementCached() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement statement = getPreparedStatement(cache, connection);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.getResultSet()).thenReturn(resultSet);
+        cache.release(statement);
+        assertThat(cache.size(), is(1));
+        InOrder inOrder = inOrder(resultSet, statement);
+        inOrder.verify(resultSet).close();
+        inOrder.verify(statement).clearParameters();
+        verify(statement, never()).close();
+    }
+    
+    @Test
+    public void assertNotReuseBorrowedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement borrowed = getPreparedStatement(cache, connection);
+        assertThat(getPreparedStatement(cache, connection), not(sameInstance(borrowed)));
+    }
+    
+    @Test
+    public void assertNotReuseStatementOfOtherConnection() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        cache.release(getPreparedStatement(cache, connection));
+        Connection otherConnection = mock(Connection.class);
+        PreparedStatement expected = mock(PreparedStatement.class);
+        when(otherConnection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT)).thenReturn(expected);
+        assertThat(getPreparedStatement(cache, otherConnection), sameInstance(expected));
+        assertThat(cache.size(), is(1));
+    }
+    
+    @Test
+    public void assertCloseDuplicatedStatementWhenRelease() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement first = getPreparedStatement(cache, connection);
+        PreparedStatement second = getPreparedStatement(cache, connection);
+        cache.release(first);
+        cache.release(second);
+        assertThat(cache.size(), is(1));
+        verify(first, never()).close();
+        verify(second).close();
+    }
+    
+    @Test
+    public void assertCloseLeastRecentlyReleasedStatementWhenSizeExceeded() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        PreparedStatement evicted = getPreparedStatement(cache, connection);
+        String otherSQL = "SELECT * FROM t_order_1 WHERE order_id = ?";
+        PreparedStatement expected = mock(PreparedStatement.class);
+        when(connection.prepareStatement(otherSQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT)).thenReturn(expected);
+        PreparedStatement retained = cache.getPreparedStatement(connection, otherSQL, false, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+        cache.release(evicted);
+        cache.release(retained);
+        assertThat(cache.size(), is(1));
+        verify(evicted).close();
+        verify(retained, never()).close();
+    }
+    
+    @Test
+    public void assertCloseStatementWhenCacheDisabled() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(0);
+        PreparedStatement actual = getPreparedStatement(cache, connection);
+        cache.release(actual);
+        assertThat(cache.size(), is(0));
+        verify(actual).close();
+    }
+    
+    @Test
+    public void assertCloseIdleStatements() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement idle = getPreparedStatement(cache, connection);
+        PreparedStatement borrowed = getPreparedStatement(cache, connection);
+        cache.release(idle);
+        cache.close();
+        assertThat(cache.size(), is(0));
+        verify(idle).close();
+        verify(borrowed, never()).close();
+    }
+    
+    private PreparedStatement getPreparedStatement(final PreparedStatementCache cache, final Connection connection) throws SQLException {
+        return cache.getPreparedStatement(connection, SQL, false, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+    }
+}
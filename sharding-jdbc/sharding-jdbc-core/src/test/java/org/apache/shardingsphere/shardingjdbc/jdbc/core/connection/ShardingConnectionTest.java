@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
 
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.api.config.masterslave.LoadBalanceStrategyConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
@@ -37,6 +38,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashMap;
@@ -46,7 +49,10 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingConnectionTest {
@@ -128,4 +134,58 @@ public final class ShardingConnectionTest {
         connection.rollback();
         assertTrue(BASEShardingTransactionManagerFixture.getInvocations().contains(TransactionOperationType.ROLLBACK));
     }
+    
+    @Test
+    public void assertCloseReleasesShardingContextOnce() throws SQLException {
+        connection.close();
+        connection.close();
+        verify(shardingContext).retain();
+        verify(shardingContext).release();
+    }
+    
+    @Test
+    public void assertCloseWithCachedStatementsFailure() throws SQLException {
+        SQLException closeCachedStatementsException = new SQLException("close cached statements failure");
+        Connection backendConnection = mock(Connection.class);
+        connection = createConnectionWithCachedStatementsFailure(backendConnection, closeCachedStatementsException);
+        connection.getConnection(DS_NAME);
+        try {
+            connection.close();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex, is(closeCachedStatementsException));
+        }
+        verify(backendConnection).close();
+        assertTrue(connection.isClosed());
+    }
+    
+    @Test
+    public void assertCloseWithCachedStatementsAndConnectionFailure() throws SQLException {
+        SQLException closeCachedStatementsException = new SQLException("close cached statements failure");
+        SQLException closeConnectionException = new SQLException("close connection failure");
+        Connection backendConnection = mock(Connection.class);
+        doThrow(closeConnectionException).when(backendConnection).close();
+        connection = createConnectionWithCachedStatementsFailure(backendConnection, closeCachedStatementsException);
+        connection.getConnection(DS_NAME);
+        try {
+            connection.close();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException(), is(closeConnectionException));
+            assertThat(ex.getNextException().getNextException(), is(closeCachedStatementsException));
+        }
+    }
+    
+    @SneakyThrows
+    private ShardingConnection createConnectionWithCachedStatementsFailure(final Connection backendConnection, final SQLException closeCachedStatementsException) {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(backendConnection);
+        ShardingConnection result = new ShardingConnection(Collections.singletonMap(DS_NAME, dataSource), shardingContext, shardingTransactionManagerEngine, TransactionType.LOCAL);
+        PreparedStatementCache preparedStatementCache = mock(PreparedStatementCache.class);
+        doThrow(closeCachedStatementsException).when(preparedStatementCache).close();
+        Field field = ShardingConnection.class.getDeclaredField("preparedStatementCache");
+        field.setAccessible(true);
+        field.set(result, preparedStatementCache);
+        return result;
+    }
 }
@@ -76,8 +76,8 @@ public abstract class AbstractOrchestrationDataSource extends AbstractUnsupporte
     
     @Override
     public final void close() throws Exception {
-        ((AbstractDataSourceAdapter) getDataSource()).close();
         shardingOrchestrationFacade.close();
+        ((AbstractDataSourceAdapter) getDataSource()).close();
     }
     
     /**
@@ -18,13 +18,17 @@
 package org.apache.shardingsphere.shardingjdbc.orchestration.internal.datasource;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
 import com.google.common.eventbus.Subscribe;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.api.config.RuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.config.DataSourceConfiguration;
 import org.apache.shardingsphere.core.constant.ShardingConstant;
+import org.apache.shardingsphere.core.execute.datasource.DataSourceCloser;
+import org.apache.shardingsphere.core.execute.datasource.DataSourceWarmer;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.orchestration.config.OrchestrationConfiguration;
 import org.apache.shardingsphere.orchestration.internal.registry.ShardingOrchestrationFacade;
@@ -36,13 +40,19 @@ import org.apache.shardingsphere.orchestration.internal.registry.state.event.Dis
 import org.apache.shardingsphere.orchestration.internal.registry.state.schema.OrchestrationShardingSchema;
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationMasterSlaveRule;
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationShardingRule;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
 import org.apache.shardingsphere.shardingjdbc.orchestration.internal.util.DataSourceConverter;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * Orchestration sharding datasource.
@@ -54,13 +64,16 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     
     private ShardingDataSource dataSource;
     
+    private Map<String, DataSourceConfiguration> dataSourceConfigurations;
+    
     public OrchestrationShardingDataSource(final OrchestrationConfiguration orchestrationConfig) throws SQLException {
         super(new ShardingOrchestrationFacade(orchestrationConfig, Collections.singletonList(ShardingConstant.LOGIC_SCHEMA_NAME)));
         ConfigurationService configService = getShardingOrchestrationFacade().getConfigService();
         ShardingRuleConfiguration shardingRuleConfig = configService.loadShardingRuleConfiguration(ShardingConstant.LOGIC_SCHEMA_NAME);
         Preconditions.checkState(null != shardingRuleConfig && !shardingRuleConfig.getTableRuleConfigs().isEmpty(), "Missing the sharding rule configuration on registry center");
-        dataSource = new ShardingDataSource(DataSourceConverter.getDataSourceMap(configService.loadDataSourceConfigurations(ShardingConstant.LOGIC_SCHEMA_NAME)),
-                new OrchestrationShardingRule(shardingRuleConfig, configService.loadDataSourceConfigurations(ShardingConstant.LOGIC_SCHEMA_NAME).keySet()), configService.loadProperties());
+        dataSourceConfigurations = configService.loadDataSourceConfigurations(ShardingConstant.LOGIC_SCHEMA_NAME);
+        dataSource = new ShardingDataSource(DataSourceConverter.getDataSourceMap(dataSourceConfigurations),
+                new OrchestrationShardingRule(shardingRuleConfig, dataSourceConfigurations.keySet()), configService.loadProperties());
         getShardingOrchestrationFacade().init();
     }
     
@@ -68,7 +81,8 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
         super(new ShardingOrchestrationFacade(orchestrationConfig, Collections.singletonList(ShardingConstant.LOGIC_SCHEMA_NAME)));
         dataSource = new ShardingDataSource(shardingDataSource.getDataSourceMap(), new OrchestrationShardingRule(shardingDataSource.getShardingContext().getShardingRule().getShardingRuleConfig(),
                 shardingDataSource.getDataSourceMap().keySet()), shardingDataSource.getShardingContext().getShardingProperties().getProps());
-        getShardingOrchestrationFacade().init(Collections.singletonMap(ShardingConstant.LOGIC_SCHEMA_NAME, DataSourceConverter.getDataSourceConfigurationMap(dataSource.getDataSourceMap())),
+        dataSourceConfigurations = DataSourceConverter.getDataSourceConfigurationMap(dataSource.getDataSourceMap());
+        getShardingOrchestrationFacade().init(Collections.singletonMap(ShardingConstant.LOGIC_SCHEMA_NAME, dataSourceConfigurations),
                 getRuleConfigurationMap(), null, dataSource.getShardingContext().getShardingProperties().getProps());
     }
     
@@ -80,39 +94,98 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     
     /**
      * Renew sharding rule.
+     * 
+     * <p>
+     * Sharding context of original data source is closed after drained.
+     * </p>
      *
      * @param shardingRuleChangedEvent sharding rule changed event
      */
     @Subscribe
     @SneakyThrows
     public final synchronized void renew(final ShardingRuleChangedEvent shardingRuleChangedEvent) {
-        dataSource = new ShardingDataSource(dataSource.getDataSourceMap(), new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(),
-                dataSource.getDataSourceMap().keySet()), dataSource.getShardingContext().getShardingProperties().getProps());
+        ShardingDataSource originalDataSource = dataSource;
+        dataSource = new ShardingDataSource(originalDataSource, new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(),
+                originalDataSource.getDataSourceMap().keySet()), originalDataSource.getShardingContext().getShardingProperties().getProps());
+        closeAfterDrained(originalDataSource.getShardingContext());
     }
     
     /**
      * Renew sharding data source.
+     * 
+     * <p>
+     * Only data sources with changed configurations are created and warmed up to minimum idle connections, unchanged data sources are reused.
+     * Replaced data sources are closed after their in-flight connections released, sharding context of original data source is closed after drained.
+     * </p>
      *
      * @param dataSourceChangedEvent data source changed event
      */
     @Subscribe
     @SneakyThrows
     public final synchronized void renew(final DataSourceChangedEvent dataSourceChangedEvent) {
-        dataSource.close();
-        dataSource = new ShardingDataSource(DataSourceConverter.getDataSourceMap(dataSourceChangedEvent.getDataSourceConfigurations()), dataSource.getShardingContext().getShardingRule(),
-                dataSource.getShardingContext().getShardingProperties().getProps());
+        Map<String, DataSourceConfiguration> renewedDataSourceConfigurations = dataSourceChangedEvent.getDataSourceConfigurations();
+        Map<String, DataSource> createdDataSources = new LinkedHashMap<>();
+        ShardingDataSource originalDataSource = dataSource;
+        try {
+            Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(renewedDataSourceConfigurations.size(), 1);
+            for (Entry<String, DataSourceConfiguration> entry : renewedDataSourceConfigurations.entrySet()) {
+                if (entry.getValue().equals(dataSourceConfigurations.get(entry.getKey())) && originalDataSource.getDataSourceMap().containsKey(entry.getKey())) {
+                    dataSourceMap.put(entry.getKey(), originalDataSource.getDataSourceMap().get(entry.getKey()));
+                } else {
+                    DataSource created = entry.getValue().createDataSource();
+                    createdDataSources.put(entry.getKey(), created);
+                    DataSourceWarmer.warmUp(created);
+                    dataSourceMap.put(entry.getKey(), created);
+                }
+            }
+            dataSource = new ShardingDataSource(originalDataSource, dataSourceMap, originalDataSource.getShardingContext().getShardingRule(),
+                    originalDataSource.getShardingContext().getShardingProperties().getProps());
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            for (DataSource each : createdDataSources.values()) {
+                DataSourceCloser.close(each);
+            }
+            throw ex;
+        }
+        dataSourceConfigurations = renewedDataSourceConfigurations;
+        closeAfterDrained(originalDataSource.getShardingContext());
+        DataSourceCloser.closeAfterDrained(getReplacedDataSources(originalDataSource.getDataSourceMap(), dataSource.getDataSourceMap()), originalDataSource.getShardingTransactionManagerEngine());
+    }
+    
+    private Collection<DataSource> getReplacedDataSources(final Map<String, DataSource> originalDataSourceMap, final Map<String, DataSource> renewedDataSourceMap) {
+        Set<DataSource> result = Collections.newSetFromMap(new IdentityHashMap<DataSource, Boolean>());
+        result.addAll(originalDataSourceMap.values());
+        result.removeAll(renewedDataSourceMap.values());
+        return result;
     }
     
     /**
      * Renew properties.
+     * 
+     * <p>
+     * Sharding context of original data source is closed after drained,
+     * its execute engine is closed with it if the engine is replaced because of changed executor properties.
+     * </p>
      *
      * @param propertiesChangedEvent properties changed event
      */
     @SneakyThrows
     @Subscribe
     public final synchronized void renew(final PropertiesChangedEvent propertiesChangedEvent) {
-        dataSource = new ShardingDataSource(dataSource.getDataSourceMap(),
-                dataSource.getShardingContext().getShardingRule(), propertiesChangedEvent.getProps());
+        ShardingDataSource originalDataSource = dataSource;
+        dataSource = new ShardingDataSource(originalDataSource, originalDataSource.getShardingContext().getShardingRule(), propertiesChangedEvent.getProps());
+        closeAfterDrained(originalDataSource.getShardingContext());
+    }
+    
+    private void closeAfterDrained(final ShardingContext shardingContext) {
+        DataSourceCloser.closeAfterDrained(shardingContext, new Supplier<Boolean>() {
+            
+            @Override
+            public Boolean get() {
+                return shardingContext.isDrained();
+            }
+        });
     }
     
     /**
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.core.config.DataSourceConfiguration;
 import org.apache.shardingsphere.core.constant.ShardingConstant;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.orchestration.config.OrchestrationConfiguration;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.DataSourceChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.PropertiesChangedEvent;
@@ -33,12 +35,16 @@ import org.apache.shardingsphere.orchestration.internal.registry.state.event.Dis
 import org.apache.shardingsphere.orchestration.internal.registry.state.schema.OrchestrationShardingSchema;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenterConfiguration;
 import org.apache.shardingsphere.shardingjdbc.api.yaml.YamlShardingDataSourceFactory;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
+import org.apache.shardingsphere.shardingjdbc.orchestration.internal.datasource.fixture.BasicDataSourceFixture;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import javax.sql.DataSource;
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URISyntaxException;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -46,10 +52,16 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class OrchestrationShardingDataSourceTest {
     
@@ -103,17 +115,76 @@ public final class OrchestrationShardingDataSourceTest {
         
     }
     
+    @Test
+    public void assertRenewDataSourceWithUnchangedConfigurations() {
+        shardingDataSource.renew(new DataSourceChangedEvent(ShardingConstant.LOGIC_SCHEMA_NAME, getDataSourceConfigurations()));
+        DataSource expected = shardingDataSource.getDataSource().getDataSourceMap().get("ds_0");
+        shardingDataSource.renew(new DataSourceChangedEvent(ShardingConstant.LOGIC_SCHEMA_NAME, getDataSourceConfigurations()));
+        assertThat(shardingDataSource.getDataSource().getDataSourceMap().get("ds_0"), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertRenewDataSourceWithChangedConfiguration() throws SQLException, InterruptedException {
+        shardingDataSource.renew(new DataSourceChangedEvent(ShardingConstant.LOGIC_SCHEMA_NAME, getDataSourceConfigurations()));
+        BasicDataSource replacedDataSource = (BasicDataSource) shardingDataSource.getDataSource().getDataSourceMap().get("ds_0");
+        DataSource unchangedDataSource = shardingDataSource.getDataSource().getDataSourceMap().get("ds_m");
+        Connection connection = replacedDataSource.getConnection();
+        Map<String, DataSourceConfiguration> dataSourceConfigurations = getDataSourceConfigurations();
+        dataSourceConfigurations.put("ds_0", createDataSourceConfiguration(new BasicDataSource(), "jdbc:h2:mem:test_renewed;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL"));
+        shardingDataSource.renew(new DataSourceChangedEvent(ShardingConstant.LOGIC_SCHEMA_NAME, dataSourceConfigurations));
+        assertThat(shardingDataSource.getDataSource().getDataSourceMap().get("ds_0"), not(sameInstance((DataSource) replacedDataSource)));
+        assertThat(shardingDataSource.getDataSource().getDataSourceMap().get("ds_m"), sameInstance(unchangedDataSource));
+        TimeUnit.MILLISECONDS.sleep(300L);
+        assertFalse(replacedDataSource.isClosed());
+        connection.close();
+        assertTrue(awaitClosed(replacedDataSource));
+    }
+    
+    @Test
+    public void assertRenewDataSourceFailure() {
+        shardingDataSource.renew(new DataSourceChangedEvent(ShardingConstant.LOGIC_SCHEMA_NAME, getDataSourceConfigurations()));
+        Map<String, DataSource> expected = new LinkedHashMap<>(shardingDataSource.getDataSource().getDataSourceMap());
+        Map<String, DataSourceConfiguration> dataSourceConfigurations = getDataSourceConfigurations();
+        dataSourceConfigurations.put("ds_s", createDataSourceConfiguration(new BasicDataSourceFixture(), "jdbc:h2:mem:test_created;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL"));
+        dataSourceConfigurations.put("ds_0", createDataSourceConfiguration(new BasicDataSourceFixture(), "jdbc:invalid:test"));
+        BasicDataSourceFixture.getCreatedDataSources().clear();
+        try {
+            shardingDataSource.renew(new DataSourceChangedEvent(ShardingConstant.LOGIC_SCHEMA_NAME, dataSourceConfigurations));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            assertThat(ex, instanceOf(SQLException.class));
+        }
+        assertThat(BasicDataSourceFixture.getCreatedDataSources().size(), is(2));
+        for (BasicDataSourceFixture each : BasicDataSourceFixture.getCreatedDataSources()) {
+            assertTrue(each.isClosed());
+        }
+        assertThat(shardingDataSource.getDataSource().getDataSourceMap(), is(expected));
+    }
+    
+    private boolean awaitClosed(final BasicDataSource dataSource) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!dataSource.isClosed() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+        return dataSource.isClosed();
+    }
+    
     private Map<String, DataSourceConfiguration> getDataSourceConfigurations() {
-        BasicDataSource dataSource = new BasicDataSource();
+        DataSourceConfiguration dataSourceConfiguration = createDataSourceConfiguration(new BasicDataSource(), "jdbc:h2:mem:test;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+        Map<String, DataSourceConfiguration> result = new LinkedHashMap<>();
+        result.put("ds_m", dataSourceConfiguration);
+        result.put("ds_s", dataSourceConfiguration);
+        result.put("ds_0", dataSourceConfiguration);
+        return result;
+    }
+    
+    private DataSourceConfiguration createDataSourceConfiguration(final BasicDataSource dataSource, final String url) {
         dataSource.setDriverClassName("org.h2.Driver");
-        dataSource.setUrl("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+        dataSource.setUrl(url);
         dataSource.setUsername("sa");
         dataSource.setPassword("");
-        Map<String, DataSourceConfiguration> result = new LinkedHashMap<>();
-        result.put("ds_m", DataSourceConfiguration.getDataSourceConfiguration(dataSource));
-        result.put("ds_s", DataSourceConfiguration.getDataSourceConfiguration(dataSource));
-        result.put("ds_0", DataSourceConfiguration.getDataSourceConfiguration(dataSource));
-        return result;
+        return DataSourceConfiguration.getDataSourceConfiguration(dataSource);
     }
     
     @Test
@@ -122,6 +193,85 @@ public final class OrchestrationShardingDataSourceTest {
         assertThat(shardingDataSource.getDataSource().getShardingContext().getShardingProperties().getProps().getProperty("sql.show"), is("true"));
     }
     
+    @Test
+    public void assertRenewPropertiesWithChangedExecutorSize() throws InterruptedException {
+        ShardingExecuteEngine replacedExecuteEngine = shardingDataSource.getDataSource().getShardingContext().getExecuteEngine();
+        Properties properties = new Properties();
+        properties.setProperty(ShardingPropertiesConstant.EXECUTOR_SIZE.getKey(), "2");
+        shardingDataSource.renew(new PropertiesChangedEvent(properties));
+        assertThat(shardingDataSource.getDataSource().getShardingContext().getExecuteEngine(), not(sameInstance(replacedExecuteEngine)));
+        assertTrue(awaitClosed(replacedExecuteEngine));
+        shardingDataSource.renew(getPropertiesChangedEvent());
+    }
+    
+    @Test
+    public void assertRenewPropertiesWithChangedExecutorSizeClosesExecuteEngineAfterDrained() throws SQLException, InterruptedException {
+        ShardingExecuteEngine replacedExecuteEngine = shardingDataSource.getDataSource().getShardingContext().getExecuteEngine();
+        Connection connection = shardingDataSource.getConnection();
+        Properties properties = new Properties();
+        properties.setProperty(ShardingPropertiesConstant.EXECUTOR_SIZE.getKey(), "2");
+        shardingDataSource.renew(new PropertiesChangedEvent(properties));
+        TimeUnit.MILLISECONDS.sleep(300L);
+        assertFalse(getExecutorService(replacedExecuteEngine).isShutdown());
+        connection.close();
+        assertTrue(awaitClosed(replacedExecuteEngine));
+        shardingDataSource.renew(getPropertiesChangedEvent());
+    }
+    
+    @Test
+    public void assertRenewRuleDrainsOriginalContext() throws SQLException, InterruptedException {
+        ShardingContext originalContext = shardingDataSource.getDataSource().getShardingContext();
+        Connection connection = shardingDataSource.getConnection();
+        assertFalse(originalContext.isDrained());
+        shardingDataSource.renew(new ShardingRuleChangedEvent(ShardingConstant.LOGIC_SCHEMA_NAME, getShardingRuleConfig()));
+        connection.close();
+        assertTrue(originalContext.isDrained());
+    }
+    
+    @Test
+    public void assertCloseOriginalContextWithHandedOverExecuteEngine() throws InterruptedException {
+        ShardingContext originalContext = shardingDataSource.getDataSource().getShardingContext();
+        shardingDataSource.renew(getPropertiesChangedEvent());
+        ShardingExecuteEngine executeEngine = shardingDataSource.getDataSource().getShardingContext().getExecuteEngine();
+        assertThat(executeEngine, sameInstance(originalContext.getExecuteEngine()));
+        originalContext.close();
+        TimeUnit.MILLISECONDS.sleep(300L);
+        assertFalse(getExecutorService(executeEngine).isShutdown());
+    }
+    
+    @Test
+    public void assertRenewTwiceClosesSharedExecuteEngineAfterAllContextsDrained() throws SQLException, InterruptedException {
+        shardingDataSource.renew(getPropertiesChangedEvent());
+        ShardingExecuteEngine sharedExecuteEngine = shardingDataSource.getDataSource().getShardingContext().getExecuteEngine();
+        Connection connection = shardingDataSource.getConnection();
+        shardingDataSource.renew(getPropertiesChangedEvent());
+        assertThat(shardingDataSource.getDataSource().getShardingContext().getExecuteEngine(), sameInstance(sharedExecuteEngine));
+        Properties properties = new Properties();
+        properties.setProperty(ShardingPropertiesConstant.EXECUTOR_SIZE.getKey(), "2");
+        shardingDataSource.renew(new PropertiesChangedEvent(properties));
+        assertThat(shardingDataSource.getDataSource().getShardingContext().getExecuteEngine(), not(sameInstance(sharedExecuteEngine)));
+        TimeUnit.MILLISECONDS.sleep(300L);
+        assertFalse(getExecutorService(sharedExecuteEngine).isShutdown());
+        connection.close();
+        assertTrue(awaitClosed(sharedExecuteEngine));
+        shardingDataSource.renew(getPropertiesChangedEvent());
+    }
+    
+    private boolean awaitClosed(final ShardingExecuteEngine executeEngine) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!getExecutorService(executeEngine).isShutdown() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+        return getExecutorService(executeEngine).isShutdown();
+    }
+    
+    @SneakyThrows
+    private ExecutorService getExecutorService(final ShardingExecuteEngine executeEngine) {
+        Field field = ShardingExecuteEngine.class.getDeclaredField("executorService");
+        field.setAccessible(true);
+        return (ExecutorService) field.get(executeEngine);
+    }
+    
     private PropertiesChangedEvent getPropertiesChangedEvent() {
         Properties properties = new Properties();
         properties.setProperty("sql.show", "true");
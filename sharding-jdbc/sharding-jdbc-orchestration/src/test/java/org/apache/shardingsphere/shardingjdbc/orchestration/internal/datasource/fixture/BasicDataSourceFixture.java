@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.orchestration.internal.datasource.fixture;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+public final class BasicDataSourceFixture extends BasicDataSource {
+    
+    private static final Collection<BasicDataSourceFixture> CREATED_DATA_SOURCES = Collections.synchronizedList(new ArrayList<BasicDataSourceFixture>());
+    
+    public BasicDataSourceFixture() {
+        CREATED_DATA_SOURCES.add(this);
+    }
+    
+    /**
+     * Get data sources created.
+     * 
+     * @return data sources created
+     */
+    public static Collection<BasicDataSourceFixture> getCreatedDataSources() {
+        return CREATED_DATA_SOURCES;
+    }
+    
+    @Override
+    public synchronized void close() throws SQLException {
+        super.close();
+    }
+}
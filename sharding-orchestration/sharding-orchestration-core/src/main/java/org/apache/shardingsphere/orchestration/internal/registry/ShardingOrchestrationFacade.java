@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.config.DataSourceConfiguration;
 import org.apache.shardingsphere.core.rule.Authentication;
 import org.apache.shardingsphere.orchestration.config.OrchestrationConfiguration;
 import org.apache.shardingsphere.orchestration.internal.registry.config.service.ConfigurationService;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.ShardingOrchestrationListenerManager;
 import org.apache.shardingsphere.orchestration.internal.registry.state.service.StateService;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
@@ -43,6 +44,8 @@ import java.util.Properties;
 @Slf4j
 public final class ShardingOrchestrationFacade implements AutoCloseable {
     
+    private static final long COALESCING_WINDOW_MILLISECONDS = 200L;
+    
     private final RegistryCenter regCenter;
     
     private final boolean isOverwrite;
@@ -52,6 +55,8 @@ public final class ShardingOrchestrationFacade implements AutoCloseable {
     
     private final StateService stateService;
     
+    private final DataChangedEventCoalescer dataChangedEventCoalescer;
+    
     private final ShardingOrchestrationListenerManager listenerManager;
     
     public ShardingOrchestrationFacade(final OrchestrationConfiguration orchestrationConfig, final Collection<String> shardingSchemaNames) {
@@ -59,8 +64,10 @@ public final class ShardingOrchestrationFacade implements AutoCloseable {
         isOverwrite = orchestrationConfig.isOverwrite();
         configService = new ConfigurationService(orchestrationConfig.getName(), regCenter);
         stateService = new StateService(orchestrationConfig.getName(), regCenter);
-        listenerManager = shardingSchemaNames.isEmpty() ? new ShardingOrchestrationListenerManager(orchestrationConfig.getName(), regCenter, configService.getAllShardingSchemaNames())
-                : new ShardingOrchestrationListenerManager(orchestrationConfig.getName(), regCenter, shardingSchemaNames);
+        dataChangedEventCoalescer = new DataChangedEventCoalescer(COALESCING_WINDOW_MILLISECONDS);
+        listenerManager = shardingSchemaNames.isEmpty()
+                ? new ShardingOrchestrationListenerManager(orchestrationConfig.getName(), regCenter, configService.getAllShardingSchemaNames(), dataChangedEventCoalescer)
+                : new ShardingOrchestrationListenerManager(orchestrationConfig.getName(), regCenter, shardingSchemaNames, dataChangedEventCoalescer);
     }
     
     /**
@@ -92,6 +99,7 @@ public final class ShardingOrchestrationFacade implements AutoCloseable {
     
     @Override
     public void close() {
+        dataChangedEventCoalescer.close();
         try {
             regCenter.close();
             // CHECKSTYLE:OFF
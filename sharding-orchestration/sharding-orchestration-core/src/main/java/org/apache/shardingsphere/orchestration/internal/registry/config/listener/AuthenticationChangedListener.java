@@ -22,6 +22,7 @@ import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.core.yaml.swapper.impl.AuthenticationYamlSwapper;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.AuthenticationChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.config.node.ConfigurationNode;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.PostShardingOrchestrationEventListener;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
@@ -33,8 +34,8 @@ import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
  */
 public final class AuthenticationChangedListener extends PostShardingOrchestrationEventListener {
     
-    public AuthenticationChangedListener(final String name, final RegistryCenter regCenter) {
-        super(regCenter, new ConfigurationNode(name).getAuthenticationPath());
+    public AuthenticationChangedListener(final String name, final RegistryCenter regCenter, final DataChangedEventCoalescer dataChangedEventCoalescer) {
+        super(regCenter, new ConfigurationNode(name).getAuthenticationPath(), dataChangedEventCoalescer);
     }
     
     @Override
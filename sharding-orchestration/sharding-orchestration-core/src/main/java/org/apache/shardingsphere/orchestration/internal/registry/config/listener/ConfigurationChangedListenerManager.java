@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.config.listener;
 
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent.ChangedType;
 
@@ -36,10 +37,11 @@ public final class ConfigurationChangedListenerManager {
     
     private final AuthenticationChangedListener authenticationChangedListener;
     
-    public ConfigurationChangedListenerManager(final String name, final RegistryCenter regCenter, final Collection<String> shardingSchemaNames) {
-        schemaChangedListener = new SchemaChangedListener(name, regCenter, shardingSchemaNames);
-        propertiesChangedListener = new PropertiesChangedListener(name, regCenter);
-        authenticationChangedListener = new AuthenticationChangedListener(name, regCenter);
+    public ConfigurationChangedListenerManager(final String name, final RegistryCenter regCenter, final Collection<String> shardingSchemaNames,
+                                               final DataChangedEventCoalescer dataChangedEventCoalescer) {
+        schemaChangedListener = new SchemaChangedListener(name, regCenter, shardingSchemaNames, dataChangedEventCoalescer);
+        propertiesChangedListener = new PropertiesChangedListener(name, regCenter, dataChangedEventCoalescer);
+        authenticationChangedListener = new AuthenticationChangedListener(name, regCenter, dataChangedEventCoalescer);
     }
     
     /**
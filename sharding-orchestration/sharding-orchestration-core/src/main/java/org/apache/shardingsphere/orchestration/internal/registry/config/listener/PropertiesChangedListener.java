@@ -20,6 +20,7 @@ package org.apache.shardingsphere.orchestration.internal.registry.config.listene
 import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.PropertiesChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.config.node.ConfigurationNode;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.PostShardingOrchestrationEventListener;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
@@ -31,8 +32,8 @@ import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
  */
 public final class PropertiesChangedListener extends PostShardingOrchestrationEventListener {
     
-    public PropertiesChangedListener(final String name, final RegistryCenter regCenter) {
-        super(regCenter, new ConfigurationNode(name).getPropsPath());
+    public PropertiesChangedListener(final String name, final RegistryCenter regCenter, final DataChangedEventCoalescer dataChangedEventCoalescer) {
+        super(regCenter, new ConfigurationNode(name).getPropsPath(), dataChangedEventCoalescer);
     }
     
     @Override
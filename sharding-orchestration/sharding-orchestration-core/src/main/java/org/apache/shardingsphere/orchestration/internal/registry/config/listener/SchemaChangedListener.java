@@ -36,6 +36,7 @@ import org.apache.shardingsphere.orchestration.internal.registry.config.event.Sc
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.ShardingRuleChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.config.node.ConfigurationNode;
 import org.apache.shardingsphere.orchestration.internal.registry.config.service.ConfigurationService;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.PostShardingOrchestrationEventListener;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.ShardingOrchestrationEvent;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
@@ -61,8 +62,8 @@ public final class SchemaChangedListener extends PostShardingOrchestrationEventL
     
     private final Collection<String> existedSchemaNames = new LinkedList<>();
     
-    public SchemaChangedListener(final String name, final RegistryCenter regCenter, final Collection<String> shardingSchemaNames) {
-        super(regCenter, new ConfigurationNode(name).getSchemaPath());
+    public SchemaChangedListener(final String name, final RegistryCenter regCenter, final Collection<String> shardingSchemaNames, final DataChangedEventCoalescer dataChangedEventCoalescer) {
+        super(regCenter, new ConfigurationNode(name).getSchemaPath(), dataChangedEventCoalescer);
         configurationService = new ConfigurationService(name, regCenter);
         configurationNode = new ConfigurationNode(name);
         existedSchemaNames.addAll(shardingSchemaNames);
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.orchestration.internal.registry.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Data changed event coalescer.
+ * 
+ * <p>
+ * Events received within the coalescing window are merged by key, only the latest event of each key is kept.
+ * Merged events are dispatched to the delegate listener on the dispatcher thread of the coalescer,
+ * so a burst of updates on the same node triggers the delegate once and registry center threads are never blocked.
+ * Pending dispatches are cancelled when the coalescer is closed, and events received after closing are ignored.
+ * Dispatcher can be provided by caller, and it is shut down when the coalescer is closed.
+ * </p>
+ *
+ * @author agent
+ */
+@Slf4j
+public final class DataChangedEventCoalescer implements AutoCloseable {
+    
+    private final long windowMilliseconds;
+    
+    private final ScheduledExecutorService dispatcher;
+    
+    private volatile boolean closed;
+    
+    public DataChangedEventCoalescer(final long windowMilliseconds) {
+        this(windowMilliseconds, Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("Orchestration-Dispatcher")));
+    }
+    
+    public DataChangedEventCoalescer(final long windowMilliseconds, final ScheduledExecutorService dispatcher) {
+        this.windowMilliseconds = windowMilliseconds;
+        this.dispatcher = dispatcher;
+    }
+    
+    /**
+     * Coalesce data changed events for delegate listener.
+     * 
+     * @param delegate delegate listener
+     * @return coalescing data changed event listener
+     */
+    public DataChangedEventListener coalesce(final DataChangedEventListener delegate) {
+        return new CoalescingDataChangedEventListener(delegate);
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        dispatcher.shutdownNow();
+    }
+    
+    @RequiredArgsConstructor
+    private final class CoalescingDataChangedEventListener implements DataChangedEventListener {
+        
+        private final Map<String, DataChangedEvent> pendingEvents = new LinkedHashMap<>();
+        
+        private final DataChangedEventListener delegate;
+        
+        @Override
+        public void onChange(final DataChangedEvent dataChangedEvent) {
+            if (closed) {
+                return;
+            }
+            synchronized (pendingEvents) {
+                boolean isDispatchScheduled = !pendingEvents.isEmpty();
+                pendingEvents.remove(dataChangedEvent.getKey());
+                pendingEvents.put(dataChangedEvent.getKey(), dataChangedEvent);
+                if (!isDispatchScheduled) {
+                    schedule();
+                }
+            }
+        }
+        
+        private void schedule() {
+            try {
+                dispatcher.schedule(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        dispatch();
+                    }
+                }, windowMilliseconds, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException ex) {
+                pendingEvents.clear();
+            }
+        }
+        
+        private void dispatch() {
+            Collection<DataChangedEvent> dataChangedEvents;
+            synchronized (pendingEvents) {
+                dataChangedEvents = new ArrayList<>(pendingEvents.values());
+                pendingEvents.clear();
+            }
+            for (DataChangedEvent each : dataChangedEvents) {
+                if (closed) {
+                    return;
+                }
+                try {
+                    delegate.onChange(each);
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.error("Dispatch data changed event of key `{}` failure.", each.getKey(), ex);
+                }
+            }
+        }
+    }
+}
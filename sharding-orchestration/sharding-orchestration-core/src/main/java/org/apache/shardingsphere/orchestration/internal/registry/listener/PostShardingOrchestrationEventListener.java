@@ -43,15 +43,24 @@ public abstract class PostShardingOrchestrationEventListener implements Sharding
     
     private final String watchKey;
     
+    private final DataChangedEventCoalescer dataChangedEventCoalescer;
+    
     @Override
     public final void watch(final ChangedType... watchedChangedTypes) {
         final Collection<ChangedType> watchedChangedTypeList = Arrays.asList(watchedChangedTypes);
+        final DataChangedEventListener coalescingListener = dataChangedEventCoalescer.coalesce(new DataChangedEventListener() {
+            
+            @Override
+            public void onChange(final DataChangedEvent dataChangedEvent) {
+                eventBus.post(createShardingOrchestrationEvent(dataChangedEvent));
+            }
+        });
         regCenter.watch(watchKey, new DataChangedEventListener() {
             
             @Override
             public void onChange(final DataChangedEvent dataChangedEvent) {
                 if (watchedChangedTypeList.contains(dataChangedEvent.getChangedType())) {
-                    eventBus.post(createShardingOrchestrationEvent(dataChangedEvent));
+                    coalescingListener.onChange(dataChangedEvent);
                 }
             }
         });
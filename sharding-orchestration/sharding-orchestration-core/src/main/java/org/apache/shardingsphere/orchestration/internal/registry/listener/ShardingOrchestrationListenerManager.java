@@ -35,9 +35,10 @@ public final class ShardingOrchestrationListenerManager {
     
     private final StateChangedListenerManager stateChangedListenerManager;
     
-    public ShardingOrchestrationListenerManager(final String name, final RegistryCenter regCenter, final Collection<String> shardingSchemaNames) {
-        configurationChangedListenerManager = new ConfigurationChangedListenerManager(name, regCenter, shardingSchemaNames);
-        stateChangedListenerManager = new StateChangedListenerManager(name, regCenter);
+    public ShardingOrchestrationListenerManager(final String name, final RegistryCenter regCenter, final Collection<String> shardingSchemaNames,
+                                                final DataChangedEventCoalescer dataChangedEventCoalescer) {
+        configurationChangedListenerManager = new ConfigurationChangedListenerManager(name, regCenter, shardingSchemaNames, dataChangedEventCoalescer);
+        stateChangedListenerManager = new StateChangedListenerManager(name, regCenter, dataChangedEventCoalescer);
     }
     
     /**
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.state.listener;
 
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.PostShardingOrchestrationEventListener;
 import org.apache.shardingsphere.orchestration.internal.registry.state.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.state.node.StateNode;
@@ -36,8 +37,8 @@ public final class DataSourceStateChangedListener extends PostShardingOrchestrat
     
     private final StateNode stateNode;
     
-    public DataSourceStateChangedListener(final String name, final RegistryCenter regCenter) {
-        super(regCenter, new StateNode(name).getDataSourcesNodeFullRootPath());
+    public DataSourceStateChangedListener(final String name, final RegistryCenter regCenter, final DataChangedEventCoalescer dataChangedEventCoalescer) {
+        super(regCenter, new StateNode(name).getDataSourcesNodeFullRootPath(), dataChangedEventCoalescer);
         stateNode = new StateNode(name);
     }
     
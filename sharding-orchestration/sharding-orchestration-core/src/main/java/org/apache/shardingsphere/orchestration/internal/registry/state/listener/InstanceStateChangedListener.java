@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.state.listener;
 
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.PostShardingOrchestrationEventListener;
 import org.apache.shardingsphere.orchestration.internal.registry.state.event.CircuitStateChangedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.state.instance.OrchestrationInstance;
@@ -33,8 +34,8 @@ import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
  */
 public final class InstanceStateChangedListener extends PostShardingOrchestrationEventListener {
     
-    public InstanceStateChangedListener(final String name, final RegistryCenter regCenter) {
-        super(regCenter, new StateNode(name).getInstancesNodeFullPath(OrchestrationInstance.getInstance().getInstanceId()));
+    public InstanceStateChangedListener(final String name, final RegistryCenter regCenter, final DataChangedEventCoalescer dataChangedEventCoalescer) {
+        super(regCenter, new StateNode(name).getInstancesNodeFullPath(OrchestrationInstance.getInstance().getInstanceId()), dataChangedEventCoalescer);
     }
     
     @Override
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.state.listener;
 
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent.ChangedType;
 
@@ -31,9 +32,9 @@ public final class StateChangedListenerManager {
     
     private final DataSourceStateChangedListener dataSourceStateChangedListener;
     
-    public StateChangedListenerManager(final String name, final RegistryCenter regCenter) {
-        instanceStateChangedListener = new InstanceStateChangedListener(name, regCenter);
-        dataSourceStateChangedListener = new DataSourceStateChangedListener(name, regCenter);
+    public StateChangedListenerManager(final String name, final RegistryCenter regCenter, final DataChangedEventCoalescer dataChangedEventCoalescer) {
+        instanceStateChangedListener = new InstanceStateChangedListener(name, regCenter, dataChangedEventCoalescer);
+        dataSourceStateChangedListener = new DataSourceStateChangedListener(name, regCenter, dataChangedEventCoalescer);
     }
     
     /**
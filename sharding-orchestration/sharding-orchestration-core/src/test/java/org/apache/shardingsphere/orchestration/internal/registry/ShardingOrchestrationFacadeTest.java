@@ -22,6 +22,7 @@ import org.apache.shardingsphere.core.config.DataSourceConfiguration;
 import org.apache.shardingsphere.core.rule.Authentication;
 import org.apache.shardingsphere.orchestration.config.OrchestrationConfiguration;
 import org.apache.shardingsphere.orchestration.internal.registry.config.service.ConfigurationService;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.ShardingOrchestrationListenerManager;
 import org.apache.shardingsphere.orchestration.internal.registry.state.service.StateService;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
@@ -56,6 +57,9 @@ public final class ShardingOrchestrationFacadeTest {
     @Mock
     private StateService stateService;
     
+    @Mock
+    private DataChangedEventCoalescer dataChangedEventCoalescer;
+    
     @Mock
     private ShardingOrchestrationListenerManager listenerManager;
     
@@ -65,6 +69,7 @@ public final class ShardingOrchestrationFacadeTest {
         FieldUtil.setField(shardingOrchestrationFacade, "regCenter", regCenter);
         FieldUtil.setField(shardingOrchestrationFacade, "configService", configService);
         FieldUtil.setField(shardingOrchestrationFacade, "stateService", stateService);
+        FieldUtil.setField(shardingOrchestrationFacade, "dataChangedEventCoalescer", dataChangedEventCoalescer);
         FieldUtil.setField(shardingOrchestrationFacade, "listenerManager", listenerManager);
     }
     
@@ -92,6 +97,7 @@ public final class ShardingOrchestrationFacadeTest {
     @Test
     public void assertCloseSuccess() throws Exception {
         shardingOrchestrationFacade.close();
+        verify(dataChangedEventCoalescer).close();
         verify(regCenter).close();
     }
     
@@ -99,6 +105,7 @@ public final class ShardingOrchestrationFacadeTest {
     public void assertCloseFailure() throws Exception {
         doThrow(new RuntimeException()).when(regCenter).close();
         shardingOrchestrationFacade.close();
+        verify(dataChangedEventCoalescer).close();
         verify(regCenter).close();
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.config.listener;
 
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent.ChangedType;
 import org.apache.shardingsphere.orchestration.util.FieldUtil;
@@ -35,6 +36,9 @@ public final class ConfigurationChangedListenerManagerTest {
     @Mock
     private RegistryCenter regCenter;
     
+    @Mock
+    private DataChangedEventCoalescer dataChangedEventCoalescer;
+    
     @Mock
     private SchemaChangedListener schemaChangedListener;
     
@@ -46,7 +50,7 @@ public final class ConfigurationChangedListenerManagerTest {
     
     @Test
     public void assertInitListeners() {
-        ConfigurationChangedListenerManager actual = new ConfigurationChangedListenerManager("test", regCenter, Arrays.asList("sharding_db", "masterslave_db"));
+        ConfigurationChangedListenerManager actual = new ConfigurationChangedListenerManager("test", regCenter, Arrays.asList("sharding_db", "masterslave_db"), dataChangedEventCoalescer);
         FieldUtil.setField(actual, "schemaChangedListener", schemaChangedListener);
         FieldUtil.setField(actual, "propertiesChangedListener", propertiesChangedListener);
         FieldUtil.setField(actual, "authenticationChangedListener", authenticationChangedListener);
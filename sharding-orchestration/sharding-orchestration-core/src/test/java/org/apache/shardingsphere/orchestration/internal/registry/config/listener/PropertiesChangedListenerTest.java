@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.config.listener;
 
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent.ChangedType;
@@ -39,9 +40,12 @@ public final class PropertiesChangedListenerTest {
     @Mock
     private RegistryCenter regCenter;
     
+    @Mock
+    private DataChangedEventCoalescer dataChangedEventCoalescer;
+    
     @Before
     public void setUp() {
-        propertiesChangedListener = new PropertiesChangedListener("test", regCenter);
+        propertiesChangedListener = new PropertiesChangedListener("test", regCenter, dataChangedEventCoalescer);
     }
     
     @Test
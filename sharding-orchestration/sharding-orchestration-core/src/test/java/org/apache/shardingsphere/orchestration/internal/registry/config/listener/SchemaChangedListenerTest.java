@@ -25,6 +25,7 @@ import org.apache.shardingsphere.orchestration.internal.registry.config.event.Ma
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.SchemaAddedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.SchemaDeletedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.ShardingRuleChangedEvent;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.listener.ShardingOrchestrationEvent;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
@@ -59,9 +60,12 @@ public class SchemaChangedListenerTest {
     @Mock
     private RegistryCenter regCenter;
     
+    @Mock
+    private DataChangedEventCoalescer dataChangedEventCoalescer;
+    
     @Before
     public void setUp() {
-        schemaChangedListener = new SchemaChangedListener("test", regCenter, Arrays.asList("sharding_db", "masterslave_db"));
+        schemaChangedListener = new SchemaChangedListener("test", regCenter, Arrays.asList("sharding_db", "masterslave_db"), dataChangedEventCoalescer);
     }
     
     @Test
@@ -23,6 +23,7 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({
+        DataChangedEventCoalescerTest.class, 
         PostShardingOrchestrationEventListenerTest.class, 
         ShardingOrchestrationListenerManagerTest.class
 })
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.internal.registry.listener;
+
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent.ChangedType;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEventListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DataChangedEventCoalescerTest {
+    
+    private final List<DataChangedEvent> dispatchedEvents = new LinkedList<>();
+    
+    private final DataChangedEventListener delegate = new DataChangedEventListener() {
+        
+        @Override
+        public void onChange(final DataChangedEvent dataChangedEvent) {
+            dispatchedEvents.add(dataChangedEvent);
+        }
+    };
+    
+    private ScheduledExecutorService dispatcher;
+    
+    private DataChangedEventCoalescer coalescer;
+    
+    private int closedWindowCount;
+    
+    @Before
+    public void setUp() {
+        dispatcher = mock(ScheduledExecutorService.class);
+        coalescer = new DataChangedEventCoalescer(100L, dispatcher);
+    }
+    
+    @After
+    public void tearDown() {
+        coalescer.close();
+    }
+    
+    @Test
+    public void assertOnChange() {
+        DataChangedEventListener listener = coalescer.coalesce(delegate);
+        listener.onChange(new DataChangedEvent("/test/rule", "rule_1", ChangedType.UPDATED));
+        listener.onChange(new DataChangedEvent("/test/props", "props_1", ChangedType.UPDATED));
+        listener.onChange(new DataChangedEvent("/test/rule", "rule_2", ChangedType.UPDATED));
+        assertTrue(dispatchedEvents.isEmpty());
+        closeWindows(1);
+        assertThat(dispatchedEvents.size(), is(2));
+        assertThat(dispatchedEvents.get(0).getKey(), is("/test/props"));
+        assertThat(dispatchedEvents.get(1).getValue(), is("rule_2"));
+    }
+    
+    @Test
+    public void assertOnChangeAfterDispatched() {
+        DataChangedEventListener listener = coalescer.coalesce(delegate);
+        listener.onChange(new DataChangedEvent("/test/rule", "rule_1", ChangedType.UPDATED));
+        closeWindows(1);
+        listener.onChange(new DataChangedEvent("/test/rule", null, ChangedType.DELETED));
+        closeWindows(2);
+        assertThat(dispatchedEvents.size(), is(2));
+        assertThat(dispatchedEvents.get(0).getValue(), is("rule_1"));
+        assertThat(dispatchedEvents.get(1).getChangedType(), is(ChangedType.DELETED));
+    }
+    
+    @Test
+    public void assertOnChangeWithSeparatedListeners() {
+        coalescer.coalesce(delegate).onChange(new DataChangedEvent("/test/rule", "rule_1", ChangedType.UPDATED));
+        coalescer.coalesce(delegate).onChange(new DataChangedEvent("/test/rule", "rule_2", ChangedType.UPDATED));
+        closeWindows(2);
+        assertThat(dispatchedEvents.size(), is(2));
+    }
+    
+    @Test
+    public void assertOnChangeWithRejectedDispatch() {
+        when(dispatcher.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenThrow(new RejectedExecutionException()).thenReturn(null);
+        DataChangedEventListener listener = coalescer.coalesce(delegate);
+        listener.onChange(new DataChangedEvent("/test/rule", "rule_1", ChangedType.UPDATED));
+        listener.onChange(new DataChangedEvent("/test/props", "props_1", ChangedType.UPDATED));
+        getScheduledDispatches(2).get(1).run();
+        assertThat(dispatchedEvents.size(), is(1));
+        assertThat(dispatchedEvents.get(0).getKey(), is("/test/props"));
+    }
+    
+    @Test
+    public void assertCloseWithPendingEvents() {
+        DataChangedEventListener listener = coalescer.coalesce(delegate);
+        listener.onChange(new DataChangedEvent("/test/rule", "rule_1", ChangedType.UPDATED));
+        coalescer.close();
+        verify(dispatcher).shutdownNow();
+        listener.onChange(new DataChangedEvent("/test/rule", "rule_2", ChangedType.UPDATED));
+        closeWindows(1);
+        assertTrue(dispatchedEvents.isEmpty());
+    }
+    
+    private void closeWindows(final int scheduledTimes) {
+        for (Runnable each : getScheduledDispatches(scheduledTimes).subList(closedWindowCount, scheduledTimes)) {
+            each.run();
+        }
+        closedWindowCount = scheduledTimes;
+    }
+    
+    private List<Runnable> getScheduledDispatches(final int scheduledTimes) {
+        ArgumentCaptor<Runnable> dispatchCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(dispatcher, times(scheduledTimes)).schedule(dispatchCaptor.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+        return dispatchCaptor.getAllValues();
+    }
+}
@@ -36,9 +36,12 @@ public final class PostShardingOrchestrationEventListenerTest {
     @Mock
     private RegistryCenter regCenter;
     
+    @Mock
+    private DataChangedEventCoalescer dataChangedEventCoalescer;
+    
     @Test
     public void assertWatch() {
-        PostShardingOrchestrationEventListener postShardingOrchestrationEventListener = new PostShardingOrchestrationEventListener(regCenter, "test") {
+        PostShardingOrchestrationEventListener postShardingOrchestrationEventListener = new PostShardingOrchestrationEventListener(regCenter, "test", dataChangedEventCoalescer) {
             
             @Override
             protected ShardingOrchestrationEvent createShardingOrchestrationEvent(final DataChangedEvent event) {
@@ -46,6 +49,7 @@ public final class PostShardingOrchestrationEventListenerTest {
             }
         };
         postShardingOrchestrationEventListener.watch();
+        verify(dataChangedEventCoalescer).coalesce(ArgumentMatchers.<DataChangedEventListener>any());
         verify(regCenter).watch(eq("test"), ArgumentMatchers.<DataChangedEventListener>any());
     }
 }
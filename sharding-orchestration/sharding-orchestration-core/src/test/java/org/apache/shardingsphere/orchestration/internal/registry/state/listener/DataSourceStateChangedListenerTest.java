@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.state.listener;
 
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.state.schema.OrchestrationShardingSchema;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
@@ -38,9 +39,12 @@ public final class DataSourceStateChangedListenerTest {
     @Mock
     private RegistryCenter regCenter;
     
+    @Mock
+    private DataChangedEventCoalescer dataChangedEventCoalescer;
+    
     @Before
     public void setUp() {
-        dataSourceStateChangedListener = new DataSourceStateChangedListener("test", regCenter);
+        dataSourceStateChangedListener = new DataSourceStateChangedListener("test", regCenter, dataChangedEventCoalescer);
     }
     
     @Test
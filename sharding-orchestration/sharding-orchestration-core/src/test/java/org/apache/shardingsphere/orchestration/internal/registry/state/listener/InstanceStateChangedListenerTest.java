@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.orchestration.internal.registry.state.listener;
 
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
 import org.apache.shardingsphere.orchestration.internal.registry.state.node.StateNodeStatus;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
@@ -38,9 +39,12 @@ public final class InstanceStateChangedListenerTest {
     @Mock
     private RegistryCenter regCenter;
     
+    @Mock
+    private DataChangedEventCoalescer dataChangedEventCoalescer;
+    
     @Before
     public void setUp() {
-        instanceStateChangedListener = new InstanceStateChangedListener("test", regCenter);
+        instanceStateChangedListener = new InstanceStateChangedListener("test", regCenter, dataChangedEventCoalescer);
     }
     
     @Test
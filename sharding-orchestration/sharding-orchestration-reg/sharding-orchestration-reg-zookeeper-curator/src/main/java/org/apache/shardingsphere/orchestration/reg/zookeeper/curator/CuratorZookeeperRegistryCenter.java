@@ -41,10 +41,10 @@ import org.apache.zookeeper.data.ACL;
 import java.io.UnsupportedEncodingException;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -54,7 +54,7 @@ import java.util.concurrent.TimeUnit;
  */
 public final class CuratorZookeeperRegistryCenter implements RegistryCenter {
     
-    private final Map<String, TreeCache> caches = new HashMap<>();
+    private final Map<String, TreeCache> caches = new ConcurrentHashMap<>();
     
     private CuratorFramework client;
     
@@ -119,10 +119,14 @@ public final class CuratorZookeeperRegistryCenter implements RegistryCenter {
     }
     
     private TreeCache findTreeCache(final String key) {
-        for (Entry<String, TreeCache> entry : caches.entrySet()) {
-            if (key.startsWith(entry.getKey())) {
-                return entry.getValue();
+        String path = key.endsWith("/") ? key : key + "/";
+        int index = path.length() - 1;
+        while (index >= 0) {
+            TreeCache result = caches.get(path.substring(0, index + 1));
+            if (null != result) {
+                return result;
             }
+            index = path.lastIndexOf('/', index - 1);
         }
         return null;
     }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.reg.zookeeper.curator;
+
+import org.apache.curator.test.TestingServer;
+import org.apache.shardingsphere.orchestration.internal.registry.listener.DataChangedEventCoalescer;
+import org.apache.shardingsphere.orchestration.reg.api.RegistryCenterConfiguration;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEvent.ChangedType;
+import org.apache.shardingsphere.orchestration.reg.listener.DataChangedEventListener;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class CuratorZookeeperRegistryCenterTest {
+    
+    private static final int MAX_PRIMING_TIMES = 50;
+    
+    private static TestingServer testingServer;
+    
+    private static CuratorZookeeperRegistryCenter regCenter;
+    
+    @BeforeClass
+    public static void setUp() throws Exception {
+        testingServer = new TestingServer();
+        RegistryCenterConfiguration config = new RegistryCenterConfiguration();
+        config.setServerLists(testingServer.getConnectString());
+        config.setNamespace("test");
+        regCenter = new CuratorZookeeperRegistryCenter();
+        regCenter.init(config);
+    }
+    
+    @AfterClass
+    public static void tearDown() throws Exception {
+        regCenter.close();
+        testingServer.close();
+    }
+    
+    @Test
+    public void assertGetWithNestedWatchedPrefixes() {
+        regCenter.persist("/nested/rule", "outer");
+        regCenter.persist("/nested/inner/rule", "inner");
+        regCenter.watch("/nested", new NoopDataChangedEventListener());
+        regCenter.watch("/nested/inner", new NoopDataChangedEventListener());
+        assertThat(regCenter.get("/nested/rule"), is("outer"));
+        assertThat(regCenter.get("/nested/inner/rule"), is("inner"));
+    }
+    
+    @Test
+    public void assertGetWithKeyEqualToCacheRoot() {
+        regCenter.persist("/root_key", "root_value");
+        regCenter.watch("/root_key", new NoopDataChangedEventListener());
+        assertThat(regCenter.get("/root_key"), is("root_value"));
+    }
+    
+    @Test
+    public void assertGetAfterUpdatedWithWatchedPrefix() throws InterruptedException {
+        regCenter.persist("/updated/rule", "rule_0");
+        RecordingDataChangedEventListener listener = new RecordingDataChangedEventListener("rule_1");
+        regCenter.watch("/updated", listener);
+        primeWatch("/updated/rule", listener);
+        regCenter.persist("/updated/rule", "rule_1");
+        assertTrue(listener.awaitExpectedValue());
+        assertThat(regCenter.get("/updated/rule"), is("rule_1"));
+    }
+    
+    @Test
+    public void assertWatchAndUpdateWithCoalescing() throws InterruptedException {
+        final List<DataChangedEvent> dispatchedEvents = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService dispatcher = mock(ScheduledExecutorService.class);
+        regCenter.persist("/coalesce/rule", "rule_0");
+        try (DataChangedEventCoalescer coalescer = new DataChangedEventCoalescer(500L, dispatcher)) {
+            RecordingDataChangedEventListener listener = new RecordingDataChangedEventListener("rule_3", coalescer.coalesce(new DataChangedEventListener() {
+                
+                @Override
+                public void onChange(final DataChangedEvent dataChangedEvent) {
+                    dispatchedEvents.add(dataChangedEvent);
+                }
+            }));
+            regCenter.watch("/coalesce", listener);
+            primeWatch("/coalesce/rule", listener);
+            regCenter.persist("/coalesce/rule", "rule_1");
+            regCenter.persist("/coalesce/rule", "rule_2");
+            regCenter.persist("/coalesce/rule", "rule_3");
+            assertTrue(listener.awaitExpectedValue());
+            assertTrue(dispatchedEvents.isEmpty());
+            ArgumentCaptor<Runnable> dispatchCaptor = ArgumentCaptor.forClass(Runnable.class);
+            verify(dispatcher).schedule(dispatchCaptor.capture(), eq(500L), eq(TimeUnit.MILLISECONDS));
+            dispatchCaptor.getValue().run();
+        }
+        assertThat(dispatchedEvents.size(), is(1));
+        assertThat(dispatchedEvents.get(0).getKey(), is("/coalesce/rule"));
+        assertThat(dispatchedEvents.get(0).getValue(), is("rule_3"));
+        assertThat(dispatchedEvents.get(0).getChangedType(), is(ChangedType.UPDATED));
+        assertThat(regCenter.get("/coalesce/rule"), is("rule_3"));
+    }
+    
+    private void primeWatch(final String key, final RecordingDataChangedEventListener listener) throws InterruptedException {
+        for (int i = 0; i < MAX_PRIMING_TIMES && !listener.isReceived(); i++) {
+            regCenter.persist(key, "prime_" + i);
+            listener.awaitReceived();
+        }
+        assertTrue(listener.isReceived());
+    }
+    
+    private static final class RecordingDataChangedEventListener implements DataChangedEventListener {
+        
+        private final String expectedValue;
+        
+        private final DataChangedEventListener delegate;
+        
+        private final CountDownLatch receivedLatch = new CountDownLatch(1);
+        
+        private final CountDownLatch expectedValueLatch = new CountDownLatch(1);
+        
+        RecordingDataChangedEventListener(final String expectedValue) {
+            this(expectedValue, new NoopDataChangedEventListener());
+        }
+        
+        RecordingDataChangedEventListener(final String expectedValue, final DataChangedEventListener delegate) {
+            this.expectedValue = expectedValue;
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public void onChange(final DataChangedEvent dataChangedEvent) {
+            delegate.onChange(dataChangedEvent);
+            receivedLatch.countDown();
+            if (expectedValue.equals(dataChangedEvent.getValue())) {
+                expectedValueLatch.countDown();
+            }
+        }
+        
+        boolean isReceived() {
+            return 0 == receivedLatch.getCount();
+        }
+        
+        void awaitReceived() throws InterruptedException {
+            receivedLatch.await(100L, TimeUnit.MILLISECONDS);
+        }
+        
+        boolean awaitExpectedValue() throws InterruptedException {
+            return expectedValueLatch.await(5L, TimeUnit.SECONDS);
+        }
+    }
+    
+    private static final class NoopDataChangedEventListener implements DataChangedEventListener {
+        
+        @Override
+        public void onChange(final DataChangedEvent dataChangedEvent) {
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingproxy.backend.communication;
 
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryRow;
 
 import java.sql.SQLException;
 
@@ -51,4 +52,11 @@ public interface DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     QueryData getQueryData() throws SQLException;
+    
+    /**
+     * Get query row.
+     *
+     * @return query row of current cursor
+     */
+    QueryRow getQueryRow();
 }
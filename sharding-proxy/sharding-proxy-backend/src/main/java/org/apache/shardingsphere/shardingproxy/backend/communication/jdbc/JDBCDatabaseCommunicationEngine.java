@@ -20,6 +20,8 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.SQLType;
+import org.apache.shardingsphere.core.execute.sql.execute.result.MemoryQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngineFactory;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dal.show.ShowTablesMergedResult;
@@ -36,14 +38,18 @@ import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryRow;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.MasterSlaveSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -68,10 +74,14 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private final DatabaseType databaseType = LogicSchemas.getInstance().getDatabaseType();
     
+    private final QueryRow queryRow = new MergedResultQueryRow();
+    
     private BackendResponse response;
     
     private MergedResult mergedResult;
     
+    private List<Integer> columnTypes;
+    
     @Override
     public BackendResponse execute() {
         try {
@@ -91,12 +101,26 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return new ErrorResponse(new TableModifyInTransactionException(sqlStatement.getTables().isSingleTable() ? sqlStatement.getTables().getSingleTableName() : "unknown_table"));
         }
         response = executeEngine.execute(routeResult);
+        if (isLoadedIntoMemory(response)) {
+            executeEngine.getBackendConnection().releaseStatementConnectionsIfNecessary();
+        }
         if (logicSchema instanceof ShardingSchema) {
             logicSchema.refreshTableMetaData(routeResult.getSqlStatement());
         }
         return merge(routeResult);
     }
     
+    private boolean isLoadedIntoMemory(final BackendResponse response) {
+        if (response instanceof QueryResponse) {
+            for (QueryResult each : ((QueryResponse) response).getQueryResults()) {
+                if (!(each instanceof MemoryQueryResult)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
     private boolean isExecuteDDLInXATransaction(final SQLType sqlType) {
         BackendConnection connection = executeEngine.getBackendConnection();
         return TransactionType.XA == connection.getTransactionType() && SQLType.DDL == sqlType && ConnectionStatus.TRANSACTION == connection.getStateHandler().getStatus();
@@ -109,12 +133,14 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             }
             return response;
         }
-        mergedResult = MergeEngineFactory.newInstance(
-            databaseType, getShardingRule(), routeResult, logicSchema.getMetaData().getTable(), ((QueryResponse) response).getQueryResults()).merge();
+        mergedResult = MergeEngineFactory.newInstance(databaseType, ShardingProxyContext.getInstance().getShardingProperties(), 
+                getShardingRule(), routeResult, logicSchema.getMetaData().getTable(), ((QueryResponse) response).getQueryResults()).merge();
         if (mergedResult instanceof ShowTablesMergedResult) {
             ((ShowTablesMergedResult) mergedResult).resetColumnLabel(logicSchema.getName());
         }
-        return getQueryHeaderResponseWithoutDerivedColumns(((QueryResponse) response).getQueryHeaders());
+        QueryResponse result = getQueryHeaderResponseWithoutDerivedColumns(((QueryResponse) response).getQueryHeaders());
+        columnTypes = getColumnTypes(result.getQueryHeaders());
+        return result;
     }
     
     private boolean isAllBroadcastTables(final SQLStatement sqlStatement) {
@@ -138,17 +164,39 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     @Override
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        boolean result = false;
+        try {
+            result = null != mergedResult && mergedResult.next();
+            return result;
+        } finally {
+            if (!result) {
+                closeMergedResult();
+            }
+        }
     }
     
     @Override
     public QueryData getQueryData() throws SQLException {
-        List<QueryHeader> queryHeaders = ((QueryResponse) response).getQueryHeaders();
-        List<Object> row = new ArrayList<>(queryHeaders.size());
-        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            row.add(mergedResult.getValue(columnIndex, Object.class));
+        List<Object> row = new ArrayList<>(columnTypes.size());
+        for (int columnIndex = 1; columnIndex <= columnTypes.size(); columnIndex++) {
+            row.add(queryRow.getValue(columnIndex));
+        }
+        return new QueryData(columnTypes, row);
+    }
+    
+    @Override
+    public QueryRow getQueryRow() {
+        return queryRow;
+    }
+    
+    private void closeMergedResult() throws SQLException {
+        if (mergedResult instanceof Closeable) {
+            try {
+                ((Closeable) mergedResult).close();
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
         }
-        return new QueryData(getColumnTypes(queryHeaders), row);
     }
     
     private List<Integer> getColumnTypes(final List<QueryHeader> queryHeaders) {
@@ -158,4 +206,27 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         }
         return result;
     }
+    
+    private final class MergedResultQueryRow implements QueryRow {
+        
+        @Override
+        public int getColumnCount() {
+            return columnTypes.size();
+        }
+        
+        @Override
+        public int getColumnType(final int columnIndex) {
+            return columnTypes.get(columnIndex - 1);
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex) throws SQLException {
+            try {
+                return mergedResult.getValue(columnIndex, Object.class);
+            } catch (final SQLException ex) {
+                closeMergedResult();
+                throw ex;
+            }
+        }
+    }
 }
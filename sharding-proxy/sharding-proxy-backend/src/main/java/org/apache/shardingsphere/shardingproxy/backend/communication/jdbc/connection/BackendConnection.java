@@ -222,6 +222,27 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Release connections leased by current statement if not in transaction.
+     * 
+     * <p>
+     * It is called when results of statement have been loaded into memory,
+     * so connections are returned to data source before results written to client, and frontend sessions share backend connections per statement.
+     * </p>
+     *
+     * @throws SQLException SQL exception
+     */
+    public synchronized void releaseStatementConnectionsIfNecessary() throws SQLException {
+        if (stateHandler.isInTransaction()) {
+            return;
+        }
+        Collection<SQLException> exceptions = new LinkedList<>();
+        exceptions.addAll(closeResultSets());
+        exceptions.addAll(closeStatements());
+        exceptions.addAll(releaseConnections(false));
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -95,6 +95,9 @@ public final class LocalTransactionManager implements TransactionManager {
     
     @SneakyThrows
     private void recordMethodInvocation(final Class<?> targetClass, final String methodName, final Class<?>[] argumentTypes, final Object[] arguments) {
-        connection.getMethodInvocations().add(new MethodInvocation(targetClass.getMethod(methodName, argumentTypes), arguments));
+        MethodInvocation methodInvocation = new MethodInvocation(targetClass.getMethod(methodName, argumentTypes), arguments);
+        if (!connection.getMethodInvocations().contains(methodInvocation)) {
+            connection.getMethodInvocations().add(methodInvocation);
+        }
     }
 }
@@ -17,8 +17,9 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
 
+import com.google.common.base.Objects;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
 import java.lang.reflect.Method;
@@ -26,24 +27,58 @@ import java.lang.reflect.Method;
 /**
  * Reflective method invocation.
  * 
+ * <p>
+ * Invocation of setter is replayed only when state of target differs, state is read by getter of same property, such as {@code getAutoCommit} for {@code setAutoCommit}.
+ * </p>
+ * 
  * @author zhaojun
  */
-@RequiredArgsConstructor
+@EqualsAndHashCode(of = {"method", "arguments"})
 class MethodInvocation {
     
+    private static final String SETTER_PREFIX = "set";
+    
     @Getter
     private final Method method;
     
     @Getter
     private final Object[] arguments;
     
+    private final Method stateGetter;
+    
+    MethodInvocation(final Method method, final Object[] arguments) {
+        this.method = method;
+        this.arguments = arguments;
+        stateGetter = findStateGetter(method, arguments);
+    }
+    
+    private static Method findStateGetter(final Method method, final Object[] arguments) {
+        if (!method.getName().startsWith(SETTER_PREFIX) || 1 != arguments.length) {
+            return null;
+        }
+        String property = method.getName().substring(SETTER_PREFIX.length());
+        for (String each : new String[]{"get", "is"}) {
+            try {
+                Method result = method.getDeclaringClass().getMethod(each + property);
+                if (result.getReturnType() == method.getParameterTypes()[0]) {
+                    return result;
+                }
+            } catch (final NoSuchMethodException ignore) {
+            }
+        }
+        return null;
+    }
+    
     /**
-     * Invoke method.
+     * Invoke method if state of target differs.
      * 
      * @param target target object
      */
     @SneakyThrows
     void invoke(final Object target) {
+        if (null != stateGetter && Objects.equal(stateGetter.invoke(target), arguments[0])) {
+            return;
+        }
         method.invoke(target, arguments);
     }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
 
+import com.google.common.base.Supplier;
+
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -36,14 +38,22 @@ public class ResourceSynchronizer {
     private final Condition condition = lock.newCondition();
     
     /**
-     * Do await.
+     * Do await while wait condition is satisfied.
+     * 
+     * <p>
+     * Wait condition is checked under lock, notify after condition changed will not be lost between check and await.
+     * </p>
      *
+     * @param waitCondition wait condition
      */
-    public void doAwait() {
+    public void doAwaitWhile(final Supplier<Boolean> waitCondition) {
         lock.lock();
         try {
-            condition.await();
+            while (waitCondition.get()) {
+                condition.await();
+            }
         } catch (final InterruptedException ignore) {
+            Thread.currentThread().interrupt();
         } finally {
             lock.unlock();
         }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource;
+
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Connection lease queue of one data source.
+ * 
+ * <p>
+ * Before several connections of one data source are got at one time, they are reserved from max pool size with compare and set.
+ * Concurrent leases never reserve more than the pool, so they can not each hold part of the pool and wait for the rest.
+ * Leases which can not be reserved wait in queue without locking data source, and retry when reserved connections are got.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ConnectionLeaseQueue {
+    
+    private final int maxPoolSize;
+    
+    private final long timeoutNanos;
+    
+    private final AtomicInteger reservedSize = new AtomicInteger();
+    
+    private final Queue<Thread> waitingThreads = new ConcurrentLinkedQueue<>();
+    
+    public ConnectionLeaseQueue(final int maxPoolSize, final long timeoutMilliseconds) {
+        this.maxPoolSize = maxPoolSize;
+        timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+    }
+    
+    /**
+     * Reserve connections.
+     *
+     * @param connectionSize size of connections to reserve
+     * @throws SQLException SQL exception if connections can not be reserved before timeout
+     */
+    public void reserve(final int connectionSize) throws SQLException {
+        if (tryReserve(connectionSize)) {
+            return;
+        }
+        if (connectionSize > maxPoolSize) {
+            throw new SQLException(String.format("Can not reserve %d connections one time, max pool size is %d.", connectionSize, maxPoolSize));
+        }
+        Thread currentThread = Thread.currentThread();
+        long deadline = System.nanoTime() + timeoutNanos;
+        waitingThreads.offer(currentThread);
+        try {
+            while (!tryReserve(connectionSize)) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new SQLException(String.format("Can not reserve %d connections one time, timeout after %d ms.", connectionSize, TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+                }
+                LockSupport.parkNanos(this, remainingNanos);
+                if (Thread.interrupted()) {
+                    currentThread.interrupt();
+                    throw new SQLException(String.format("Can not reserve %d connections one time, interrupted.", connectionSize));
+                }
+            }
+        } finally {
+            waitingThreads.remove(currentThread);
+        }
+    }
+    
+    private boolean tryReserve(final int connectionSize) {
+        int current = reservedSize.get();
+        while (current + connectionSize <= maxPoolSize) {
+            if (reservedSize.compareAndSet(current, current + connectionSize)) {
+                return true;
+            }
+            current = reservedSize.get();
+        }
+        return false;
+    }
+    
+    /**
+     * Release reserved connections.
+     *
+     * @param connectionSize size of connections to release
+     */
+    public void release(final int connectionSize) {
+        reservedSize.addAndGet(-connectionSize);
+        for (Thread each : waitingThreads) {
+            LockSupport.unpark(each);
+        }
+    }
+    
+    /**
+     * Get reserved size.
+     *
+     * @return reserved size
+     */
+    public int getReservedSize() {
+        return reservedSize.get();
+    }
+}
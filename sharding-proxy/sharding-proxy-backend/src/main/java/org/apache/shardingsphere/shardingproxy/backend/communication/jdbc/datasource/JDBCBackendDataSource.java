@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.datasource.DataSourceCloser;
+import org.apache.shardingsphere.core.execute.datasource.DataSourceWarmer;
 import org.apache.shardingsphere.shardingproxy.backend.BackendDataSource;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
@@ -28,15 +31,17 @@ import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.spi.ShardingTransactionManager;
 
 import javax.sql.DataSource;
-import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * Backend data source for JDBC.
@@ -48,12 +53,9 @@ import java.util.Map.Entry;
  */
 public final class JDBCBackendDataSource implements BackendDataSource, AutoCloseable {
     
-    private Map<String, DataSource> dataSources;
-    
     private JDBCBackendDataSourceFactory dataSourceFactory = JDBCRawBackendDataSourceFactory.getInstance();
     
-    @Getter
-    private ShardingTransactionManagerEngine shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
+    private volatile BackendResource backendResource;
     
     public JDBCBackendDataSource(final Map<String, YamlDataSourceParameter> dataSourceParameters) {
         createDataSourceMap(dataSourceParameters);
@@ -61,17 +63,99 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     
     private void createDataSourceMap(final Map<String, YamlDataSourceParameter> dataSourceParameters) {
         Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(dataSourceParameters.size(), 1);
+        Map<String, ConnectionLeaseQueue> leaseQueues = new LinkedHashMap<>(dataSourceParameters.size(), 1);
         for (Entry<String, YamlDataSourceParameter> entry : dataSourceParameters.entrySet()) {
-            try {
-                dataSourceMap.put(entry.getKey(), dataSourceFactory.build(entry.getKey(), entry.getValue()));
-                // CHECKSTYLE:OFF
-            } catch (final Exception ex) {
-                // CHECKSTYLE:ON
-                throw new ShardingException(String.format("Can not build data source, name is `%s`.", entry.getKey()), ex);
+            dataSourceMap.put(entry.getKey(), createDataSource(entry.getKey(), entry.getValue()));
+            leaseQueues.put(entry.getKey(), createLeaseQueue(entry.getValue()));
+        }
+        backendResource = new BackendResource(dataSourceMap, leaseQueues, createShardingTransactionManagerEngine(dataSourceMap));
+    }
+    
+    private ConnectionLeaseQueue createLeaseQueue(final YamlDataSourceParameter dataSourceParameter) {
+        return new ConnectionLeaseQueue(dataSourceParameter.getMaxPoolSize(), dataSourceParameter.getConnectionTimeoutMilliseconds());
+    }
+    
+    private ShardingTransactionManagerEngine createShardingTransactionManagerEngine(final Map<String, DataSource> dataSourceMap) {
+        ShardingTransactionManagerEngine result = new ShardingTransactionManagerEngine();
+        result.init(LogicSchemas.getInstance().getDatabaseType(), dataSourceMap);
+        return result;
+    }
+    
+    private DataSource createDataSource(final String dataSourceName, final YamlDataSourceParameter dataSourceParameter) {
+        try {
+            return dataSourceFactory.build(dataSourceName, dataSourceParameter);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ShardingException(String.format("Can not build data source, name is `%s`.", dataSourceName), ex);
+        }
+    }
+    
+    /**
+     * Renew data sources.
+     * 
+     * <p>
+     * Only data sources with changed parameters are created, and they are warmed up to minimum idle connections before serving.
+     * Data sources and transaction manager engine are published together,
+     * replaced data sources and previous transaction manager engine are closed after their in-flight connections released.
+     * </p>
+     * 
+     * @param originalParameters original data source parameters
+     * @param renewedParameters renewed data source parameters
+     */
+    public synchronized void renew(final Map<String, YamlDataSourceParameter> originalParameters, final Map<String, YamlDataSourceParameter> renewedParameters) {
+        BackendResource originalBackendResource = backendResource;
+        Map<String, DataSource> originalDataSources = originalBackendResource.getDataSources();
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(renewedParameters.size(), 1);
+        Map<String, ConnectionLeaseQueue> leaseQueues = new LinkedHashMap<>(renewedParameters.size(), 1);
+        Collection<DataSource> createdDataSources = new ArrayList<>(renewedParameters.size());
+        BackendResource renewedBackendResource;
+        try {
+            for (Entry<String, YamlDataSourceParameter> entry : renewedParameters.entrySet()) {
+                if (entry.getValue().equals(originalParameters.get(entry.getKey())) && originalDataSources.containsKey(entry.getKey())) {
+                    dataSourceMap.put(entry.getKey(), originalDataSources.get(entry.getKey()));
+                    leaseQueues.put(entry.getKey(), originalBackendResource.getLeaseQueues().get(entry.getKey()));
+                } else {
+                    DataSource created = createDataSource(entry.getKey(), entry.getValue());
+                    createdDataSources.add(created);
+                    warmUp(entry.getKey(), created);
+                    dataSourceMap.put(entry.getKey(), created);
+                    leaseQueues.put(entry.getKey(), createLeaseQueue(entry.getValue()));
+                }
+            }
+            renewedBackendResource = new BackendResource(dataSourceMap, leaseQueues, createShardingTransactionManagerEngine(dataSourceMap));
+        } catch (final RuntimeException ex) {
+            for (DataSource each : createdDataSources) {
+                DataSourceCloser.close(each);
             }
+            throw ex;
+        }
+        backendResource = renewedBackendResource;
+        DataSourceCloser.closeAfterDrained(getReplacedDataSources(originalDataSources, dataSourceMap), originalBackendResource.getShardingTransactionManagerEngine());
+    }
+    
+    private void warmUp(final String dataSourceName, final DataSource dataSource) {
+        try {
+            DataSourceWarmer.warmUp(dataSource);
+        } catch (final SQLException ex) {
+            throw new ShardingException(String.format("Can not warm up data source, name is `%s`.", dataSourceName), ex);
         }
-        this.dataSources = dataSourceMap;
-        shardingTransactionManagerEngine.init(LogicSchemas.getInstance().getDatabaseType(), dataSourceMap);
+    }
+    
+    private Collection<DataSource> getReplacedDataSources(final Map<String, DataSource> originalDataSources, final Map<String, DataSource> renewedDataSources) {
+        Set<DataSource> result = Collections.newSetFromMap(new IdentityHashMap<DataSource, Boolean>());
+        result.addAll(originalDataSources.values());
+        result.removeAll(renewedDataSources.values());
+        return result;
+    }
+    
+    /**
+     * Get sharding transaction manager engine.
+     * 
+     * @return sharding transaction manager engine
+     */
+    public ShardingTransactionManagerEngine getShardingTransactionManagerEngine() {
+        return backendResource.getShardingTransactionManagerEngine();
     }
     
     /**
@@ -100,6 +184,10 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     
     /**
      * Get connections.
+     * 
+     * <p>
+     * Several connections got in memory strictly mode are reserved from lease queue of data source first, which does not lock data source.
+     * </p>
      *
      * @param connectionMode  connection mode
      * @param dataSourceName  data source name
@@ -108,25 +196,31 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize, final TransactionType transactionType) throws SQLException {
-        DataSource dataSource = dataSources.get(dataSourceName);
+        BackendResource currentBackendResource = backendResource;
+        DataSource dataSource = currentBackendResource.getDataSources().get(dataSourceName);
+        ShardingTransactionManager shardingTransactionManager = currentBackendResource.getShardingTransactionManagerEngine().getTransactionManager(transactionType);
         if (1 == connectionSize) {
-            return Collections.singletonList(createConnection(transactionType, dataSourceName, dataSource));
+            return Collections.singletonList(createConnection(shardingTransactionManager, dataSourceName, dataSource));
         }
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
-            return createConnections(transactionType, dataSourceName, dataSource, connectionSize);
+            return createConnections(shardingTransactionManager, dataSourceName, dataSource, connectionSize);
         }
-        synchronized (dataSource) {
-            return createConnections(transactionType, dataSourceName, dataSource, connectionSize);
+        ConnectionLeaseQueue leaseQueue = currentBackendResource.getLeaseQueues().get(dataSourceName);
+        leaseQueue.reserve(connectionSize);
+        try {
+            return createConnections(shardingTransactionManager, dataSourceName, dataSource, connectionSize);
+        } finally {
+            leaseQueue.release(connectionSize);
         }
     }
     
-    private List<Connection> createConnections(final TransactionType transactionType, final String dataSourceName, final DataSource dataSource, final int connectionSize) throws SQLException {
+    private List<Connection> createConnections(
+            final ShardingTransactionManager shardingTransactionManager, final String dataSourceName, final DataSource dataSource, final int connectionSize) throws SQLException {
         List<Connection> result = new ArrayList<>(connectionSize);
         for (int i = 0; i < connectionSize; i++) {
             try {
-                result.add(createConnection(transactionType, dataSourceName, dataSource));
+                result.add(createConnection(shardingTransactionManager, dataSourceName, dataSource));
             } catch (final SQLException ex) {
                 for (Connection each : result) {
                     each.close();
@@ -137,8 +231,7 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
         return result;
     }
     
-    private Connection createConnection(final TransactionType transactionType, final String dataSourceName, final DataSource dataSource) throws SQLException {
-        ShardingTransactionManager shardingTransactionManager = shardingTransactionManagerEngine.getTransactionManager(transactionType);
+    private Connection createConnection(final ShardingTransactionManager shardingTransactionManager, final String dataSourceName, final DataSource dataSource) throws SQLException {
         return isInShardingTransaction(shardingTransactionManager) ? shardingTransactionManager.getConnection(dataSourceName) : dataSource.getConnection();
     }
     
@@ -148,20 +241,21 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     
     @Override
     public void close() throws Exception {
-        if (null != dataSources) {
-            closeDataSource(dataSources);
+        BackendResource currentBackendResource = backendResource;
+        for (DataSource each : currentBackendResource.getDataSources().values()) {
+            DataSourceCloser.close(each);
         }
-        shardingTransactionManagerEngine.close();
+        currentBackendResource.getShardingTransactionManagerEngine().close();
     }
     
-    private void closeDataSource(final Map<String, DataSource> dataSourceMap) {
-        for (DataSource each : dataSourceMap.values()) {
-            try {
-                Method method = each.getClass().getDeclaredMethod("close");
-                method.setAccessible(true);
-                method.invoke(each);
-            } catch (final ReflectiveOperationException ignored) {
-            }
-        }
+    @RequiredArgsConstructor
+    @Getter
+    private static final class BackendResource {
+        
+        private final Map<String, DataSource> dataSources;
+        
+        private final Map<String, ConnectionLeaseQueue> leaseQueues;
+        
+        private final ShardingTransactionManagerEngine shardingTransactionManagerEngine;
     }
 }
@@ -17,15 +17,21 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.schema;
 
+import com.google.common.base.Optional;
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataRefresher;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaDataProvider;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.DataSourceChangedEvent;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
@@ -34,6 +40,7 @@ import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParamet
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
 
+import java.sql.SQLException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -52,12 +59,14 @@ public abstract class LogicSchema {
     
     private final ParsingResultCache parsingResultCache;
     
-    private JDBCBackendDataSource backendDataSource;
+    private final JDBCBackendDataSource backendDataSource;
+    
+    private TableMetaDataRefresher tableMetaDataRefresher;
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
         this.dataSources = dataSources;
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = new ParsingResultCache(ShardingProxyContext.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE));
         backendDataSource = new JDBCBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
@@ -77,6 +86,26 @@ public abstract class LogicSchema {
         return result;
     }
     
+    protected final ShardingTableMetaData createShardingTableMetaData(final ShardingDataSourceMetaData shardingDataSourceMetaData, final ShardingRule shardingRule) {
+        ShardingTableMetaData result = loadShardingTableMetaData(shardingDataSourceMetaData, shardingRule);
+        tableMetaDataRefresher = new TableMetaDataRefresher(
+                result, ShardingProxyContext.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.LAZY_LOADING_TABLE_METADATA_REFRESH_INTERVAL_SECONDS));
+        return result;
+    }
+    
+    private ShardingTableMetaData loadShardingTableMetaData(final ShardingDataSourceMetaData shardingDataSourceMetaData, final ShardingRule shardingRule) {
+        if (!ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.LAZY_LOADING_TABLE_METADATA_ENABLED)) {
+            return new ShardingTableMetaData(getTableMetaDataInitializer(shardingDataSourceMetaData).load(shardingRule));
+        }
+        return new ShardingTableMetaData(new TableMetaDataProvider() {
+            
+            @Override
+            public Optional<TableMetaData> load(final String logicTableName) throws SQLException {
+                return getTableMetaDataInitializer(shardingDataSourceMetaData).loadIfExisted(logicTableName, shardingRule);
+            }
+        });
+    }
+    
     protected final TableMetaDataInitializer getTableMetaDataInitializer(final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
         return new TableMetaDataInitializer(
@@ -89,17 +118,16 @@ public abstract class LogicSchema {
      * Renew data source configuration.
      *
      * @param dataSourceChangedEvent data source changed event.
-     * @throws Exception exception
      */
     @Subscribe
-    public final synchronized void renew(final DataSourceChangedEvent dataSourceChangedEvent) throws Exception {
+    public final synchronized void renew(final DataSourceChangedEvent dataSourceChangedEvent) {
         if (!name.equals(dataSourceChangedEvent.getShardingSchemaName())) {
             return;
         }
-        backendDataSource.close();
+        Map<String, YamlDataSourceParameter> renewedDataSources = DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations());
+        backendDataSource.renew(dataSources, renewedDataSources);
         dataSources.clear();
-        dataSources.putAll(DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations()));
-        backendDataSource = new JDBCBackendDataSource(dataSources);
+        dataSources.putAll(renewedDataSources);
     }
     
     /**
@@ -109,4 +137,17 @@ public abstract class LogicSchema {
      */
     public void refreshTableMetaData(final SQLStatement sqlStatement) {
     }
+    
+    /**
+     * Close logic schema.
+     * 
+     * <p>
+     * Table meta data is not refreshed in background any more after closed.
+     * </p>
+     */
+    public void close() {
+        if (null != tableMetaDataRefresher) {
+            tableMetaDataRefresher.close();
+        }
+    }
 }
@@ -34,10 +34,12 @@ import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -145,6 +147,19 @@ public final class LogicSchemas {
         return new LinkedList<>(logicSchemas.keySet());
     }
     
+    /**
+     * Get cached SQLs of parsing result caches for all schemas.
+     *
+     * @return cached SQLs
+     */
+    public Set<String> getParsingCachedSQLs() {
+        Set<String> result = new LinkedHashSet<>();
+        for (LogicSchema each : logicSchemas.values()) {
+            result.addAll(each.getParsingResultCache().getSQLs());
+        }
+        return result;
+    }
+    
     /**
      * Renew to add new schema.
      *
@@ -164,6 +179,9 @@ public final class LogicSchemas {
      */
     @Subscribe
     public synchronized void renew(final SchemaDeletedEvent schemaDeletedEvent) {
-        logicSchemas.remove(schemaDeletedEvent.getShardingSchemaName());
+        LogicSchema logicSchema = logicSchemas.remove(schemaDeletedEvent.getShardingSchemaName());
+        if (null != logicSchema) {
+            logicSchema.close();
+        }
     }
 }
@@ -67,7 +67,7 @@ public final class ShardingSchema extends LogicSchema {
     
     private ShardingMetaData createShardingMetaData() {
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(getDataSources()), shardingRule, LogicSchemas.getInstance().getDatabaseType());
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(shardingDataSourceMetaData).load(shardingRule));
+        ShardingTableMetaData shardingTableMetaData = createShardingTableMetaData(shardingDataSourceMetaData, shardingRule);
         return new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
     }
     
@@ -110,13 +110,20 @@ public final class ShardingSchema extends LogicSchema {
     }
     
     private void refreshTableMetaData(final CreateTableStatement createTableStatement) {
-        String tableName = createTableStatement.getTables().getSingleTableName();
-        getMetaData().getTable().put(tableName, getTableMetaDataInitializer(metaData.getDataSource()).load(tableName, shardingRule));
+        refreshTableMetaData(createTableStatement.getTables().getSingleTableName());
     }
     
     private void refreshTableMetaData(final AlterTableStatement alterTableStatement) {
-        String tableName = alterTableStatement.getTables().getSingleTableName();
-        getMetaData().getTable().put(tableName, getTableMetaDataInitializer(metaData.getDataSource()).load(tableName, shardingRule));
+        refreshTableMetaData(alterTableStatement.getTables().getSingleTableName());
+    }
+    
+    private void refreshTableMetaData(final String tableName) {
+        ShardingTableMetaData shardingTableMetaData = getMetaData().getTable();
+        if (shardingTableMetaData.isLazyLoading()) {
+            getTableMetaDataRefresher().refresh(tableName);
+        } else {
+            shardingTableMetaData.put(tableName, getTableMetaDataInitializer(metaData.getDataSource()).load(tableName, shardingRule));
+        }
     }
     
     private void refreshTableMetaData(final DropTableStatement dropTableStatement) {
@@ -23,9 +23,10 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCom
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryRow;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
-import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.shardingproxy.backend.text.QueryRowBackendHandler;
 
 import java.sql.SQLException;
 
@@ -35,7 +36,7 @@ import java.sql.SQLException;
  * @author zhaojun
  */
 @RequiredArgsConstructor
-public final class UnicastBackendHandler implements TextProtocolBackendHandler {
+public final class UnicastBackendHandler implements QueryRowBackendHandler {
     
     private final DatabaseCommunicationEngineFactory databaseCommunicationEngineFactory = DatabaseCommunicationEngineFactory.getInstance();
     
@@ -66,4 +67,9 @@ public final class UnicastBackendHandler implements TextProtocolBackendHandler {
     public QueryData getQueryData() throws SQLException {
         return databaseCommunicationEngine.getQueryData();
     }
+    
+    @Override
+    public QueryRow getQueryRow() {
+        return databaseCommunicationEngine.getQueryRow();
+    }
 }
@@ -25,7 +25,8 @@ import org.apache.shardingsphere.shardingproxy.backend.exception.NoDatabaseSelec
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
-import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryRow;
+import org.apache.shardingsphere.shardingproxy.backend.text.QueryRowBackendHandler;
 
 import java.sql.SQLException;
 
@@ -35,7 +36,7 @@ import java.sql.SQLException;
  * @author zhangliang
  */
 @RequiredArgsConstructor
-public final class QueryBackendHandler implements TextProtocolBackendHandler {
+public final class QueryBackendHandler implements QueryRowBackendHandler {
     
     private final DatabaseCommunicationEngineFactory databaseCommunicationEngineFactory = DatabaseCommunicationEngineFactory.getInstance();
     
@@ -63,4 +64,9 @@ public final class QueryBackendHandler implements TextProtocolBackendHandler {
     public QueryData getQueryData() throws SQLException {
         return databaseCommunicationEngine.getQueryData();
     }
+    
+    @Override
+    public QueryRow getQueryRow() {
+        return databaseCommunicationEngine.getQueryRow();
+    }
 }
@@ -20,9 +20,13 @@ package org.apache.shardingsphere.shardingproxy.backend;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnectionTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendTransactionManagerTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandlerTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.MethodInvocationTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ResourceSynchronizerTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.ConnectionLeaseQueueTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSourceTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.recognizer.AllRecognizerTests;
 import org.apache.shardingsphere.shardingproxy.backend.executor.ExecutorContextTest;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemaTest;
 import org.apache.shardingsphere.shardingproxy.backend.schema.ProxyTableMetaDataConnectionManagerTest;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.BroadcastBackendHandlerTest;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.ShowDatabasesBackendHandlerTest;
@@ -46,10 +50,14 @@ import org.junit.runners.Suite.SuiteClasses;
         UnicastBackendHandlerTest.class, 
         UseDatabaseBackendHandlerTest.class,
         JDBCBackendDataSourceTest.class,
+        ConnectionLeaseQueueTest.class,
         BackendConnectionTest.class, 
         BackendTransactionManagerTest.class, 
         ConnectionStateHandlerTest.class, 
+        MethodInvocationTest.class, 
+        ResourceSynchronizerTest.class, 
         ProxyTableMetaDataConnectionManagerTest.class, 
+        LogicSchemaTest.class, 
         AllSCTLTests.class, 
         AllRecognizerTests.class
 })
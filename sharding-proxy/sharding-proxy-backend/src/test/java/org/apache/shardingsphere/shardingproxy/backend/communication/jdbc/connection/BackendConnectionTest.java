@@ -111,6 +111,31 @@ public final class BackendConnectionTest {
         assertThat(backendConnection.getStateHandler().getStatus(), is(ConnectionStatus.TRANSACTION));
     }
     
+    @Test
+    public void assertReleaseStatementConnectionsWithoutTransaction() throws SQLException {
+        backendConnection.getStateHandler().setStatus(ConnectionStatus.RUNNING);
+        MockConnectionUtil.setCachedConnections(backendConnection, "ds1", 2);
+        backendConnection.releaseStatementConnectionsIfNecessary();
+        assertThat(backendConnection.getConnectionSize(), is(0));
+        assertThat(backendConnection.getStateHandler().getStatus(), is(ConnectionStatus.RUNNING));
+    }
+    
+    @Test
+    public void assertReleaseStatementConnectionsWithTransaction() throws SQLException {
+        backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+        MockConnectionUtil.setCachedConnections(backendConnection, "ds1", 2);
+        backendConnection.releaseStatementConnectionsIfNecessary();
+        assertThat(backendConnection.getConnectionSize(), is(2));
+    }
+    
+    @Test
+    public void assertBeginLocalTransactionTwiceRecordsMethodInvocationOnce() {
+        LocalTransactionManager localTransactionManager = new LocalTransactionManager(backendConnection);
+        localTransactionManager.begin();
+        localTransactionManager.begin();
+        assertThat(backendConnection.getMethodInvocations().size(), is(1));
+    }
+    
     @SneakyThrows
     private void setMethodInvocation() {
         MethodInvocation invocation = mock(MethodInvocation.class);
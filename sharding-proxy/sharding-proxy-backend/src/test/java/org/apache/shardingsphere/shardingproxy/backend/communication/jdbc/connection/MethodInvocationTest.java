@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MethodInvocationTest {
+    
+    @Test
+    public void assertInvokeWithDifferentState() throws NoSuchMethodException, SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        new MethodInvocation(Connection.class.getMethod("setAutoCommit", boolean.class), new Object[]{false}).invoke(connection);
+        verify(connection).setAutoCommit(false);
+    }
+    
+    @Test
+    public void assertInvokeWithSameState() throws NoSuchMethodException, SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(false);
+        new MethodInvocation(Connection.class.getMethod("setAutoCommit", boolean.class), new Object[]{false}).invoke(connection);
+        verify(connection, never()).setAutoCommit(false);
+    }
+    
+    @Test
+    public void assertInvokeWithoutStateGetter() throws NoSuchMethodException, SQLException {
+        Connection connection = mock(Connection.class);
+        new MethodInvocation(Connection.class.getMethod("setSavepoint", String.class), new Object[]{"point"}).invoke(connection);
+        verify(connection).setSavepoint("point");
+    }
+    
+    @Test
+    public void assertEquals() throws NoSuchMethodException {
+        MethodInvocation actual = new MethodInvocation(Connection.class.getMethod("setAutoCommit", boolean.class), new Object[]{false});
+        assertThat(actual, is(new MethodInvocation(Connection.class.getMethod("setAutoCommit", boolean.class), new Object[]{false})));
+        assertThat(actual, not(new MethodInvocation(Connection.class.getMethod("setAutoCommit", boolean.class), new Object[]{true})));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
+
+import com.google.common.base.Supplier;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertFalse;
+
+public final class ResourceSynchronizerTest {
+    
+    private final ResourceSynchronizer resourceSynchronizer = new ResourceSynchronizer();
+    
+    @Test
+    public void assertDoAwaitWhileWithUnsatisfiedCondition() {
+        resourceSynchronizer.doAwaitWhile(new WaitCondition(new AtomicBoolean(false)));
+    }
+    
+    @Test
+    public void assertDoAwaitWhileWithNotifyAfterConditionChanged() throws InterruptedException {
+        final AtomicBoolean waiting = new AtomicBoolean(true);
+        Thread waitThread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                resourceSynchronizer.doAwaitWhile(new WaitCondition(waiting));
+            }
+        });
+        waitThread.start();
+        waiting.set(false);
+        resourceSynchronizer.doNotify();
+        waitThread.join();
+        assertFalse(waiting.get());
+    }
+    
+    private static final class WaitCondition implements Supplier<Boolean> {
+        
+        private final AtomicBoolean waiting;
+        
+        WaitCondition(final AtomicBoolean waiting) {
+            this.waiting = waiting;
+        }
+        
+        @Override
+        public Boolean get() {
+            return waiting.get();
+        }
+    }
+}
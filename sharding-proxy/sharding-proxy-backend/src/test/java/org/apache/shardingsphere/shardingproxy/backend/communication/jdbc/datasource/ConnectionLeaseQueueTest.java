@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionLeaseQueueTest {
+    
+    @Test
+    public void assertReserveAndRelease() throws SQLException {
+        ConnectionLeaseQueue leaseQueue = new ConnectionLeaseQueue(10, 1000L);
+        leaseQueue.reserve(6);
+        leaseQueue.reserve(4);
+        assertThat(leaseQueue.getReservedSize(), is(10));
+        leaseQueue.release(6);
+        leaseQueue.release(4);
+        assertThat(leaseQueue.getReservedSize(), is(0));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReserveMoreThanMaxPoolSize() throws SQLException {
+        new ConnectionLeaseQueue(10, 60000L).reserve(11);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReserveTimeout() throws SQLException {
+        ConnectionLeaseQueue leaseQueue = new ConnectionLeaseQueue(10, 10L);
+        leaseQueue.reserve(6);
+        leaseQueue.reserve(6);
+    }
+    
+    @Test
+    public void assertReserveAfterReleasedByOtherThread() throws SQLException, InterruptedException {
+        final ConnectionLeaseQueue leaseQueue = new ConnectionLeaseQueue(10, 60000L);
+        leaseQueue.reserve(6);
+        Thread waitingThread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    leaseQueue.reserve(6);
+                } catch (final SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        });
+        waitingThread.start();
+        leaseQueue.release(6);
+        waitingThread.join();
+        assertThat(leaseQueue.getReservedSize(), is(6));
+    }
+}
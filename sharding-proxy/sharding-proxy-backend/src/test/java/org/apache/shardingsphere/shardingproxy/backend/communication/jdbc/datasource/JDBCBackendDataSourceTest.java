@@ -17,10 +17,14 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource;
 
+import com.atomikos.icatch.config.Configuration;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -29,8 +33,9 @@ import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -38,37 +43,65 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public final class JDBCBackendDataSourceTest {
     
-    private JDBCBackendDataSource jdbcBackendDataSource = new JDBCBackendDataSource(Collections.<String, YamlDataSourceParameter>emptyMap());
+    private final JDBCBackendDataSource jdbcBackendDataSource = new JDBCBackendDataSource(Collections.<String, YamlDataSourceParameter>emptyMap());
+    
+    private final MockBackendDataSourceFactory dataSourceFactory = new MockBackendDataSourceFactory();
     
     @Before
     public void setUp() {
-        setDataSource();
+        setDataSourceFactory();
+        jdbcBackendDataSource.renew(Collections.<String, YamlDataSourceParameter>emptyMap(), createDataSourceParameters(2));
     }
     
     @SneakyThrows
-    private void setDataSource() {
-        Field field = jdbcBackendDataSource.getClass().getDeclaredField("dataSources");
+    private void setDataSourceFactory() {
+        Field field = jdbcBackendDataSource.getClass().getDeclaredField("dataSourceFactory");
         field.setAccessible(true);
-        field.set(jdbcBackendDataSource, mockDataSources(2));
+        field.set(jdbcBackendDataSource, dataSourceFactory);
     }
     
-    private Map<String, DataSource> mockDataSources(final int size) {
-        Map<String, DataSource> result = new HashMap<>(size, 1);
+    private Map<String, YamlDataSourceParameter> createDataSourceParameters(final int size) {
+        Map<String, YamlDataSourceParameter> result = new LinkedHashMap<>(size, 1);
         for (int i = 0; i < size; i++) {
-            result.put("ds_" + i, new MockDataSource());
+            result.put("ds_" + i, createDataSourceParameter("jdbc:mock://127.0.0.1/ds_" + i));
         }
         return result;
     }
     
+    private YamlDataSourceParameter createDataSourceParameter(final String url) {
+        YamlDataSourceParameter result = new YamlDataSourceParameter();
+        result.setUrl(url);
+        result.setUsername("root");
+        result.setMaxPoolSize(5);
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows
+    private Map<String, DataSource> getDataSourceMap() {
+        Field backendResourceField = jdbcBackendDataSource.getClass().getDeclaredField("backendResource");
+        backendResourceField.setAccessible(true);
+        Object backendResource = backendResourceField.get(jdbcBackendDataSource);
+        Field dataSourcesField = backendResource.getClass().getDeclaredField("dataSources");
+        dataSourcesField.setAccessible(true);
+        return (Map<String, DataSource>) dataSourcesField.get(backendResource);
+    }
+    
     @Test
     public void assertGetConnectionFixedOne() throws SQLException {
         Connection actual = jdbcBackendDataSource.getConnection("ds_1");
@@ -98,13 +131,71 @@ public final class JDBCBackendDataSourceTest {
             try {
                 actual.addAll(each.get());
             } catch (final InterruptedException | ExecutionException ex) {
-                assertThat(ex.getMessage(), containsString("Could't get 6 connections one time, partition succeed connection(5) have released!"));
+                assertThat(ex.getMessage(), containsString("Can not reserve 6 connections one time, max pool size is 5."));
             }
         }
         assertTrue(actual.isEmpty());
         executorService.shutdown();
     }
     
+    @Test
+    public void assertRenewWithChangedDataSource() throws SQLException, InterruptedException {
+        MockDataSource replacedDataSource = (MockDataSource) getDataSourceMap().get("ds_0");
+        DataSource unchangedDataSource = getDataSourceMap().get("ds_1");
+        ShardingTransactionManagerEngine replacedShardingTransactionManagerEngine = jdbcBackendDataSource.getShardingTransactionManagerEngine();
+        Connection connection = jdbcBackendDataSource.getConnection("ds_0");
+        Map<String, YamlDataSourceParameter> renewedParameters = createDataSourceParameters(2);
+        renewedParameters.put("ds_0", createDataSourceParameter("jdbc:mock://127.0.0.1/ds_renewed"));
+        jdbcBackendDataSource.renew(createDataSourceParameters(2), renewedParameters);
+        assertThat(getDataSourceMap().get("ds_0"), not(sameInstance((DataSource) replacedDataSource)));
+        assertThat(getDataSourceMap().get("ds_1"), sameInstance(unchangedDataSource));
+        assertThat(jdbcBackendDataSource.getShardingTransactionManagerEngine(), not(sameInstance(replacedShardingTransactionManagerEngine)));
+        assertThat(((MockDataSource) getDataSourceMap().get("ds_0")).getActiveCount(), is(0));
+        TimeUnit.MILLISECONDS.sleep(300L);
+        assertFalse(replacedDataSource.isClosed());
+        connection.close();
+        assertTrue(awaitClosed(replacedDataSource));
+    }
+    
+    @Test
+    public void assertRenewWithXATransactionManager() throws InterruptedException {
+        MockDataSource replacedDataSource = (MockDataSource) getDataSourceMap().get("ds_0");
+        Map<String, YamlDataSourceParameter> renewedParameters = createDataSourceParameters(2);
+        renewedParameters.put("ds_0", createDataSourceParameter("jdbc:mock://127.0.0.1/ds_renewed"));
+        jdbcBackendDataSource.renew(createDataSourceParameters(2), renewedParameters);
+        assertTrue(awaitClosed(replacedDataSource));
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertTrue(Configuration.getResources().hasMoreElements());
+    }
+    
+    @Test
+    public void assertRenewFailure() {
+        Map<String, DataSource> expected = new LinkedHashMap<>(getDataSourceMap());
+        ShardingTransactionManagerEngine expectedShardingTransactionManagerEngine = jdbcBackendDataSource.getShardingTransactionManagerEngine();
+        Map<String, YamlDataSourceParameter> renewedParameters = createDataSourceParameters(2);
+        renewedParameters.put("ds_0", createDataSourceParameter("jdbc:mock://127.0.0.1/ds_renewed"));
+        renewedParameters.put("ds_1", createDataSourceParameter(MockBackendDataSourceFactory.INVALID_URL));
+        dataSourceFactory.getCreatedDataSources().clear();
+        try {
+            jdbcBackendDataSource.renew(createDataSourceParameters(2), renewedParameters);
+            fail("Expected ShardingException.");
+        } catch (final ShardingException ex) {
+            assertThat(ex.getMessage(), containsString("ds_1"));
+        }
+        assertThat(dataSourceFactory.getCreatedDataSources().size(), is(1));
+        assertTrue(dataSourceFactory.getCreatedDataSources().iterator().next().isClosed());
+        assertThat(getDataSourceMap(), is(expected));
+        assertThat(jdbcBackendDataSource.getShardingTransactionManagerEngine(), sameInstance(expectedShardingTransactionManagerEngine));
+    }
+    
+    private boolean awaitClosed(final MockDataSource dataSource) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!dataSource.isClosed() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+        return dataSource.isClosed();
+    }
+    
     @RequiredArgsConstructor
     private class CallableTask implements Callable<List<Connection>> {
         
@@ -119,4 +210,22 @@ public final class JDBCBackendDataSourceTest {
             return jdbcBackendDataSource.getConnections(connectionMode, datasourceName, connectionSize);
         }
     }
+    
+    private static final class MockBackendDataSourceFactory implements JDBCBackendDataSourceFactory {
+        
+        private static final String INVALID_URL = "jdbc:invalid";
+        
+        @Getter
+        private final Collection<MockDataSource> createdDataSources = new ArrayList<>();
+        
+        @Override
+        public DataSource build(final String dataSourceName, final YamlDataSourceParameter dataSourceParameter) {
+            if (INVALID_URL.equals(dataSourceParameter.getUrl())) {
+                throw new IllegalArgumentException("Invalid url.");
+            }
+            MockDataSource result = new MockDataSource();
+            createdDataSources.add(result);
+            return result;
+        }
+    }
 }
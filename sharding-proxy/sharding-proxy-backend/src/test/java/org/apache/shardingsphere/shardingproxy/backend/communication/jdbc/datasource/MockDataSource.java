@@ -17,7 +17,14 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource;
 
+import lombok.Getter;
+
 import javax.sql.DataSource;
+import javax.sql.XAConnection;
+import javax.sql.XADataSource;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
 import java.io.PrintWriter;
 import java.sql.Array;
 import java.sql.Blob;
@@ -39,15 +46,22 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 /**
  * Mock data source.
  *
  * @author zhaojun
  */
-public final class MockDataSource implements DataSource, AutoCloseable {
+public final class MockDataSource implements DataSource, XADataSource, AutoCloseable {
     
     private AtomicInteger count = new AtomicInteger(0);
     
+    @Getter
+    private volatile boolean closed;
+    
     @Override
     public Connection getConnection() throws SQLException {
         if (5 <= count.get()) {
@@ -62,6 +76,24 @@ public final class MockDataSource implements DataSource, AutoCloseable {
         return getConnection();
     }
     
+    @Override
+    public XAConnection getXAConnection() throws SQLException {
+        XAConnection result = mock(XAConnection.class);
+        XAResource xaResource = mock(XAResource.class);
+        try {
+            when(xaResource.recover(anyInt())).thenReturn(new Xid[0]);
+        } catch (final XAException ex) {
+            throw new SQLException(ex);
+        }
+        when(result.getXAResource()).thenReturn(xaResource);
+        return result;
+    }
+    
+    @Override
+    public XAConnection getXAConnection(final String user, final String password) throws SQLException {
+        return getXAConnection();
+    }
+    
     @Override
     public <T> T unwrap(final Class<T> iface) {
         return null;
@@ -97,8 +129,18 @@ public final class MockDataSource implements DataSource, AutoCloseable {
         return null;
     }
     
+    /**
+     * Get active count.
+     * 
+     * @return active count
+     */
+    public int getActiveCount() {
+        return count.get();
+    }
+    
     @Override
     public void close() {
+        closed = true;
     }
     
     private final class MockConnection implements Connection {
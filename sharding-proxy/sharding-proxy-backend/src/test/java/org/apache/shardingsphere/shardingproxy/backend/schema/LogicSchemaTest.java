@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.schema;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.orchestration.internal.registry.config.event.DataSourceChangedEvent;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class LogicSchemaTest {
+    
+    private final JDBCBackendDataSource backendDataSource = mock(JDBCBackendDataSource.class);
+    
+    private final Map<String, YamlDataSourceParameter> dataSources = new LinkedHashMap<>();
+    
+    private LogicSchema logicSchema;
+    
+    @Before
+    public void setUp() {
+        logicSchema = new LogicSchema("renew_db", dataSources) {
+            
+            @Override
+            public ShardingMetaData getMetaData() {
+                return null;
+            }
+        };
+        setBackendDataSource();
+        dataSources.put("ds_0", createDataSourceParameter("jdbc:mysql://127.0.0.1:3306/ds_0"));
+        dataSources.put("ds_1", createDataSourceParameter("jdbc:mysql://127.0.0.1:3306/ds_1"));
+    }
+    
+    @SneakyThrows
+    private void setBackendDataSource() {
+        Field field = LogicSchema.class.getDeclaredField("backendDataSource");
+        field.setAccessible(true);
+        field.set(logicSchema, backendDataSource);
+    }
+    
+    private YamlDataSourceParameter createDataSourceParameter(final String url) {
+        YamlDataSourceParameter result = new YamlDataSourceParameter();
+        result.setUrl(url);
+        result.setUsername("root");
+        result.setPassword("root");
+        return result;
+    }
+    
+    @Test
+    public void assertRenew() {
+        final Map<String, YamlDataSourceParameter> originalDataSources = new LinkedHashMap<>(dataSources);
+        final Map<String, YamlDataSourceParameter> actualOriginalDataSources = new LinkedHashMap<>();
+        doAnswer(new Answer<Object>() {
+            
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object answer(final InvocationOnMock invocation) {
+                actualOriginalDataSources.putAll((Map<String, YamlDataSourceParameter>) invocation.getArguments()[0]);
+                return null;
+            }
+        }).when(backendDataSource).renew(ArgumentMatchers.<Map<String, YamlDataSourceParameter>>any(), ArgumentMatchers.<Map<String, YamlDataSourceParameter>>any());
+        Map<String, YamlDataSourceParameter> renewedDataSources = new LinkedHashMap<>(dataSources);
+        renewedDataSources.put("ds_1", createDataSourceParameter("jdbc:mysql://127.0.0.1:3306/ds_renewed"));
+        logicSchema.renew(new DataSourceChangedEvent("renew_db", DataSourceConverter.getDataSourceConfigurationMap(renewedDataSources)));
+        verify(backendDataSource).renew(ArgumentMatchers.<Map<String, YamlDataSourceParameter>>any(), ArgumentMatchers.eq(renewedDataSources));
+        assertThat(actualOriginalDataSources, is(originalDataSources));
+        assertThat(logicSchema.getDataSources(), is(renewedDataSources));
+    }
+    
+    @Test
+    public void assertRenewWithOtherSchema() {
+        Map<String, YamlDataSourceParameter> originalDataSources = new LinkedHashMap<>(dataSources);
+        Map<String, YamlDataSourceParameter> renewedDataSources = new LinkedHashMap<>(dataSources);
+        renewedDataSources.put("ds_1", createDataSourceParameter("jdbc:mysql://127.0.0.1:3306/ds_renewed"));
+        logicSchema.renew(new DataSourceChangedEvent("other_db", DataSourceConverter.getDataSourceConfigurationMap(renewedDataSources)));
+        verify(backendDataSource, never()).renew(ArgumentMatchers.<Map<String, YamlDataSourceParameter>>any(), ArgumentMatchers.<Map<String, YamlDataSourceParameter>>any());
+        assertThat(logicSchema.getDataSources(), is(originalDataSources));
+    }
+}
@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.shardingproxy;
 
+import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.api.config.RuleConfiguration;
 import org.apache.shardingsphere.core.config.DataSourceConfiguration;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parse.antlr.parser.SQLParserWarmUp;
 import org.apache.shardingsphere.core.rule.Authentication;
 import org.apache.shardingsphere.core.yaml.swapper.impl.MasterSlaveRuleConfigurationYamlSwapper;
 import org.apache.shardingsphere.core.yaml.swapper.impl.ShardingRuleConfigurationYamlSwapper;
@@ -38,6 +42,7 @@ import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.bootstrap.ShardingProxy;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
@@ -54,6 +59,7 @@ import java.util.Properties;
  * @author panjuan
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class Bootstrap {
     
     private static final int DEFAULT_PORT = 3307;
@@ -91,6 +97,7 @@ public final class Bootstrap {
         ShardingProxyContext.getInstance().init(authentication, prop);
         LogicSchemas.getInstance().init(getDataSourceParameterMap(ruleConfigs), getRuleConfiguration(ruleConfigs));
         initOpenTracing();
+        initSQLParserWarmUp();
         ShardingProxy.getInstance().start(port);
     }
     
@@ -102,6 +109,7 @@ public final class Bootstrap {
             ShardingProxyContext.getInstance().init(shardingOrchestrationFacade.getConfigService().loadAuthentication(), shardingOrchestrationFacade.getConfigService().loadProperties());
             LogicSchemas.getInstance().init(shardingSchemaNames, getSchemaDataSourceParameterMap(shardingOrchestrationFacade), getSchemaRules(shardingOrchestrationFacade), true);
             initOpenTracing();
+            initSQLParserWarmUp();
             ShardingProxy.getInstance().start(port);
         }
     }
@@ -142,6 +150,29 @@ public final class Bootstrap {
         }
     }
     
+    @SneakyThrows
+    private static void initSQLParserWarmUp() {
+        final String warmUpFile = ShardingProxyContext.getInstance().getShardingProperties().getValue(ShardingPropertiesConstant.PARSING_WARM_UP_FILE);
+        final long maxSize = ShardingProxyContext.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE);
+        if (Strings.isNullOrEmpty(warmUpFile)) {
+            return;
+        }
+        if (new File(warmUpFile).isFile()) {
+            SQLParserWarmUp.warmUp(LogicSchemas.getInstance().getDatabaseType(), SQLParserWarmUp.load(warmUpFile));
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            
+            @Override
+            public void run() {
+                try {
+                    SQLParserWarmUp.save(LogicSchemas.getInstance().getDatabaseType(), LogicSchemas.getInstance().getParsingCachedSQLs(), warmUpFile, maxSize);
+                } catch (final IOException ex) {
+                    log.error("Save SQL parser warm up file {} failure.", warmUpFile, ex);
+                }
+            }
+        });
+    }
+    
     private static Map<String, Map<String, DataSourceConfiguration>> getDataSourceConfigurationMap(final Map<String, YamlProxyRuleConfiguration> ruleConfigs) {
         Map<String, Map<String, DataSourceConfiguration>> result = new LinkedHashMap<>();
         for (Entry<String, YamlProxyRuleConfiguration> entry : ruleConfigs.entrySet()) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.config.yaml;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -27,6 +28,7 @@ import lombok.Setter;
  */
 @Getter
 @Setter
+@EqualsAndHashCode
 public final class YamlDataSourceParameter {
     
     private String url;
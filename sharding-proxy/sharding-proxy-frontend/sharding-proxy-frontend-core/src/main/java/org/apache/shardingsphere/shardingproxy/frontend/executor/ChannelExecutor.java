@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Channel executor.
+ * 
+ * <p>
+ *     Execute commands of one channel in order on shared threads.
+ *     The thread is held by channel during XA or BASE transaction, because transaction is bound to the thread which began it.
+ * </p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Slf4j
+final class ChannelExecutor implements Executor, Runnable {
+    
+    private static final Runnable WAKE_UP = new Runnable() {
+        
+        @Override
+        public void run() {
+        }
+    };
+    
+    private final Executor threads;
+    
+    private final BackendConnection backendConnection;
+    
+    private final BlockingQueue<Runnable> commands = new LinkedBlockingQueue<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    private volatile boolean closed;
+    
+    @Override
+    public void execute(final Runnable command) {
+        commands.offer(command);
+        scheduleIfNecessary();
+    }
+    
+    private void scheduleIfNecessary() {
+        if (scheduled.compareAndSet(false, true)) {
+            threads.execute(this);
+        }
+    }
+    
+    @Override
+    public void run() {
+        Runnable command = nextCommand();
+        while (null != command) {
+            runCommand(command);
+            command = nextCommand();
+        }
+        scheduled.set(false);
+        if (!commands.isEmpty() && !closed) {
+            scheduleIfNecessary();
+        }
+    }
+    
+    private Runnable nextCommand() {
+        Runnable result = commands.poll();
+        try {
+            while (null == result && isHoldThread()) {
+                result = commands.take();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+    
+    private boolean isHoldThread() {
+        return !closed && TransactionType.LOCAL != backendConnection.getTransactionType() && backendConnection.getStateHandler().isInTransaction();
+    }
+    
+    private void runCommand(final Runnable command) {
+        try {
+            command.run();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Exception occur: ", ex);
+        }
+    }
+    
+    /**
+     * Close channel executor, thread held by channel will be released.
+     */
+    void close() {
+        closed = true;
+        commands.offer(WAKE_UP);
+    }
+}
@@ -18,58 +18,95 @@
 package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
 import io.netty.channel.ChannelId;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Channel thread executor group.
  * 
  * <p>
- *     Manage the thread for each channel invoking.
- *     This ensure XA transaction framework processed by current thread id.
+ *     Manage the executor for each channel invoking.
+ *     Commands of each channel are executed in order, and XA or BASE transaction is processed by the thread which began it.
+ *     Channels share a bounded thread pool, thread is only held by channel during its XA or BASE transaction.
+ *     Threads held by open transactions count towards the bound, the bound follows current sharding properties.
  * </p>
  * 
  * @author zhaojun
  * @author zhangliang
+ * @author agent
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ChannelThreadExecutorGroup {
     
-    private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
+    private static final long KEEP_ALIVE_SECONDS = 60L;
     
-    private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup(getThreadSize());
+    
+    private final ThreadPoolExecutor threads;
+    
+    private final ConcurrentMap<ChannelId, ChannelExecutor> channelExecutors = new ConcurrentHashMap<>();
+    
+    ChannelThreadExecutorGroup(final int threadSize) {
+        threads = new ThreadPoolExecutor(threadSize, threadSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), ShardingThreadFactoryBuilder.build("Channel-%d"));
+        threads.allowCoreThreadTimeOut(true);
+    }
     
     /**
      * Get channel thread executor group.
      * 
+     * <p>
+     *     Thread size is adjusted to current sharding properties.
+     * </p>
+     * 
      * @return channel thread executor group
      */
     public static ChannelThreadExecutorGroup getInstance() {
+        INSTANCE.resize(getThreadSize());
         return INSTANCE;
     }
     
-    /**
-     * Register channel.
-     *
-     * @param channelId channel id
-     */
-    public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+    private static int getThreadSize() {
+        return ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_CHANNEL_THREAD_SIZE);
+    }
+    
+    void resize(final int threadSize) {
+        if (threadSize == threads.getMaximumPoolSize()) {
+            return;
+        }
+        synchronized (threads) {
+            if (threadSize > threads.getMaximumPoolSize()) {
+                threads.setMaximumPoolSize(threadSize);
+                threads.setCorePoolSize(threadSize);
+            } else if (threadSize < threads.getMaximumPoolSize()) {
+                threads.setCorePoolSize(threadSize);
+                threads.setMaximumPoolSize(threadSize);
+            }
+        }
     }
     
     /**
-     * Get executor service of current channel.
+     * Get executor of current channel.
      *
      * @param channelId channel id
-     * @return executor service of current channel
+     * @param backendConnection backend connection of current channel
+     * @return executor of current channel
      */
-    public ExecutorService get(final ChannelId channelId) {
-        return executorServices.get(channelId);
+    public Executor get(final ChannelId channelId, final BackendConnection backendConnection) {
+        ChannelExecutor result = channelExecutors.get(channelId);
+        if (null != result) {
+            return result;
+        }
+        ChannelExecutor channelExecutor = new ChannelExecutor(threads, backendConnection);
+        result = channelExecutors.putIfAbsent(channelId, channelExecutor);
+        return null == result ? channelExecutor : result;
     }
     
     /**
@@ -78,6 +115,9 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void unregister(final ChannelId channelId) {
-        executorServices.remove(channelId).shutdown();
+        ChannelExecutor channelExecutor = channelExecutors.remove(channelId);
+        if (null != channelExecutor) {
+            channelExecutor.close();
+        }
     }
 }
@@ -19,9 +19,10 @@ package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
 import io.netty.channel.ChannelId;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 /**
  * Command executor selector.
@@ -33,15 +34,16 @@ import java.util.concurrent.ExecutorService;
 public final class CommandExecutorSelector {
     
     /**
-     * Get executor service.
+     * Get executor.
      *
      * @param isOccupyThreadForPerConnection is occupy thread for per connection or not
-     * @param transactionType transaction type
+     * @param backendConnection backend connection
      * @param channelId channel ID
-     * @return executor service
+     * @return executor
      */
-    public static ExecutorService getExecutor(final boolean isOccupyThreadForPerConnection, final TransactionType transactionType, final ChannelId channelId) {
+    public static Executor getExecutor(final boolean isOccupyThreadForPerConnection, final BackendConnection backendConnection, final ChannelId channelId) {
+        TransactionType transactionType = backendConnection.getTransactionType();
         return (isOccupyThreadForPerConnection || TransactionType.XA == transactionType || TransactionType.BASE == transactionType)
-            ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
+            ? ChannelThreadExecutorGroup.getInstance().get(channelId, backendConnection) : UserExecutorGroup.getInstance().getExecutorService();
     }
 }
@@ -18,27 +18,167 @@
 package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
 import io.netty.channel.ChannelId;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 
 public final class ChannelThreadExecutorGroupTest {
     
     @Test
-    public void assertRegister() {
+    public void assertGet() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertNotNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
+        Executor actual = ChannelThreadExecutorGroup.getInstance().get(channelId, new BackendConnection(TransactionType.XA));
+        assertNotNull(actual);
+        assertThat(ChannelThreadExecutorGroup.getInstance().get(channelId, new BackendConnection(TransactionType.XA)), is(actual));
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
     }
     
     @Test
     public void assertUnregister() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        Executor executor = ChannelThreadExecutorGroup.getInstance().get(channelId, new BackendConnection(TransactionType.XA));
+        ChannelThreadExecutorGroup.getInstance().unregister(channelId);
+        assertThat(ChannelThreadExecutorGroup.getInstance().get(channelId, new BackendConnection(TransactionType.XA)), not(executor));
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
-        assertNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
+    }
+    
+    @Test
+    public void assertUnregisterWithoutExecutor() {
+        ChannelThreadExecutorGroup.getInstance().unregister(mock(ChannelId.class));
+    }
+    
+    @Test
+    public void assertExecuteInOrder() throws InterruptedException {
+        ChannelThreadExecutorGroup channelThreadExecutorGroup = new ChannelThreadExecutorGroup(4);
+        ChannelId channelId = mock(ChannelId.class);
+        Executor executor = channelThreadExecutorGroup.get(channelId, new BackendConnection(TransactionType.LOCAL));
+        List<Integer> actual = Collections.synchronizedList(new ArrayList<Integer>());
+        List<Integer> expected = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            executor.execute(new RecordCommand(actual, i, latch));
+            expected.add(i);
+        }
+        latch.await();
+        assertThat(actual, is(expected));
+        channelThreadExecutorGroup.unregister(channelId);
+    }
+    
+    @Test
+    public void assertHoldThreadDuringTransaction() throws InterruptedException {
+        ChannelThreadExecutorGroup channelThreadExecutorGroup = new ChannelThreadExecutorGroup(1);
+        ChannelId transactionChannelId = mock(ChannelId.class);
+        ChannelId otherChannelId = mock(ChannelId.class);
+        final BackendConnection backendConnection = new BackendConnection(TransactionType.XA);
+        Executor transactionExecutor = channelThreadExecutorGroup.get(transactionChannelId, backendConnection);
+        Executor otherExecutor = channelThreadExecutorGroup.get(otherChannelId, new BackendConnection(TransactionType.XA));
+        final List<Integer> actual = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch latch = new CountDownLatch(3);
+        transactionExecutor.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+                actual.add(1);
+                latch.countDown();
+            }
+        });
+        otherExecutor.execute(new RecordCommand(actual, 3, latch));
+        transactionExecutor.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                backendConnection.getStateHandler().setStatus(ConnectionStatus.TERMINATED);
+                actual.add(2);
+                latch.countDown();
+            }
+        });
+        latch.await();
+        assertThat(actual, is(Arrays.asList(1, 2, 3)));
+        channelThreadExecutorGroup.unregister(transactionChannelId);
+        channelThreadExecutorGroup.unregister(otherChannelId);
+    }
+    
+    @Test
+    public void assertReleaseThreadAfterUnregister() throws InterruptedException {
+        ChannelThreadExecutorGroup channelThreadExecutorGroup = new ChannelThreadExecutorGroup(1);
+        ChannelId transactionChannelId = mock(ChannelId.class);
+        ChannelId otherChannelId = mock(ChannelId.class);
+        final BackendConnection backendConnection = new BackendConnection(TransactionType.XA);
+        final CountDownLatch transactionLatch = new CountDownLatch(1);
+        channelThreadExecutorGroup.get(transactionChannelId, backendConnection).execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+                transactionLatch.countDown();
+            }
+        });
+        transactionLatch.await();
+        CountDownLatch otherLatch = new CountDownLatch(1);
+        channelThreadExecutorGroup.get(otherChannelId, new BackendConnection(TransactionType.XA)).execute(new RecordCommand(new ArrayList<Integer>(), 1, otherLatch));
+        channelThreadExecutorGroup.unregister(transactionChannelId);
+        otherLatch.await();
+        channelThreadExecutorGroup.unregister(otherChannelId);
+    }
+    
+    @Test
+    public void assertResizeReleasesWaitingChannel() throws InterruptedException {
+        ChannelThreadExecutorGroup channelThreadExecutorGroup = new ChannelThreadExecutorGroup(1);
+        ChannelId transactionChannelId = mock(ChannelId.class);
+        ChannelId otherChannelId = mock(ChannelId.class);
+        final BackendConnection backendConnection = new BackendConnection(TransactionType.XA);
+        final CountDownLatch transactionLatch = new CountDownLatch(1);
+        channelThreadExecutorGroup.get(transactionChannelId, backendConnection).execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+                transactionLatch.countDown();
+            }
+        });
+        transactionLatch.await();
+        CountDownLatch otherLatch = new CountDownLatch(1);
+        channelThreadExecutorGroup.get(otherChannelId, new BackendConnection(TransactionType.XA)).execute(new RecordCommand(new ArrayList<Integer>(), 1, otherLatch));
+        channelThreadExecutorGroup.resize(2);
+        otherLatch.await();
+        channelThreadExecutorGroup.resize(1);
+        channelThreadExecutorGroup.unregister(transactionChannelId);
+        channelThreadExecutorGroup.unregister(otherChannelId);
+    }
+    
+    private static final class RecordCommand implements Runnable {
+        
+        private final List<Integer> records;
+        
+        private final int record;
+        
+        private final CountDownLatch latch;
+        
+        RecordCommand(final List<Integer> records, final int record, final CountDownLatch latch) {
+            this.records = records;
+            this.record = record;
+            this.latch = latch;
+        }
+        
+        @Override
+        public void run() {
+            records.add(record);
+            latch.countDown();
+        }
     }
 }
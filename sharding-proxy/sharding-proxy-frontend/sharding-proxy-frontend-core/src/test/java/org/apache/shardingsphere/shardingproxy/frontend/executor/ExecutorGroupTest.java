@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
 import io.netty.channel.ChannelId;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -32,27 +34,24 @@ public final class ExecutorGroupTest {
     @Test
     public void assertGetExecutorServiceWithLocal() {
         ChannelId channelId = mock(ChannelId.class);
-        assertThat(CommandExecutorSelector.getExecutor(false, TransactionType.LOCAL, channelId), instanceOf(ExecutorService.class));
+        assertThat(CommandExecutorSelector.getExecutor(false, new BackendConnection(TransactionType.LOCAL), channelId), is((Executor) UserExecutorGroup.getInstance().getExecutorService()));
     }
     
     @Test
     public void assertGetExecutorServiceWithOccupyThreadForPerConnection() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(true, TransactionType.LOCAL, channelId), instanceOf(ExecutorService.class));
+        assertThat(CommandExecutorSelector.getExecutor(true, new BackendConnection(TransactionType.LOCAL), channelId), instanceOf(ChannelExecutor.class));
     }
     
     @Test
     public void assertGetExecutorServiceWithXA() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(false, TransactionType.XA, channelId), instanceOf(ExecutorService.class));
+        assertThat(CommandExecutorSelector.getExecutor(false, new BackendConnection(TransactionType.XA), channelId), instanceOf(ChannelExecutor.class));
     }
     
     @Test
     public void assertGetExecutorServiceWithBASE() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(false, TransactionType.BASE, channelId), instanceOf(ExecutorService.class));
+        assertThat(CommandExecutorSelector.getExecutor(false, new BackendConnection(TransactionType.BASE), channelId), instanceOf(ChannelExecutor.class));
     }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
 
+import com.google.common.base.Supplier;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
@@ -76,9 +78,9 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         int currentSequenceId = 0;
         while (queryCommandExecutor.next()) {
             count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
+            if (isWaitingForWritable(context.channel())) {
                 context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
+                waitUntilWritable(context.channel(), backendConnection);
             }
             DatabasePacket dataValue = queryCommandExecutor.getQueryData();
             context.write(dataValue);
@@ -90,4 +92,18 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         }
         context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
     }
+    
+    private boolean isWaitingForWritable(final Channel channel) {
+        return !channel.isWritable() && channel.isActive();
+    }
+    
+    private void waitUntilWritable(final Channel channel, final BackendConnection backendConnection) {
+        backendConnection.getResourceSynchronizer().doAwaitWhile(new Supplier<Boolean>() {
+            
+            @Override
+            public Boolean get() {
+                return isWaitingForWritable(channel);
+            }
+        });
+    }
 }
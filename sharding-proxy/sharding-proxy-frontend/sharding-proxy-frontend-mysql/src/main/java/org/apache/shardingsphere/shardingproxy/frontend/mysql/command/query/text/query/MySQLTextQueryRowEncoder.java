@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.shardingproxy.frontend.encoder.TextQueryRowEncoder;
+
+import java.math.BigDecimal;
+
+/**
+ * Query row encoder for MySQL text protocol.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+ *
+ * @author agent
+ */
+public final class MySQLTextQueryRowEncoder extends TextQueryRowEncoder {
+    
+    private static final int NULL = 0xfb;
+    
+    @Override
+    protected String toText(final Object value) {
+        return value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+    }
+    
+    @Override
+    protected void writeColumnCount(final int columnCount, final ByteBuf out) {
+    }
+    
+    @Override
+    protected void writeNull(final ByteBuf out) {
+        out.writeByte(NULL);
+    }
+    
+    @Override
+    protected void writeLength(final int length, final ByteBuf out) {
+        if (length < 0xfb) {
+            out.writeByte(length);
+            return;
+        }
+        if (length < 1 << 16) {
+            out.writeByte(0xfc);
+            out.writeShortLE(length);
+            return;
+        }
+        if (length < 1 << 24) {
+            out.writeByte(0xfd);
+            out.writeMediumLE(length);
+            return;
+        }
+        out.writeByte(0xfe);
+        out.writeLongLE(length);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.mysql;
 
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query.MySQLTextQueryRowEncoderTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -24,7 +25,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         MySQLFrontendEngineTest.class, 
-        MySQLErrPacketFactoryTest.class 
+        MySQLErrPacketFactoryTest.class, 
+        MySQLTextQueryRowEncoderTest.class 
 })
 public final class AllMySQLFrontendTests {
 }
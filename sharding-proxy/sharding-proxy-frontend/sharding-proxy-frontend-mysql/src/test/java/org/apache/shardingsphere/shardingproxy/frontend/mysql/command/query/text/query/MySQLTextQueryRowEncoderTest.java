@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
+
+import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryRow;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLEncodedTextResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLTextQueryRowEncoderTest {
+    
+    @Test
+    public void assertEncodeWithIntegralValues() throws SQLException {
+        assertEncode(Arrays.asList(Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT, Types.BIGINT), Arrays.<Object>asList(0L, -123, (short) 4567, (byte) 8, Long.MIN_VALUE));
+    }
+    
+    @Test
+    public void assertEncodeWithNonIntegralValues() throws SQLException {
+        assertEncode(Arrays.asList(Types.VARCHAR, Types.DECIMAL, Types.NULL, Types.VARBINARY, Types.BIT, Types.VARCHAR),
+                Arrays.<Object>asList("\u4e2d\u6587\ud83d\ude00", new BigDecimal("1E+2"), null, new byte[] {1, 2}, true, Strings.repeat("\u00e9", 200)));
+    }
+    
+    @Test
+    public void assertEncodeWithIntegralColumnButNonIntegralValue() throws SQLException {
+        assertEncode(Arrays.asList(Types.INTEGER, Types.BIGINT), Arrays.<Object>asList(1L << 40, "text"));
+    }
+    
+    @Test
+    public void assertEncodeWithUnpairedSurrogate() throws SQLException {
+        assertEncode(Arrays.asList(Types.VARCHAR, Types.VARCHAR), Arrays.<Object>asList("a\ud83d", "\ude00b"));
+    }
+    
+    private void assertEncode(final List<Integer> columnTypes, final List<Object> values) throws SQLException {
+        QueryRow queryRow = mock(QueryRow.class);
+        when(queryRow.getColumnCount()).thenReturn(columnTypes.size());
+        for (int i = 0; i < columnTypes.size(); i++) {
+            when(queryRow.getColumnType(i + 1)).thenReturn(columnTypes.get(i));
+            when(queryRow.getValue(i + 1)).thenReturn(values.get(i));
+        }
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLEncodedTextResultSetRowPacket(1, new MySQLTextQueryRowEncoder().encode(queryRow)).write(new MySQLPacketPayload(actual));
+        ByteBuf expected = Unpooled.buffer();
+        new MySQLTextResultSetRowPacket(1, values).write(new MySQLPacketPayload(expected));
+        assertThat(actual, is(expected));
+    }
+}
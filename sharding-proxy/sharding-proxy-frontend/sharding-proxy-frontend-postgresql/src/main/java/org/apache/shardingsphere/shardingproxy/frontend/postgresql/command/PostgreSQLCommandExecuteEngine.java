@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command;
 
+import com.google.common.base.Supplier;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
@@ -78,9 +80,9 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         int proxyFrontendFlushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
             count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
+            if (isWaitingForWritable(context.channel())) {
                 context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
+                waitUntilWritable(context.channel(), backendConnection);
             }
             DatabasePacket resultValue = queryCommandExecutor.getQueryData();
             context.write(resultValue);
@@ -92,4 +94,18 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         context.write(new PostgreSQLCommandCompletePacket());
         context.write(new PostgreSQLReadyForQueryPacket());
     }
+    
+    private boolean isWaitingForWritable(final Channel channel) {
+        return !channel.isWritable() && channel.isActive();
+    }
+    
+    private void waitUntilWritable(final Channel channel, final BackendConnection backendConnection) {
+        backendConnection.getResourceSynchronizer().doAwaitWhile(new Supplier<Boolean>() {
+            
+            @Override
+            public Boolean get() {
+                return isWaitingForWritable(channel);
+            }
+        });
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.api;
+
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryRow;
+import org.apache.shardingsphere.shardingproxy.transport.packet.PayloadWriter;
+
+import java.sql.SQLException;
+
+/**
+ * Query row encoder, which writes values of query row straight into payload of packet.
+ *
+ * @author agent
+ */
+public interface QueryRowEncoder {
+    
+    /**
+     * Encode current query row.
+     * 
+     * <p>
+     * Values of current row are read at once, and encoded into payload when packet of the row written.
+     * </p>
+     *
+     * @param queryRow query row
+     * @return payload writer of current row
+     * @throws SQLException SQL exception
+     */
+    PayloadWriter encode(QueryRow queryRow) throws SQLException;
+}
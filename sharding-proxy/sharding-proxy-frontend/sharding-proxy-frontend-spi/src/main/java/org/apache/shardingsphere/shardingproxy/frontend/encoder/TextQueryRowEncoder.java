@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryRow;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryRowEncoder;
+import org.apache.shardingsphere.shardingproxy.transport.packet.PayloadWriter;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Query row encoder for text protocol.
+ * 
+ * <p>
+ * Values are written as text straight into payload of packet, integral values are written as ASCII digits without building string.
+ * Column types are resolved at first row and reused for remaining rows of same query.
+ * </p>
+ *
+ * @author agent
+ */
+public abstract class TextQueryRowEncoder implements QueryRowEncoder {
+    
+    private boolean[] integralColumns;
+    
+    @Override
+    public final PayloadWriter encode(final QueryRow queryRow) throws SQLException {
+        if (null == integralColumns) {
+            integralColumns = getIntegralColumns(queryRow);
+        }
+        Object[] values = new Object[integralColumns.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = queryRow.getValue(i + 1);
+        }
+        return new RowPayloadWriter(values);
+    }
+    
+    private void write(final Object[] values, final ByteBuf out) {
+        writeColumnCount(values.length, out);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (null == value) {
+                writeNull(out);
+            } else if (value instanceof byte[]) {
+                writeLength(((byte[]) value).length, out);
+                out.writeBytes((byte[]) value);
+            } else if (integralColumns[i] && isIntegral(value)) {
+                writeIntegral(((Number) value).longValue(), out);
+            } else {
+                writeText(toText(value), out);
+            }
+        }
+    }
+    
+    private boolean[] getIntegralColumns(final QueryRow queryRow) {
+        boolean[] result = new boolean[queryRow.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            switch (queryRow.getColumnType(i + 1)) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                    result[i] = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private void writeIntegral(final long value, final ByteBuf out) {
+        if (Long.MIN_VALUE == value) {
+            writeText(String.valueOf(value), out);
+            return;
+        }
+        long remaining = Math.abs(value);
+        int length = value < 0 ? getDigitCount(remaining) + 1 : getDigitCount(remaining);
+        writeLength(length, out);
+        int index = out.writerIndex() + length;
+        out.writeZero(length);
+        do {
+            out.setByte(--index, (int) ('0' + remaining % 10));
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) {
+            out.setByte(--index, '-');
+        }
+    }
+    
+    private int getDigitCount(final long value) {
+        int result = 1;
+        long remaining = value;
+        while (remaining >= 10) {
+            remaining /= 10;
+            result++;
+        }
+        return result;
+    }
+    
+    private void writeText(final String text, final ByteBuf out) {
+        writeLength(getUTF8Length(text), out);
+        ByteBufUtil.writeUtf8(out, text);
+    }
+    
+    /**
+     * Same length as {@code ByteBufUtil.writeUtf8}, which writes unpaired surrogate as '?'.
+     */
+    private int getUTF8Length(final String text) {
+        int result = 0;
+        int length = text.length();
+        int index = 0;
+        while (index < length) {
+            char each = text.charAt(index++);
+            if (each < 0x80) {
+                result++;
+            } else if (each < 0x800) {
+                result += 2;
+            } else if (!Character.isSurrogate(each)) {
+                result += 3;
+            } else if (Character.isHighSurrogate(each) && index < length && Character.isLowSurrogate(text.charAt(index))) {
+                result += 4;
+                index++;
+            } else {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Convert value to text.
+     *
+     * @param value value which is not null, byte array or integral number
+     * @return text
+     */
+    protected String toText(final Object value) {
+        return value.toString();
+    }
+    
+    /**
+     * Write column count before values of row.
+     *
+     * @param columnCount column count
+     * @param out byte buffer to write
+     */
+    protected abstract void writeColumnCount(int columnCount, ByteBuf out);
+    
+    /**
+     * Write null value.
+     *
+     * @param out byte buffer to write
+     */
+    protected abstract void writeNull(ByteBuf out);
+    
+    /**
+     * Write length of value.
+     *
+     * @param length length of value in bytes
+     * @param out byte buffer to write
+     */
+    protected abstract void writeLength(int length, ByteBuf out);
+    
+    @RequiredArgsConstructor
+    private final class RowPayloadWriter implements PayloadWriter {
+        
+        private final Object[] values;
+        
+        @Override
+        public void write(final ByteBuf out) {
+            TextQueryRowEncoder.this.write(values, out);
+        }
+    }
+}
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
@@ -28,10 +30,22 @@ import java.util.List;
 /**
  * Database packet codec for MySQL.
  * 
+ * <p>
+ * Payloads of 16M or more are split into or reassembled from several packets on the wire.
+ * Sequence ids of packets are assigned as if no payload was split,
+ * so the count of extra packets in current exchange is kept as sequence id offset of the channel and added when encoding.
+ * </p>
+ * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final AttributeKey<Integer> SEQUENCE_ID_OFFSET = AttributeKey.valueOf("MYSQL_SEQUENCE_ID_OFFSET");
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
@@ -39,23 +53,96 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     @Override
     public void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
-        int payloadLength = in.markReaderIndex().readMediumLE();
+        int payloadLength = in.markReaderIndex().readUnsignedMediumLE();
         int realPacketLength = payloadLength + MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
         if (readableBytes < realPacketLength) {
             in.resetReaderIndex();
             return;
         }
-        out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        if (MAX_PAYLOAD_LENGTH != payloadLength) {
+            setSequenceIdOffset(context, 0);
+            out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+            return;
+        }
+        in.resetReaderIndex();
+        if (isMultiPacketReadable(in)) {
+            out.add(readMultiPacket(context, in));
+        }
+    }
+    
+    private boolean isMultiPacketReadable(final ByteBuf in) {
+        int index = in.readerIndex();
+        int payloadLength;
+        do {
+            if (in.writerIndex() - index < HEADER_LENGTH) {
+                return false;
+            }
+            payloadLength = in.getUnsignedMediumLE(index);
+            index += HEADER_LENGTH + payloadLength;
+            if (index > in.writerIndex()) {
+                return false;
+            }
+        } while (MAX_PAYLOAD_LENGTH == payloadLength);
+        return true;
+    }
+    
+    private ByteBuf readMultiPacket(final ChannelHandlerContext context, final ByteBuf in) {
+        CompositeByteBuf result = context.alloc().compositeBuffer();
+        int payloadLength = in.readUnsignedMediumLE();
+        result.addComponent(true, in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        int continuationPacketCount = 0;
+        while (MAX_PAYLOAD_LENGTH == payloadLength) {
+            payloadLength = in.readUnsignedMediumLE();
+            in.skipBytes(MySQLPacket.SEQUENCE_LENGTH);
+            result.addComponent(true, in.readRetainedSlice(payloadLength));
+            continuationPacketCount++;
+        }
+        setSequenceIdOffset(context, continuationPacketCount);
+        return result;
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        int sequenceIdOffset = getSequenceIdOffset(context);
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, message.getSequenceId() + sequenceIdOffset);
+            return;
         }
+        ByteBuf payload = context.alloc().buffer(payloadLength);
+        try {
+            payload.writeBytes(out, headerIndex + HEADER_LENGTH, payloadLength);
+            out.writerIndex(headerIndex);
+            int continuationPacketCount = writeMultiPacket(payload, message.getSequenceId() + sequenceIdOffset, out);
+            setSequenceIdOffset(context, sequenceIdOffset + continuationPacketCount);
+        } finally {
+            payload.release();
+        }
+    }
+    
+    private int writeMultiPacket(final ByteBuf payload, final int sequenceId, final ByteBuf out) {
+        int currentSequenceId = sequenceId;
+        int payloadLength;
+        do {
+            payloadLength = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+            out.writeMediumLE(payloadLength);
+            out.writeByte(currentSequenceId++);
+            out.writeBytes(payload, payloadLength);
+        } while (MAX_PAYLOAD_LENGTH == payloadLength);
+        return currentSequenceId - sequenceId - 1;
+    }
+    
+    private int getSequenceIdOffset(final ChannelHandlerContext context) {
+        Integer result = context.channel().attr(SEQUENCE_ID_OFFSET).get();
+        return null == result ? 0 : result;
+    }
+    
+    private void setSequenceIdOffset(final ChannelHandlerContext context, final int sequenceIdOffset) {
+        context.channel().attr(SEQUENCE_ID_OFFSET).set(sequenceIdOffset);
     }
     
     @Override
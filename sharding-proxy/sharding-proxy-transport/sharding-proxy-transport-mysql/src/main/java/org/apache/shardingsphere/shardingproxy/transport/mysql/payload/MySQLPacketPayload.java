@@ -23,8 +23,14 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * MySQL payload operation for MySQL packet data types.
+ * 
+ * <p>
+ * Strings are always read and written in UTF-8, which does not depend on default charset of platform.
+ * </p>
  *
  * @see <a href="https://dev.mysql.com/doc/internals/en/describing-packets.html">describing packets</a>
  * 
@@ -234,7 +240,7 @@ public final class MySQLPacketPayload implements PacketPayload {
         int length = (int) readIntLenenc();
         byte[] result = new byte[length];
         byteBuf.readBytes(result);
-        return new String(result);
+        return new String(result, StandardCharsets.UTF_8);
     }
     
     /**
@@ -263,8 +269,9 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
     }
     
     /**
@@ -293,7 +300,7 @@ public final class MySQLPacketPayload implements PacketPayload {
     public String readStringFix(final int length) {
         byte[] result = new byte[length];
         byteBuf.readBytes(result);
-        return new String(result);
+        return new String(result, StandardCharsets.UTF_8);
     }
     
     /**
@@ -319,7 +326,7 @@ public final class MySQLPacketPayload implements PacketPayload {
      * @param value fixed length string
      */
     public void writeStringFix(final String value) {
-        byteBuf.writeBytes(value.getBytes());
+        byteBuf.writeBytes(value.getBytes(StandardCharsets.UTF_8));
     }
     
     /**
@@ -367,7 +374,7 @@ public final class MySQLPacketPayload implements PacketPayload {
         byte[] result = new byte[byteBuf.bytesBefore((byte) 0)];
         byteBuf.readBytes(result);
         byteBuf.skipBytes(1);
-        return new String(result);
+        return new String(result, StandardCharsets.UTF_8);
     }
     
     /**
@@ -392,7 +399,7 @@ public final class MySQLPacketPayload implements PacketPayload {
      * @param value null terminated string
      */
     public void writeStringNul(final String value) {
-        byteBuf.writeBytes(value.getBytes());
+        byteBuf.writeBytes(value.getBytes(StandardCharsets.UTF_8));
         byteBuf.writeByte(0);
     }
     
@@ -406,7 +413,7 @@ public final class MySQLPacketPayload implements PacketPayload {
     public String readStringEOF() {
         byte[] result = new byte[byteBuf.readableBytes()];
         byteBuf.readBytes(result);
-        return new String(result);
+        return new String(result, StandardCharsets.UTF_8);
     }
     
     /**
@@ -417,7 +424,7 @@ public final class MySQLPacketPayload implements PacketPayload {
      * @param value rest of packet string
      */
     public void writeStringEOF(final String value) {
-        byteBuf.writeBytes(value.getBytes());
+        byteBuf.writeBytes(value.getBytes(StandardCharsets.UTF_8));
     }
     
     /**
@@ -18,13 +18,16 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -35,8 +38,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -60,8 +61,9 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertDecode() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 54);
@@ -71,30 +73,138 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecodeWithStickyPacket() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 40);
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    public void assertDecodeWithMultiPacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(0xFFFFFF).writeByte(1).writeBytes(new byte[0xFFFFFF]);
+        in.writeMediumLE(1).writeByte(2).writeByte(9);
+        List<Object> out = new LinkedList<>();
+        new MySQLPacketCodecEngine().decode(context, in, out, in.readableBytes());
+        assertThat(out.size(), is(1));
+        ByteBuf actual = (ByteBuf) out.get(0);
+        assertThat(actual.readableBytes(), is(0xFFFFFF + 2));
+        assertThat(actual.getByte(0), is((byte) 1));
+        assertThat(actual.getByte(0xFFFFFF + 1), is((byte) 9));
+        assertFalse(in.isReadable());
+    }
+    
+    @Test
+    public void assertDecodeWithIncompleteMultiPacket() {
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(0xFFFFFF).writeByte(1).writeBytes(new byte[0xFFFFFF]);
+        in.writeMediumLE(1).writeByte(2);
+        List<Object> out = new LinkedList<>();
+        new MySQLPacketCodecEngine().decode(context, in, out, in.readableBytes());
+        assertTrue(out.isEmpty());
+        assertThat(in.readerIndex(), is(0));
+    }
+    
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixturePacket(1, 50), out);
+        assertThat(out.readableBytes(), is(54));
+        assertThat(out.readUnsignedMediumLE(), is(50));
+        assertThat(out.readByte(), is((byte) 1));
+    }
+    
+    @Test
+    public void assertEncodeWithMultiPacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixturePacket(1, 0xFFFFFF + 1), out);
+        assertThat(out.readableBytes(), is(0xFFFFFF + 9));
+        assertThat(out.readUnsignedMediumLE(), is(0xFFFFFF));
+        assertThat(out.readByte(), is((byte) 1));
+        out.skipBytes(0xFFFFFF);
+        assertThat(out.readUnsignedMediumLE(), is(1));
+        assertThat(out.readByte(), is((byte) 2));
+    }
+    
+    @Test
+    public void assertEncodeWithMultiPacketEndsWithEmptyPacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixturePacket(1, 0xFFFFFF), out);
+        assertThat(out.readableBytes(), is(0xFFFFFF + 8));
+        out.skipBytes(0xFFFFFF + 4);
+        assertThat(out.readUnsignedMediumLE(), is(0));
+        assertThat(out.readByte(), is((byte) 2));
+    }
+    
+    @Test
+    public void assertEncodeAfterDecodeMultiPacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(0xFFFFFF).writeByte(0).writeBytes(new byte[0xFFFFFF]);
+        in.writeMediumLE(1).writeByte(1).writeByte(9);
+        List<Object> out = new LinkedList<>();
+        codecEngine.decode(context, in, out, in.readableBytes());
+        assertThat(((ByteBuf) out.get(0)).getByte(0), is((byte) 0));
+        ByteBuf actual = Unpooled.buffer();
+        codecEngine.encode(context, new FixturePacket(1, 50), actual);
+        codecEngine.encode(context, new FixturePacket(2, 50), actual);
+        assertThat(actual.getByte(3), is((byte) 2));
+        assertThat(actual.getByte(54 + 3), is((byte) 3));
+    }
+    
+    @Test
+    public void assertEncodeAfterEncodeMultiPacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf actual = Unpooled.buffer();
+        codecEngine.encode(context, new FixturePacket(1, 0xFFFFFF + 1), actual);
+        codecEngine.encode(context, new FixturePacket(2, 50), actual);
+        assertThat(actual.getByte(3), is((byte) 1));
+        assertThat(actual.getByte(0xFFFFFF + 4 + 3), is((byte) 2));
+        assertThat(actual.getByte(0xFFFFFF + 9 + 3), is((byte) 3));
+    }
+    
+    @Test
+    public void assertEncodeAfterDecodeSinglePacketResetsSequenceId() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf actual = Unpooled.buffer();
+        codecEngine.encode(context, new FixturePacket(1, 0xFFFFFF + 1), actual);
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(1).writeByte(0).writeByte(9);
+        codecEngine.decode(context, in, new LinkedList<Object>(), in.readableBytes());
+        actual.clear();
+        codecEngine.encode(context, new FixturePacket(1, 50), actual);
+        assertThat(actual.getByte(3), is((byte) 1));
     }
     
     @Test
     public void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf).getByteBuf(), is(byteBuf));
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class FixturePacket implements MySQLPacket {
+        
+        private final int sequenceId;
+        
+        private final int payloadLength;
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            payload.getByteBuf().writeZero(payloadLength);
+        }
+    }
 }
@@ -23,6 +23,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.times;
@@ -203,6 +205,13 @@ public final class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    public void assertWriteStringLenencWithNonASCII() {
+        new MySQLPacketPayload(byteBuf).writeStringLenenc("\u6570\u636e");
+        verify(byteBuf).writeByte(6);
+        verify(byteBuf).writeBytes("\u6570\u636e".getBytes(StandardCharsets.UTF_8));
+    }
+    
     @Test
     public void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf).readStringFix(0), is(""));
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.Postg
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -49,9 +50,9 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLPacket {
                     payload.writeInt4(((byte[]) each).length);
                     payload.writeBytes((byte[]) each);
                 } else {
-                    String columnData = each.toString();
-                    payload.writeInt4(columnData.length());
-                    payload.writeStringEOF(columnData);
+                    byte[] columnData = each.toString().getBytes(StandardCharsets.UTF_8);
+                    payload.writeInt4(columnData.length);
+                    payload.writeBytes(columnData);
                 }
             }
         }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.text;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.transport.packet.PayloadWriter;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.PostgreSQLPacketPayload;
+
+/**
+ * Data row packet for PostgreSQL, whose column count and values are encoded straight into payload by payload writer.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLEncodedDataRowPacket implements PostgreSQLPacket {
+    
+    private final PayloadWriter payloadWriter;
+    
+    @Override
+    public char getMessageType() {
+        return PostgreSQLCommandPacketType.DATA_ROW.getValue();
+    }
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload) {
+        payloadWriter.write(payload.getByteBuf());
+    }
+}
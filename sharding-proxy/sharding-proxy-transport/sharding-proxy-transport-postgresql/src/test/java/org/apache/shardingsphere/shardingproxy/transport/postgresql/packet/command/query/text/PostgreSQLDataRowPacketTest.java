@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLDataRowPacketTest {
+    
+    @Test
+    public void assertGetMessageType() {
+        assertThat(new PostgreSQLDataRowPacket(Arrays.<Object>asList("value")).getMessageType(), is(PostgreSQLCommandPacketType.DATA_ROW.getValue()));
+    }
+    
+    @Test
+    public void assertWrite() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new PostgreSQLDataRowPacket(Arrays.<Object>asList("\u6570\u636e", 1, null, new byte[] {1, 2})).write(new PostgreSQLPacketPayload(byteBuf));
+        assertThat(byteBuf.readShort(), is((short) 4));
+        assertThat(byteBuf.readInt(), is(6));
+        assertThat(readBytes(byteBuf, 6), is("\u6570\u636e".getBytes(StandardCharsets.UTF_8)));
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(readBytes(byteBuf, 1), is("1".getBytes(StandardCharsets.UTF_8)));
+        assertThat(byteBuf.readInt(), is(-1));
+        assertThat(byteBuf.readInt(), is(2));
+        assertThat(readBytes(byteBuf, 2), is(new byte[] {1, 2}));
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+    
+    private byte[] readBytes(final ByteBuf byteBuf, final int length) {
+        byte[] result = new byte[length];
+        byteBuf.readBytes(result);
+        return result;
+    }
+}
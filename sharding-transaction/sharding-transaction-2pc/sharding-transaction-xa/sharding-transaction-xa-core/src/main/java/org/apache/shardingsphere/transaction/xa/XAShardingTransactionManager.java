@@ -44,6 +44,8 @@ import java.util.Map;
  */
 public final class XAShardingTransactionManager implements ShardingTransactionManager {
     
+    private static int initializedCount;
+    
     private final Map<String, SingleXADataSource> singleXADataSourceMap = new HashMap<>();
     
     private final XATransactionManager xaTransactionManager = XATransactionManagerLoader.getInstance().getTransactionManager();
@@ -55,6 +57,8 @@ public final class XAShardingTransactionManager implements ShardingTransactionMa
         }
     };
     
+    private boolean initialized;
+    
     @Override
     public void init(final DatabaseType databaseType, final Collection<ResourceDataSource> resourceDataSources) {
         for (ResourceDataSource each : resourceDataSources) {
@@ -66,7 +70,13 @@ public final class XAShardingTransactionManager implements ShardingTransactionMa
             singleXADataSourceMap.put(each.getOriginalName(), singleXADataSource);
             xaTransactionManager.registerRecoveryResource(each.getUniqueResourceName(), singleXADataSource.getXaDataSource());
         }
-        xaTransactionManager.init();
+        synchronized (XAShardingTransactionManager.class) {
+            xaTransactionManager.init();
+            if (!initialized) {
+                initialized = true;
+                initializedCount++;
+            }
+        }
     }
     
     @Override
@@ -117,13 +127,31 @@ public final class XAShardingTransactionManager implements ShardingTransactionMa
         }
     }
     
+    /**
+     * Close XA sharding transaction manager.
+     * 
+     * <p>
+     * Only recovery resources registered by this manager are removed.
+     * The shared XA transaction manager is shut down when no other initialized manager is using it, such as the one of a renewed data source.
+     * </p>
+     * 
+     * @throws Exception exception
+     */
     @Override
     public void close() throws Exception {
         for (SingleXADataSource each : singleXADataSourceMap.values()) {
             xaTransactionManager.removeRecoveryResource(each.getResourceName(), each.getXaDataSource());
         }
         singleXADataSourceMap.clear();
-        xaTransactionManager.close();
+        synchronized (XAShardingTransactionManager.class) {
+            if (initialized) {
+                initialized = false;
+                initializedCount--;
+            }
+            if (0 == initializedCount) {
+                xaTransactionManager.close();
+            }
+        }
         enlistedXAResource = null;
     }
 }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.transaction.xa.jta.connection.SingleXAConnectio
 import org.apache.shardingsphere.transaction.xa.jta.datasource.SingleXADataSource;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManager;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -57,6 +58,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -78,6 +80,11 @@ public final class XAShardingTransactionManagerTest {
         ReflectiveUtil.setProperty(xaShardingTransactionManager, "xaTransactionManager", xaTransactionManager);
     }
     
+    @After
+    public void tearDown() throws Exception {
+        xaShardingTransactionManager.close();
+    }
+    
     @Test
     public void assertGetTransactionType() {
         assertThat(xaShardingTransactionManager.getTransactionType(), is(TransactionType.XA));
@@ -145,6 +152,21 @@ public final class XAShardingTransactionManagerTest {
         assertThat(cachedSingleXADataSourceMap.size(), is(0));
     }
     
+    @Test
+    public void assertCloseWithRenewedManager() throws Exception {
+        xaShardingTransactionManager.init(DatabaseType.MySQL, createResourceDataSources(DruidXADataSource.class, DatabaseType.MySQL));
+        XAShardingTransactionManager renewedXAShardingTransactionManager = new XAShardingTransactionManager();
+        ReflectiveUtil.setProperty(renewedXAShardingTransactionManager, "xaTransactionManager", xaTransactionManager);
+        renewedXAShardingTransactionManager.init(DatabaseType.MySQL, createResourceDataSources(DruidXADataSource.class, DatabaseType.MySQL));
+        xaShardingTransactionManager.close();
+        verify(xaTransactionManager, times(2)).removeRecoveryResource(anyString(), any(XADataSource.class));
+        verify(xaTransactionManager, never()).close();
+        when(transactionManager.getStatus()).thenReturn(Status.STATUS_ACTIVE);
+        assertTrue(renewedXAShardingTransactionManager.isInTransaction());
+        renewedXAShardingTransactionManager.close();
+        verify(xaTransactionManager).close();
+    }
+    
     @SneakyThrows
     @SuppressWarnings("unchecked")
     private Map<String, SingleXADataSource> getCachedSingleXADataSourceMap() {
@@ -39,7 +39,7 @@ import java.util.ServiceLoader;
  * @author zhaojun
  */
 @Slf4j
-public final class ShardingTransactionManagerEngine {
+public final class ShardingTransactionManagerEngine implements AutoCloseable {
     
     private final Map<TransactionType, ShardingTransactionManager> transactionManagerMap = new HashMap<>();
     
@@ -97,6 +97,7 @@ public final class ShardingTransactionManagerEngine {
      * 
      * @throws Exception exception
      */
+    @Override
     public void close() throws Exception {
         for (Entry<TransactionType, ShardingTransactionManager> entry : transactionManagerMap.entrySet()) {
             entry.getValue().close();